@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * The state shared by the benchmarks: the {@link ClassConverter} created with the {@link Strategy}
+ * and the {@link ClassMapping} of the {@link EntityShape} with a sample entity.
+ */
+@State(Scope.Benchmark)
+public class ClassMappingState {
+
+    @Param
+    public Strategy strategy;
+
+    @Param
+    public EntityShape shape;
+
+    ClassConverter converter;
+
+    ClassMapping mapping;
+
+    FieldMapping[] fields;
+
+    Object sample;
+
+    Object[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        strategy.apply();
+        converter = new ClassConverter(new DefaultReflections());
+        mapping = converter.create(shape.getEntityClass());
+        List<FieldMapping> fieldMappings = mapping.getFields();
+        fields = fieldMappings.toArray(new FieldMapping[fieldMappings.size()]);
+        sample = shape.newSample();
+        values = new Object[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            values[index] = fields[index].read(sample);
+        }
+    }
+}
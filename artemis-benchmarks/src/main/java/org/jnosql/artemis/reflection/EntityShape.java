@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.benchmark.model.AppointmentBook;
+import org.jnosql.artemis.benchmark.model.Contact;
+import org.jnosql.artemis.benchmark.model.Director;
+import org.jnosql.artemis.benchmark.model.Job;
+import org.jnosql.artemis.benchmark.model.Movie;
+import org.jnosql.artemis.benchmark.model.Person;
+import org.jnosql.artemis.benchmark.model.Worker;
+
+import java.util.function.Supplier;
+
+/**
+ * The representative entity shapes measured by the benchmarks
+ */
+public enum EntityShape {
+
+    FLAT(Person.class, EntityShape::person),
+    EMBEDDED(Worker.class, EntityShape::worker),
+    EMBEDDABLE_COLLECTION(AppointmentBook.class, EntityShape::appointmentBook),
+    SUBENTITY(Director.class, EntityShape::director);
+
+    private final Class<?> entityClass;
+
+    private final Supplier<Object> sample;
+
+    EntityShape(Class<?> entityClass, Supplier<Object> sample) {
+        this.entityClass = entityClass;
+        this.sample = sample;
+    }
+
+    Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return a new entity of this shape with all the fields filled
+     */
+    Object newSample() {
+        return sample.get();
+    }
+
+    private static Object person() {
+        Person person = new Person();
+        person.setId(1L);
+        person.setName("Ada");
+        person.setAge(36);
+        person.setSalary(1_000D);
+        person.setActive(true);
+        return person;
+    }
+
+    private static Object worker() {
+        Job job = new Job();
+        job.setDescription("Developer");
+        job.setCity("Salvador");
+        Worker worker = new Worker();
+        worker.setId(1L);
+        worker.setName("Ada");
+        worker.setJob(job);
+        return worker;
+    }
+
+    private static Object appointmentBook() {
+        AppointmentBook book = new AppointmentBook();
+        book.setId("book");
+        for (int index = 0; index < 10; index++) {
+            Contact contact = new Contact();
+            contact.setName("contact " + index);
+            contact.setInformation("information " + index);
+            book.getContacts().add(contact);
+        }
+        return book;
+    }
+
+    private static Object director() {
+        Movie movie = new Movie();
+        movie.setTitle("Matrix");
+        movie.setYear(1999L);
+        Director director = new Director();
+        director.setId(1L);
+        director.setName("Lana");
+        director.setMovie(movie);
+        return director;
+    }
+}
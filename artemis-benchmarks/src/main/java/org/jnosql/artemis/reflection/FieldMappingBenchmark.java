@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FieldMapping#read(Object)} and {@link FieldMapping#write(Object, Object)} of all the fields
+ * of an entity to each {@link ClassOperation}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldMappingBenchmark {
+
+    @Benchmark
+    public void read(ClassMappingState state, Blackhole blackhole) {
+        for (FieldMapping field : state.fields) {
+            blackhole.consume(field.read(state.sample));
+        }
+    }
+
+    @Benchmark
+    public Object write(ClassMappingState state) {
+        FieldMapping[] fields = state.fields;
+        for (int index = 0; index < fields.length; index++) {
+            fields[index].write(state.sample, state.values[index]);
+        }
+        return state.sample;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+/**
+ * The {@link ClassOperation} strategies measured by the benchmarks, each one sets the system properties
+ * read by {@link ClassOperationFactory} before the {@link ClassConverter} is created.
+ */
+public enum Strategy {
+
+    REFLECTION,
+    METHOD_HANDLE("artemis.reflection.methodHandle"),
+    COMPILER("artemis.reclection.disableCompiler"),
+    TIERED("artemis.reflection.tiered", "artemis.reclection.disableCompiler");
+
+    private static final String[] PROPERTIES = {"artemis.reflection.methodHandle",
+            "artemis.reclection.disableCompiler", "artemis.reflection.tiered"};
+
+    private final String[] enabled;
+
+    Strategy(String... enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Sets the system properties to this strategy
+     */
+    void apply() {
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+        for (String property : enabled) {
+            System.setProperty(property, Boolean.TRUE.toString());
+        }
+    }
+}
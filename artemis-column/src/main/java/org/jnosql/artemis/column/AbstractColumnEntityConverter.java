@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
 import org.jnosql.artemis.reflection.ClassMapping;
@@ -21,16 +22,19 @@ import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.artemis.reflection.WritePlan;
+import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -41,8 +45,14 @@ import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
  */
 public abstract class AbstractColumnEntityConverter implements ColumnEntityConverter {
 
+    private static final Set<FieldType> ELEMENT_TYPES = EnumSet.of(EMBEDDED, SUBENTITY);
+
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final boolean customWrite = isOverridden("to", FieldMapping.class, Object.class);
+
+    private final boolean customRead = isOverridden("feedObject", Object.class, List.class, Map.class);
+
 
     protected abstract ClassMappings getClassMappings();
 
@@ -53,15 +63,54 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
         ColumnEntity entity = ColumnEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
+        if (customWrite) {
+            mapping.getFields().stream()
+                    .map(f -> to(f, entityInstance))
+                    .filter(FieldValue::isNotEmpty)
+                    .map(f -> f.toColumn(this, getConverters()))
+                    .flatMap(List::stream)
+                    .forEach(entity::add);
+            return entity;
+        }
+        write(mapping.getWritePlan(), entityInstance, entity);
         return entity;
     }
 
+    private void write(WritePlan plan, Object entityInstance, ColumnEntity entity) {
+        for (int index = 0; index < plan.size(); index++) {
+            Object value = plan.read(index, entityInstance);
+            if (value == null) {
+                continue;
+            }
+            String name = plan.getName(index);
+            switch (plan.getKind(index)) {
+                case EMBEDDED:
+                    write(getClassMappings().get(value.getClass()).getWritePlan(), value, entity);
+                    break;
+                case SUBENTITY:
+                    entity.add(Column.of(name, toColumn(value).getColumns()));
+                    break;
+                case EMBEDDABLE_COLLECTION:
+                    entity.add(Column.of(name, toColumns((Iterable<?>) value)));
+                    break;
+                case CONVERTER:
+                    AttributeConverter converter = getConverters().get(plan.getConverter(index));
+                    entity.add(Column.of(name, converter.convertToDatabaseColumn(value)));
+                    break;
+                default:
+                    entity.add(Column.of(name, value));
+            }
+        }
+    }
+
+    private List<List<Column>> toColumns(Iterable<?> elements) {
+        List<List<Column>> columns = new ArrayList<>();
+        for (Object element : elements) {
+            columns.add(toColumn(element).getColumns());
+        }
+        return columns;
+    }
+
     @Override
     public <T> T toEntity(Class<T> entityClass, ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
@@ -85,12 +134,61 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         return convertEntity(entity.getColumns(), mapping, instance);
     }
 
+    @Override
+    public <P> P toProjection(Projection<P> projection, ColumnEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        if (!projection.isFlat()) {
+            return ColumnEntityConverter.super.toProjection(projection, entity);
+        }
+        return projection.read(field -> entity.find(field.getName())
+                .map(c -> toValue(field, c.getValue())).orElse(null));
+    }
+
+    protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
+        ClassMapping mapping = getClassMappings().get(entityClass);
+        T instance = mapping.newInstance();
+        return convertEntity(columns, mapping, instance);
+    }
+
+    private Object toValue(FieldMapping field, Value value) {
+        Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            Object attribute = getConverters().get(converter.get()).convertToEntityAttribute(value.get());
+            return field.getValue(Value.of(attribute));
+        }
+        return field.getValue(value);
+    }
+
+    /**
+     * Converts a field of the entity to the columns it is written to
+     *
+     * @param field          the field
+     * @param entityInstance the entity
+     * @return the field value
+     * @deprecated the fields are written through the {@link WritePlan}, this method is only called when a subclass
+     * overrides it, then every field of the entity is written through it
+     */
+    @Deprecated
     protected ColumnFieldValue to(FieldMapping field, Object entityInstance) {
         Object value = field.read(entityInstance);
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
+    /**
+     * Returns the consumer that sets a field, by its name, from the columns of the database
+     *
+     * @param instance          the entity
+     * @param columns           the columns
+     * @param fieldsGroupByName the fields by name
+     * @param <T>               the entity type
+     * @return the consumer
+     * @deprecated the fields are read through the {@link org.jnosql.artemis.reflection.ReadPlan}, this method is
+     * only called when a subclass overrides it, then every field of the entity is read through it
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Column> columns,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
         return (String k) -> {
             Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
             FieldMapping field = fieldsGroupByName.get(k);
@@ -99,25 +197,29 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         };
     }
 
-    protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
-        ClassMapping mapping = getClassMappings().get(entityClass);
-        T instance = mapping.newInstance();
-        return convertEntity(columns, mapping, instance);
-    }
-
     private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
+        if (customRead) {
+            Consumer<String> feed = feedObject(instance, columns, mapping.getFieldsGroupByName());
+            mapping.getReadPlan().read(columns, Column::getName, ELEMENT_TYPES, (field, column) ->
+                    feed.accept(field.getName()));
+            return instance;
+        }
+        mapping.getReadPlan().read(columns, Column::getName, ELEMENT_TYPES, (field, column) ->
+                converterFactory.get(field).convert(instance, columns, column, field, this));
         return instance;
     }
 
+    private boolean isOverridden(String name, Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); !AbstractColumnEntityConverter.class.equals(type);
+             type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // looks for it in the superclass
+            }
+        }
+        return false;
+    }
+
 }
@@ -18,25 +18,38 @@ package org.jnosql.artemis.column;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.EntityCaches;
+import org.jnosql.artemis.cache.EntitySnapshots;
+import org.jnosql.artemis.cache.QueryCache;
+import org.jnosql.artemis.cache.UnitOfWork;
+import org.jnosql.artemis.cache.UnitOfWorkWriter;
+import org.jnosql.artemis.cache.WriteBehind;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.artemis.util.Batches;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.PagedStream;
+import org.jnosql.artemis.util.ParallelHydration;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
-import org.jnosql.diana.api.column.ColumnQueryParser;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -47,7 +60,9 @@ import static java.util.stream.Collectors.toList;
 public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
 
-    private static final ColumnQueryParser PARSER = ColumnQueryParser.getParser();
+    private static final CachedColumnQueryParser PARSER = CachedColumnQueryParser.INSTANCE;
+
+    private static final ParallelHydration HYDRATION = ParallelHydration.get();
 
     protected abstract ColumnEntityConverter getConverter();
 
@@ -61,9 +76,21 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
     protected abstract Converters getConverters();
 
-    private final UnaryOperator<ColumnEntity> insert = e -> getManager().insert(e);
+    private static final String SELECT = "select";
+
+    private static final String DIRTY_TRACKING = "artemis.dirtyTracking";
+
+    private static final String PAGE_SIZE = "artemis.stream.pageSize";
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final long SINGLE_RESULT_LIMIT = 2L;
 
-    private final UnaryOperator<ColumnEntity> update = e -> getManager().update(e);
+    private final UnitOfWorkWriter writer = new ColumnUnitOfWorkWriter();
+
+    private final Supplier<Optional<WriteBehind>> writeBehind = WriteBehind.of(writer);
+
+    private final EntitySnapshots<ColumnEntity> snapshots = new EntitySnapshots<>();
 
     private ColumnObserverParser observer;
 
@@ -75,11 +102,31 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
         return observer;
     }
 
+    /**
+     * Returns the second-level caches of the manager
+     *
+     * @return the {@link EntityCaches}
+     */
+    protected EntityCaches getCaches() {
+        return EntityCaches.of(getManager());
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
-
-        return getFlow().flow(entity, insert);
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            unitOfWork.get().insert(getManager(), classMapping.getName(), getId(classMapping, entity), entity, writer);
+            return entity;
+        }
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().insert(classMapping.getName(), getId(classMapping, entity), entity);
+            return entity;
+        }
+        return evict(getFlow().flow(entity, e -> insert(entity, e)));
     }
 
 
@@ -87,32 +134,210 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return getFlow().flow(entity, e -> getManager().insert(e, ttl));
+        flushPendingWrites();
+        return evict(getFlow().flow(entity, e -> getManager().insert(e, ttl)));
     }
 
 
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        return getFlow().flow(entity, update);
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            unitOfWork.get().update(getManager(), classMapping.getName(), getId(classMapping, entity), entity, writer);
+            return entity;
+        }
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().update(classMapping.getName(), getId(classMapping, entity), entity);
+            return entity;
+        }
+        return evict(getFlow().flow(entity, e -> update(entity, e)));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        if (UnitOfWork.current().isPresent()) {
+            return ColumnTemplate.super.insert(entities);
+        }
+        getWriteBehind().ifPresent(WriteBehind::flush);
+        return insertAll(entities);
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        flushPendingWrites();
+        return Batches.apply(entities, batch -> {
+            List<T> inserted = getFlow().flowBatch(batch, e -> asList(getManager().insert(e, ttl)));
+            inserted.forEach(this::evict);
+            return inserted;
+        });
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        if (UnitOfWork.current().isPresent() || isDirtyTracking()) {
+            return ColumnTemplate.super.update(entities);
+        }
+        getWriteBehind().ifPresent(WriteBehind::flush);
+        return updateAll(entities);
+    }
+
+    private <T> List<T> insertAll(Iterable<T> entities) {
+        return Batches.apply(entities, batch -> {
+            List<T> inserted = getFlow().flowBatch(batch, e -> asList(getManager().insert(e)));
+            if (isDirtyTracking()) {
+                inserted.forEach(this::track);
+            }
+            inserted.forEach(this::evict);
+            return inserted;
+        });
+    }
+
+    private <T> List<T> updateAll(Iterable<T> entities) {
+        if (isDirtyTracking()) {
+            List<T> updated = new ArrayList<>();
+            for (T entity : entities) {
+                updated.add(evict(getFlow().flow(entity, e -> update(entity, e))));
+            }
+            return updated;
+        }
+        return Batches.apply(entities, batch -> {
+            List<T> updated = getFlow().flowBatch(batch, e -> asList(getManager().update(e)));
+            updated.forEach(this::evict);
+            return updated;
+        });
     }
 
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
+        flushPendingWrites();
         getEventManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        getCaches().invalidate(query.getColumnFamily());
+        UnitOfWork.current().ifPresent(u -> u.evict(getManager(), query.getColumnFamily()));
     }
 
 
     @Override
     public <T> List<T> select(ColumnQuery query) {
         requireNonNull(query, "query is required");
+        flushPendingWrites();
         getEventManager().firePreQuery(query);
+        List<ColumnEntity> entities = select(getClassMappings().findByName(query.getColumnFamily()), query);
+        return toEntities(entities);
+    }
+
+    @Override
+    public <T> Optional<T> singleResult(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        ColumnQuery limited = DelegateColumnQuery.limit(query, SINGLE_RESULT_LIMIT);
+        flushPendingWrites();
+        getEventManager().firePreQuery(limited);
+        List<ColumnEntity> entities = select(getClassMappings().findByName(query.getColumnFamily()), limited);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        return Optional.of(toEntity(entities.get(0)));
+    }
+
+    @Override
+    public <P> Optional<P> singleResult(ColumnQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        List<P> entities = select(DelegateColumnQuery.limit(query, SINGLE_RESULT_LIMIT), projection);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        return Optional.of(entities.get(0));
+    }
+
+    @Override
+    public <P> List<P> select(ColumnQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getColumnFamily());
+        Projection<P> plan = classMapping.getProjection(projection);
+        ColumnQuery projectionQuery = plan.getColumns().isEmpty() ? query
+                : DelegateColumnQuery.columns(query, plan.getColumns());
+        flushPendingWrites();
+        getEventManager().firePreQuery(projectionQuery);
+        return HYDRATION.apply(select(classMapping, projectionQuery),
+                e -> getConverter().toProjection(plan, e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) {
+        return stream(query, Integer.getInteger(PAGE_SIZE, DEFAULT_PAGE_SIZE));
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query, int pageSize) {
+        requireNonNull(query, "query is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getColumnFamily());
+        return stream(classMapping, query, pageSize).map(e -> this.<T>toEntity(e));
+    }
+
+    @Override
+    public <P> Stream<P> stream(ColumnQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getColumnFamily());
+        Projection<P> plan = classMapping.getProjection(projection);
+        ColumnQuery projectionQuery = plan.getColumns().isEmpty() ? query
+                : DelegateColumnQuery.columns(query, plan.getColumns());
+        return stream(classMapping, projectionQuery, Integer.getInteger(PAGE_SIZE, DEFAULT_PAGE_SIZE))
+                .map(e -> getConverter().toProjection(plan, e));
+    }
+
+    private Stream<ColumnEntity> stream(ClassMapping classMapping, ColumnQuery query, int pageSize) {
+        flushPendingWrites();
+        ColumnFamilyManager manager = getManager();
+        PagedStream.PageFetcher<ColumnEntity> fetcher = (skip, limit) ->
+                manager.select(DelegateColumnQuery.page(query, skip, limit));
+        return PagedStream.of(fetcher, (skip, limit, page) -> {
+            ColumnQuery pageQuery = DelegateColumnQuery.page(query, skip, limit);
+            getEventManager().firePreQuery(pageQuery);
+            return getCached(classMapping, pageQuery).orElseGet(page);
+        }, query.getSkip(), query.getLimit(), pageSize);
+    }
+
+    /**
+     * The pages of a stream are read from the query cache but not put in it, since the next page is read in
+     * background and a write in the meantime would not invalidate it.
+     */
+    private Optional<List<ColumnEntity>> getCached(ClassMapping classMapping, ColumnQuery query) {
+        return getCaches().getQueries(classMapping).flatMap(c -> c.get(ColumnQueryKey.of(query)))
+                .map(entities -> entities.stream().map(ColumnEntity.class::cast).collect(toList()));
+    }
+
+    private List<ColumnEntity> select(ClassMapping classMapping, ColumnQuery query) {
+        Optional<QueryCache> cache = getCaches().getQueries(classMapping);
+        if (!cache.isPresent()) {
+            return getManager().select(query);
+        }
+        Object key = ColumnQueryKey.of(query);
+        Optional<List<Object>> cached = cache.get().get(key);
+        if (cached.isPresent()) {
+            return cached.get().stream().map(ColumnEntity.class::cast).collect(toList());
+        }
+        long version = cache.get().getVersion();
         List<ColumnEntity> entities = getManager().select(query);
-        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(toList());
+        cache.get().put(key, entities, version);
+        return entities;
     }
 
     @Override
@@ -124,10 +349,42 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (!unitOfWork.isPresent()) {
+            getWriteBehind().ifPresent(WriteBehind::flush);
+            return find(classMapping, idField, value);
+        }
+        if (unitOfWork.get().isDeleted(getManager(), classMapping.getName(), value)) {
+            return Optional.empty();
+        }
+        Optional<T> entity = unitOfWork.get().get(getManager(), classMapping.getName(), value);
+        if (entity.isPresent()) {
+            return entity;
+        }
+        return this.<T>find(classMapping, idField, value)
+                .map(e -> unitOfWork.get().register(getManager(), classMapping.getName(), value, e));
+    }
+
+    private <T> Optional<T> find(ClassMapping classMapping, FieldMapping idField, Object value) {
         ColumnQuery query = ColumnQueryBuilder.select().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
 
-        return singleResult(query);
+        Optional<EntityCache> cache = getCaches().get(classMapping);
+        Optional<Object> cached = cache.flatMap(c -> c.get(value));
+        if (cached.isPresent()) {
+            return Optional.of(track(getConverter().toEntity((ColumnEntity) cached.get())));
+        }
+        long version = cache.map(EntityCache::getVersion).orElse(0L);
+        getEventManager().firePreQuery(query);
+        List<ColumnEntity> entities = getManager().select(query);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        cache.ifPresent(c -> c.put(value, entities.get(0), version));
+        return Optional.of(track(getConverter().toEntity(entities.get(0))));
     }
 
     @Override
@@ -139,40 +396,60 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
         FieldMapping idField = classMapping.getId()
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            unitOfWork.get().delete(getManager(), classMapping.getName(), value, entityClass, id, writer);
+            return;
+        }
+        getWriteBehind().ifPresent(w -> w.remove(classMapping.getName(), value));
 
         ColumnDeleteQuery query = ColumnQueryBuilder.delete().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
         getManager().delete(query);
+        getCaches().get(classMapping).ifPresent(c -> c.remove(value));
+        getCaches().invalidateQueries(classMapping.getName());
     }
 
 
     @Override
     public <T> List<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query,getManager(), getObserver()).stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList());
+        flushPendingWrites();
+        List<T> entities = toEntities(PARSER.query(query, getManager(), getObserver()));
+        if (!isSelect(query)) {
+            invalidateAll();
+        }
+        return entities;
     }
 
     @Override
     public <T> Optional<T> singleResult(String query) {
-        List<T> entities = query(query);
+        requireNonNull(query, "query is required");
+        flushPendingWrites();
+        List<ColumnEntity> entities = PARSER.query(query, getManager(), getObserver(), SINGLE_RESULT_LIMIT);
+        if (!isSelect(query)) {
+            invalidateAll();
+        }
         if (entities.isEmpty()) {
             return Optional.empty();
         }
         if (entities.size() == 1) {
-            return Optional.ofNullable(entities.get(0));
+            return Optional.ofNullable(toEntity(entities.get(0)));
         }
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
     @Override
     public PreparedStatement prepare(String query) {
-        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        Runnable afterExecute = isSelect(query) ? () -> { } : this::invalidateAll;
+        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), this::toEntity,
+                this::flushPendingWrites, afterExecute);
     }
 
 
     @Override
     public long count(String columnFamily) {
+        getWriteBehind().ifPresent(WriteBehind::flush);
         return getManager().count(columnFamily);
     }
 
@@ -181,6 +458,143 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     public <T> long count(Class<T> entityClass){
         requireNonNull(entityClass, "entity class is required");
         ClassMapping classMapping = getClassMappings().get(entityClass);
+        getWriteBehind().ifPresent(WriteBehind::flush);
         return getManager().count(classMapping.getName());
     }
+
+    @Override
+    public void flush() {
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
+    private <T> T evict(T entity) {
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        getCaches().get(classMapping).ifPresent(c -> {
+            Object id = getId(classMapping, entity);
+            if (id != null) {
+                c.remove(id);
+            }
+        });
+        getCaches().invalidateQueries(classMapping.getName());
+        return entity;
+    }
+
+    private Object getId(ClassMapping classMapping, Object entity) {
+        return classMapping.getId().map(idField -> {
+            Object id = idField.read(entity);
+            if (id == null) {
+                return null;
+            }
+            return ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        }).orElse(null);
+    }
+
+    private <T> T toEntity(ColumnEntity columnEntity) {
+        return register(track(getConverter().toEntity(columnEntity)));
+    }
+
+    private <T> List<T> toEntities(List<ColumnEntity> entities) {
+        List<T> converted = HYDRATION.apply(entities, c -> track(getConverter().<T>toEntity(c)));
+        if (!UnitOfWork.current().isPresent()) {
+            return converted;
+        }
+        return converted.stream().map(this::register).collect(toList());
+    }
+
+    private <T> T register(T entity) {
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (!unitOfWork.isPresent()) {
+            return entity;
+        }
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        return unitOfWork.get().register(getManager(), classMapping.getName(), getId(classMapping, entity), entity);
+    }
+
+    /**
+     * Checks if the templates track the entities to update only the columns changed, it is enabled
+     * with the system property artemis.dirtyTracking when the database merges the columns of an update
+     * with the ones it has, instead of replacing the entity. A sub-column changed is sent whole.
+     *
+     * @return true when the dirty tracking is enabled
+     */
+    protected boolean isDirtyTracking() {
+        return Boolean.getBoolean(DIRTY_TRACKING);
+    }
+
+    private ColumnEntity insert(Object entity, ColumnEntity columnEntity) {
+        ColumnEntity inserted = getManager().insert(columnEntity);
+        if (isDirtyTracking()) {
+            snapshots.put(entity, columnEntity);
+        }
+        return inserted;
+    }
+
+    private ColumnEntity update(Object entity, ColumnEntity columnEntity) {
+        if (!isDirtyTracking()) {
+            return getManager().update(columnEntity);
+        }
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        Optional<ColumnEntity> changes = classMapping.getId().flatMap(idField -> snapshots.get(entity)
+                .flatMap(s -> ColumnEntityDiff.of(s, columnEntity, idField.getName())));
+        if (!changes.isPresent()) {
+            ColumnEntity updated = getManager().update(columnEntity);
+            snapshots.put(entity, columnEntity);
+            return updated;
+        }
+        if (changes.get().size() > 1) {
+            getManager().update(changes.get());
+        }
+        snapshots.put(entity, columnEntity);
+        return columnEntity;
+    }
+
+    private static List<ColumnEntity> asList(Iterable<ColumnEntity> entities) {
+        if (entities == null) {
+            return Collections.emptyList();
+        }
+        return StreamSupport.stream(entities.spliterator(), false).collect(toList());
+    }
+
+    private <T> T track(T entity) {
+        if (isDirtyTracking()) {
+            snapshots.put(entity, getConverter().toColumn(entity));
+        }
+        return entity;
+    }
+
+    private Optional<WriteBehind> getWriteBehind() {
+        return writeBehind.get();
+    }
+
+    private void flushPendingWrites() {
+        UnitOfWork.current().ifPresent(u -> u.flush(getManager()));
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
+    private void invalidateAll() {
+        getCaches().invalidateAll();
+        UnitOfWork.current().ifPresent(u -> u.evictAll(getManager()));
+    }
+
+    private static boolean isSelect(String query) {
+        return query.trim().regionMatches(true, 0, SELECT, 0, SELECT.length());
+    }
+
+    private class ColumnUnitOfWorkWriter implements UnitOfWorkWriter {
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            insertAll(entities);
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            updateAll(entities);
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            AbstractColumnTemplate.this.delete(entityClass, id);
+        }
+    }
 }
@@ -17,16 +17,18 @@ package org.jnosql.artemis.column;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.artemis.cache.UnitOfWorkWriter;
+import org.jnosql.artemis.cache.WriteBehind;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.ParallelHydration;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
-import org.jnosql.diana.api.column.ColumnQueryParserAsync;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 
 import java.time.Duration;
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -46,7 +49,9 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     private static final Consumer EMPTY = t -> {
     };
-    private static final ColumnQueryParserAsync PARSER = ColumnQueryParserAsync.getParser();
+    private static final CachedColumnQueryParser PARSER = CachedColumnQueryParser.INSTANCE;
+
+    private static final ParallelHydration HYDRATION = ParallelHydration.get();
 
     protected abstract ColumnEntityConverter getConverter();
 
@@ -58,6 +63,9 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     private ColumnObserverParser observer;
 
+    private final UnitOfWorkWriter writer = new ColumnAsyncWriter();
+
+    private final Supplier<Optional<WriteBehind>> writeBehind = WriteBehind.of(writer);
 
     private ColumnObserverParser getObserver() {
         if (Objects.isNull(observer)) {
@@ -69,6 +77,13 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     @Override
     public <T> void insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().insert(classMapping.getName(), getId(classMapping, entity), entity);
+            return;
+        }
         insert(entity, EMPTY);
     }
 
@@ -81,6 +96,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void insert(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
+        flush();
         Consumer<ColumnEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().insert(getConverter().toColumn(entity), dianaCallBack);
     }
@@ -90,6 +106,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callback, "callBack is required");
+        flush();
         Consumer<ColumnEntity> dianaCallBack = c -> callback.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().insert(getConverter().toColumn(entity), ttl, dianaCallBack);
     }
@@ -97,6 +114,12 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     @Override
     public <T> void update(T entity) {
         requireNonNull(entity, "entity is required");
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().update(classMapping.getName(), getId(classMapping, entity), entity);
+            return;
+        }
         update(entity, EMPTY);
     }
 
@@ -104,6 +127,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public <T> void update(T entity, Consumer<T> callback) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callback, "callBack is required");
+        flush();
         Consumer<ColumnEntity> dianaCallBack = c -> callback.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().update(getConverter().toColumn(entity), dianaCallBack);
     }
@@ -111,6 +135,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
+        flush();
         getManager().delete(query);
     }
 
@@ -118,6 +143,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     public void delete(ColumnDeleteQuery query, Consumer<Void> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
+        flush();
         getManager().delete(query, callback);
     }
 
@@ -127,10 +153,8 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(callback, "callBack is required");
 
         Consumer<List<ColumnEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
+                HYDRATION.apply(d, c -> getConverter().<T>toEntity(c)));
+        flush();
         getManager().select(query, dianaCallBack);
     }
 
@@ -181,9 +205,8 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
         Consumer<List<ColumnEntity>> mapper = columnEntities ->
-                callback.accept(columnEntities
-                        .stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
+                callback.accept(HYDRATION.apply(columnEntities, c -> getConverter().<T>toEntity(c)));
+        flush();
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
@@ -201,6 +224,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
             }
             throw new UnsupportedOperationException("This query does not return a unique result: " + query);
         };
+        flush();
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
@@ -212,6 +236,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     @Override
     public void count(String columnFamily, Consumer<Long> callback){
+        flush();
         getManager().count(columnFamily, callback);
     }
 
@@ -221,9 +246,15 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(entityClass, "entity class is required");
         requireNonNull(callback, "callback is required");
         ClassMapping classMapping = getClassMappings().get(entityClass);
+        flush();
         getManager().count(classMapping.getName(), callback);
     }
 
+    @Override
+    public void flush() {
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
 
     private <T, ID> ColumnDeleteQuery getDeleteQuery(Class<T> entityClass, ID id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
@@ -231,8 +262,40 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        getWriteBehind().ifPresent(w -> w.remove(classMapping.getName(), value));
         return ColumnQueryBuilder.delete().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
     }
-}
 
+    private Object getId(ClassMapping classMapping, Object entity) {
+        return classMapping.getId().map(idField -> {
+            Object id = idField.read(entity);
+            if (id == null) {
+                return null;
+            }
+            return ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        }).orElse(null);
+    }
+
+    private Optional<WriteBehind> getWriteBehind() {
+        return writeBehind.get();
+    }
+
+    private class ColumnAsyncWriter implements UnitOfWorkWriter {
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            entities.forEach(e -> getManager().insert(getConverter().toColumn(e), EMPTY));
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            entities.forEach(e -> getManager().update(getConverter().toColumn(e), EMPTY));
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            AbstractColumnTemplateAsync.this.delete(entityClass, id);
+        }
+    }
+}
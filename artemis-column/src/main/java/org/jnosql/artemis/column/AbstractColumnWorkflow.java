@@ -16,6 +16,8 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -38,6 +40,34 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flowBatch(List<T> entities, UnaryOperator<List<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<ColumnEntity> batch = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getColumnEventPersistManager().firePreEntity(entity);
+            getColumnEventPersistManager().firePreColumnEntity(entity);
+            batch.add(getConverter().toColumn(entity));
+        }
+        getColumnEventPersistManager().firePreBatch(batch);
+        // the drivers that do not return the entities saved keep the ones sent
+        List<ColumnEntity> response = action.apply(batch);
+        List<ColumnEntity> result = response == null || response.size() != batch.size() ? batch : response;
+        getColumnEventPersistManager().firePostBatch(result);
+
+        List<T> converted = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            T entity = getConverter().toEntity(entities.get(index), result.get(index));
+            getColumnEventPersistManager().firePostEntity(entity);
+            getColumnEventPersistManager().firePostColumnEntity(entity);
+            converted.add(entity);
+        }
+        return converted;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.cache.StatementCache;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
+import org.jnosql.diana.api.column.ColumnObserverParser;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.column.ColumnQueryParser;
+import org.jnosql.diana.api.column.ColumnQueryParserAsync;
+import org.jnosql.diana.api.column.query.ColumnDeleteQueryParams;
+import org.jnosql.diana.api.column.query.ColumnQueryParams;
+import org.jnosql.diana.api.column.query.DeleteQueryConverter;
+import org.jnosql.diana.api.column.query.SelectQueryConverter;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.Params;
+import org.jnosql.query.QueryException;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * The parser to the text queries of the templates. The select and delete queries are parsed once and kept in
+ * a {@link StatementCache}, so each execution only converts the parsed query and binds the parameters;
+ * the other queries and the ones with parameters out of a prepared statement go to the Diana parser.
+ */
+final class CachedColumnQueryParser {
+
+    static final CachedColumnQueryParser INSTANCE = new CachedColumnQueryParser();
+
+    private static final String SELECT = "select";
+
+    private static final String DELETE = "delete";
+
+    private static final long SINGLE_RESULT_LIMIT = 2L;
+
+    private final ColumnQueryParser parser = ColumnQueryParser.getParser();
+
+    private final ColumnQueryParserAsync parserAsync = ColumnQueryParserAsync.getParser();
+
+    private final StatementCache<SelectQuery> selects = StatementCache.of(SelectQuerySupplier.getSupplier()::apply);
+
+    private final StatementCache<DeleteQuery> deletes = StatementCache.of(DeleteQuerySupplier.getSupplier()::apply);
+
+    private CachedColumnQueryParser() {
+    }
+
+    List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            ColumnQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                return manager.select(queryParams.getQuery());
+            }
+        } else if (startsWith(query, DELETE)) {
+            ColumnDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.delete(queryParams.getQuery());
+                return Collections.emptyList();
+            }
+        }
+        return parser.query(query, manager, observer);
+    }
+
+    List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer, long limit) {
+        if (startsWith(query, SELECT)) {
+            ColumnQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                return manager.select(DelegateColumnQuery.limit(queryParams.getQuery(), limit));
+            }
+        }
+        return query(query, manager, observer);
+    }
+
+    void query(String query, ColumnFamilyManagerAsync manager, Consumer<List<ColumnEntity>> callback,
+               ColumnObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            ColumnQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.select(queryParams.getQuery(), callback);
+                return;
+            }
+        } else if (startsWith(query, DELETE)) {
+            ColumnDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.delete(queryParams.getQuery(), v -> callback.accept(Collections.emptyList()));
+                return;
+            }
+        }
+        parserAsync.query(query, manager, callback, observer);
+    }
+
+    org.jnosql.diana.api.column.ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
+                                                                ColumnObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            ColumnQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            return new CachedPreparedStatement(queryParams.getParams(), queryParams.getQuery(), null, manager);
+        } else if (startsWith(query, DELETE)) {
+            ColumnDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            return new CachedPreparedStatement(queryParams.getParams(), null, queryParams.getQuery(), manager);
+        }
+        return parser.prepare(query, manager, observer);
+    }
+
+    org.jnosql.diana.api.column.ColumnPreparedStatementAsync prepare(String query,
+                                                                     ColumnFamilyManagerAsync manager,
+                                                                     ColumnObserverParser observer) {
+        return parserAsync.prepare(query, manager, observer);
+    }
+
+    private static boolean hasNoParams(Params params) {
+        return params.getNames().isEmpty();
+    }
+
+    private static boolean startsWith(String query, String keyword) {
+        String text = query.trim();
+        return text.regionMatches(true, 0, keyword, 0, keyword.length())
+                && (text.length() == keyword.length() || Character.isWhitespace(text.charAt(keyword.length())));
+    }
+
+    private static final class CachedPreparedStatement
+            implements org.jnosql.diana.api.column.ColumnPreparedStatement {
+
+        private final Params params;
+
+        private final ColumnQuery query;
+
+        private final ColumnDeleteQuery deleteQuery;
+
+        private final ColumnFamilyManager manager;
+
+        private final List<String> paramsLeft;
+
+        private CachedPreparedStatement(Params params, ColumnQuery query, ColumnDeleteQuery deleteQuery,
+                                        ColumnFamilyManager manager) {
+            this.params = params;
+            this.query = query;
+            this.deleteQuery = deleteQuery;
+            this.manager = manager;
+            this.paramsLeft = new ArrayList<>(params.getNames());
+        }
+
+        @Override
+        public org.jnosql.diana.api.column.ColumnPreparedStatement bind(String name, Object value) {
+            params.bind(name, value);
+            paramsLeft.remove(name);
+            return this;
+        }
+
+        @Override
+        public List<ColumnEntity> getResultList() {
+            checkParams();
+            if (query != null) {
+                return manager.select(query);
+            }
+            manager.delete(deleteQuery);
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Optional<ColumnEntity> getSingleResult() {
+            checkParams();
+            List<ColumnEntity> entities = query == null ? getResultList()
+                    : manager.select(DelegateColumnQuery.limit(query, SINGLE_RESULT_LIMIT));
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            }
+            if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        }
+
+        private void checkParams() {
+            if (!paramsLeft.isEmpty()) {
+                throw new QueryException("Check all the parameters before execute the query, params left: "
+                        + paramsLeft);
+            }
+        }
+    }
+}
@@ -14,8 +14,10 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import static java.util.Objects.requireNonNull;
 
 /**
  * This interface represents the converter between an entity and the {@link ColumnEntity}
@@ -64,4 +66,20 @@ public interface ColumnEntityConverter {
      * @throws NullPointerException when entity is null
      */
     <T> T toEntity(ColumnEntity entity);
+
+    /**
+     * Converts a {@link ColumnEntity} to a projection of the entity, by default it converts to the entity
+     * and then reads the projection from it
+     *
+     * @param projection the projection
+     * @param entity     the {@link ColumnEntity} to be converted
+     * @param <P>        the projection type
+     * @return the projection from {@link ColumnEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    default <P> P toProjection(Projection<P> projection, ColumnEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        return projection.apply(toEntity(projection.getEntityClass(), entity));
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compares an entity with its snapshot to send, in an update, the id and only the columns that changed.
+ * A sub-column is compared as a whole, because the column databases do not update it partially.
+ */
+final class ColumnEntityDiff {
+
+    private ColumnEntityDiff() {
+    }
+
+    /**
+     * Returns the changes of the entity
+     *
+     * @param snapshot the entity as it was read or written last time
+     * @param entity   the entity to update
+     * @param idName   the id column name
+     * @return the entity with the id and the columns changed, otherwise {@link Optional#empty()} when the id
+     * changed or a column was removed, then the whole entity is required
+     */
+    static Optional<ColumnEntity> of(ColumnEntity snapshot, ColumnEntity entity, String idName) {
+        Optional<Column> id = entity.find(idName);
+        if (!id.isPresent() || !id.equals(snapshot.find(idName))) {
+            return Optional.empty();
+        }
+        Map<String, Column> previous = new HashMap<>();
+        snapshot.getColumns().forEach(c -> previous.put(c.getName(), c));
+
+        ColumnEntity changes = ColumnEntity.of(entity.getName());
+        changes.add(id.get());
+        for (Column column : entity.getColumns()) {
+            Column previousColumn = previous.remove(column.getName());
+            if (!idName.equals(column.getName()) && !column.equals(previousColumn)) {
+                changes.add(column);
+            }
+        }
+        if (!previous.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(changes);
+    }
+}
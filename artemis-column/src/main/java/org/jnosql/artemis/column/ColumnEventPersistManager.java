@@ -19,6 +19,8 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
 
+import java.util.List;
+
 /**
  * This interface represent the manager of events. When an entity be either saved or updated an event will be fired. This order gonna be:
  * 1) firePreEntity
@@ -80,6 +82,27 @@ public interface ColumnEventPersistManager {
      */
     <T> void firePostColumnEntity(T entity);
 
+    /**
+     * Fire an event after the conversion of a batch of entities, that is sent to the database at once,
+     * instead of {@link ColumnEventPersistManager#firePreColumn(ColumnEntity)} to each one of them.
+     * By default, it fires that event to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePreBatch(List<ColumnEntity> entities) {
+        entities.forEach(this::firePreColumn);
+    }
+
+    /**
+     * Fire an event after the response from communication layer to a batch of entities. By default, it fires
+     * {@link ColumnEventPersistManager#firePostColumn(ColumnEntity)} to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePostBatch(List<ColumnEntity> entities) {
+        entities.forEach(this::firePostColumn);
+    }
+
     /**
      * Fire an event before the query is executed
      *
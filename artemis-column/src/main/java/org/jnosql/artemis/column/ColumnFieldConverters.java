@@ -121,7 +121,7 @@ class ColumnFieldConverters {
                 Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
                 field.write(instance, field.getValue(Value.of(attributeConverted)));
             } else {
-                field.write(instance, field.getValue(value));
+                field.writeValue(instance, value);
             }
         }
     }
@@ -22,7 +22,11 @@ import java.util.List;
 
 /**
  * The specialist {@link FieldValue} to column
+ *
+ * @deprecated the converter writes through the {@link org.jnosql.artemis.reflection.WritePlan}, it is only used when
+ * a subclass of {@link AbstractColumnEntityConverter} overrides {@link AbstractColumnEntityConverter#to}
  */
+@Deprecated
 public interface ColumnFieldValue extends FieldValue {
 
 
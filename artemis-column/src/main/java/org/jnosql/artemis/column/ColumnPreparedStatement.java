@@ -19,6 +19,7 @@ import org.jnosql.diana.api.column.ColumnEntity;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 final class ColumnPreparedStatement implements PreparedStatement {
@@ -26,12 +27,19 @@ final class ColumnPreparedStatement implements PreparedStatement {
     private final org.jnosql.diana.api.column.ColumnPreparedStatement preparedStatement;
 
 
-    private final ColumnEntityConverter converter;
+    private final Function<ColumnEntity, Object> converter;
+
+    private final Runnable beforeExecute;
+
+    private final Runnable afterExecute;
 
     ColumnPreparedStatement(org.jnosql.diana.api.column.ColumnPreparedStatement preparedStatement,
-                            ColumnEntityConverter converter) {
+                            Function<ColumnEntity, Object> converter, Runnable beforeExecute,
+                            Runnable afterExecute) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.beforeExecute = beforeExecute;
+        this.afterExecute = afterExecute;
     }
 
     @Override
@@ -42,13 +50,18 @@ final class ColumnPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return preparedStatement.getResultList().stream().map(c -> (T) converter.toEntity(c))
+        beforeExecute.run();
+        List<T> entities = preparedStatement.getResultList().stream().map(c -> (T) converter.apply(c))
                 .collect(Collectors.toList());
+        afterExecute.run();
+        return entities;
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
+        beforeExecute.run();
         Optional<ColumnEntity> singleResult = preparedStatement.getSingleResult();
-        return singleResult.map(converter::toEntity);
+        afterExecute.run();
+        return singleResult.map(c -> (T) converter.apply(c));
     }
 }
@@ -314,4 +314,13 @@ public interface ColumnTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Sends the writes held by the write-behind buffer of the column family manager to the database,
+     * it does nothing when the buffer is disabled.
+     *
+     * @see org.jnosql.artemis.cache.WriteBehind
+     */
+    default void flush() {
+    }
 }
@@ -24,6 +24,7 @@ import org.jnosql.diana.api.column.ColumnQuery;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.List;
 
 /**
  * The default implementation of {@link ColumnEventPersistManager}
@@ -55,6 +56,12 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     @Inject
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Inject
+    private Event<ColumnBatchPrePersist> columnBatchPrePersistEvent;
+
+    @Inject
+    private Event<ColumnBatchPostPersist> columnBatchPostPersistEvent;
+
     @Override
     public void firePreColumn(ColumnEntity entity) {
         columnEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
@@ -94,4 +101,14 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     public void firePreDeleteQuery(ColumnDeleteQuery query) {
         columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
     }
+
+    @Override
+    public void firePreBatch(List<ColumnEntity> entities) {
+        columnBatchPrePersistEvent.fire(ColumnBatchPrePersist.of(entities));
+    }
+
+    @Override
+    public void firePostBatch(List<ColumnEntity> entities) {
+        columnBatchPostPersistEvent.fire(ColumnBatchPostPersist.of(entities));
+    }
 }
@@ -31,6 +31,7 @@ import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
+@Deprecated
 final class DefaultColumnFieldValue implements ColumnFieldValue {
 
     private final FieldValue fieldValue;
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link ColumnQuery} that delegates to another one changing its skip, limit or columns
+ */
+final class DelegateColumnQuery implements ColumnQuery {
+
+    private final ColumnQuery query;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final List<String> columns;
+
+    private DelegateColumnQuery(ColumnQuery query, long skip, long limit, List<String> columns) {
+        this.query = query;
+        this.skip = skip;
+        this.limit = limit;
+        this.columns = columns;
+    }
+
+    /**
+     * Restricts the query to the first entities of its result, when the query does not have a smaller limit
+     *
+     * @param query the query
+     * @param limit the maximum number of entities
+     * @return the query restricted
+     */
+    static ColumnQuery limit(ColumnQuery query, long limit) {
+        if (query.getLimit() > 0 && query.getLimit() <= limit) {
+            return query;
+        }
+        return page(query, query.getSkip(), limit);
+    }
+
+    /**
+     * Restricts the query to a page of its result
+     *
+     * @param query the query
+     * @param skip  the number of entities to skip
+     * @param limit the maximum number of entities
+     * @return the query restricted
+     */
+    static ColumnQuery page(ColumnQuery query, long skip, long limit) {
+        return new DelegateColumnQuery(query, skip, limit, query.getColumns());
+    }
+
+    /**
+     * Restricts the columns the query returns
+     *
+     * @param query   the query
+     * @param columns the columns
+     * @return the query restricted
+     */
+    static ColumnQuery columns(ColumnQuery query, List<String> columns) {
+        return new DelegateColumnQuery(query, query.getSkip(), query.getLimit(), columns);
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String getColumnFamily() {
+        return query.getColumnFamily();
+    }
+
+    @Override
+    public Optional<ColumnCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DelegateColumnQuery)) {
+            return false;
+        }
+        DelegateColumnQuery that = (DelegateColumnQuery) o;
+        return skip == that.skip && limit == that.limit && Objects.equals(query, that.query)
+                && Objects.equals(columns, that.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, skip, limit, columns);
+    }
+
+    @Override
+    public String toString() {
+        return "DelegateColumnQuery{" + "query=" + query + ", skip=" + skip + ", limit=" + limit
+                + ", columns=" + columns + '}';
+    }
+}
@@ -28,6 +28,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnObject;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
@@ -77,6 +78,11 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> extends  BaseColumnRe
     private Object getJnosqlQuery(Method method, Object[] args, Class<?> typeClass) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
+        Class<?> returnType = method.getReturnType();
+        if (typeClass.equals(returnType) || Optional.class.equals(returnType)) {
+            Optional<T> entity = getSingleResult(value, params);
+            return Optional.class.equals(returnType) ? entity : entity.orElse(null);
+        }
         List<T> entities;
         if (params.isEmpty()) {
             entities = getTemplate().query(value);
@@ -88,4 +94,13 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> extends  BaseColumnRe
         return ReturnTypeConverterUtil.returnObject(entities, typeClass, method);
     }
 
+    private Optional<T> getSingleResult(String query, Map<String, Object> params) {
+        if (params.isEmpty()) {
+            return getTemplate().singleResult(query);
+        }
+        PreparedStatement prepare = getTemplate().prepare(query);
+        params.forEach(prepare::bind);
+        return prepare.getSingleResult();
+    }
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnQuery;
 
@@ -38,7 +39,19 @@ public final class ReturnTypeConverterUtil {
 
 
     public static Object returnObject(ColumnQuery query, ColumnTemplate template, Class typeClass, Method method) {
+        Optional<Class<?>> projection = Projection.getType(method, typeClass);
         Class<?> returnType = method.getReturnType();
+        if (projection.isPresent()) {
+            Class<?> projectionClass = projection.get();
+            if (projectionClass.equals(returnType)) {
+                return template.singleResult(query, projectionClass).orElse(null);
+            } else if (Optional.class.equals(returnType)) {
+                return template.singleResult(query, projectionClass);
+            } else if (Stream.class.equals(returnType)) {
+                return template.stream(query, projectionClass);
+            }
+            return returnObject(template.select(query, projectionClass), projectionClass, method);
+        }
 
         if (typeClass.equals(returnType)) {
             Optional<Object> optional = template.singleResult(query);
@@ -55,7 +68,7 @@ public final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(template.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return template.select(query).stream();
+            return template.stream(query);
         }
 
         return template.select(query);
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnEntityDiffTest {
+
+    @Test
+    public void shouldReturnOnlyTheColumnsChanged() {
+        ColumnEntity snapshot = entity(Column.of("id", 10L),
+                Column.of("name", "Ada"), Column.of("age", 36));
+        ColumnEntity entity = entity(Column.of("id", 10L),
+                Column.of("name", "Ada Lovelace"), Column.of("age", 36));
+
+        Optional<ColumnEntity> changes = ColumnEntityDiff.of(snapshot, entity, "id");
+        assertTrue(changes.isPresent());
+        assertEquals(Arrays.asList(Column.of("id", 10L), Column.of("name", "Ada Lovelace")),
+                changes.get().getColumns());
+    }
+
+    @Test
+    public void shouldReturnOnlyTheIdWhenNothingChanged() {
+        ColumnEntity snapshot = entity(Column.of("id", 10L),
+                Column.of("name", "Ada"));
+        ColumnEntity entity = entity(Column.of("id", 10L),
+                Column.of("name", "Ada"));
+        assertEquals(1, ColumnEntityDiff.of(snapshot, entity, "id").get().size());
+    }
+
+    @Test
+    public void shouldRequireTheWholeEntityWhenColumnIsRemoved() {
+        ColumnEntity snapshot = entity(Column.of("id", 10L),
+                Column.of("name", "Ada"));
+        ColumnEntity entity = entity(Column.of("id", 10L));
+        assertFalse(ColumnEntityDiff.of(snapshot, entity, "id").isPresent());
+    }
+
+    @Test
+    public void shouldRequireTheWholeEntityWhenIdChanged() {
+        ColumnEntity snapshot = entity(Column.of("id", 10L),
+                Column.of("name", "Ada"));
+        ColumnEntity entity = entity(Column.of("id", 11L),
+                Column.of("name", "Ada"));
+        assertFalse(ColumnEntityDiff.of(snapshot, entity, "id").isPresent());
+    }
+
+    private static ColumnEntity entity(Column... columns) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Arrays.asList(columns));
+        return entity;
+    }
+}
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
@@ -27,6 +28,9 @@ import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
@@ -45,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -63,6 +68,12 @@ public class DefaultColumnEntityConverterTest {
     @Inject
     private DefaultColumnEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
     private Column[] columns;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -385,4 +396,65 @@ public class DefaultColumnEntityConverterTest {
         return column.map(Column::getValue).map(Value::get).orElse(null);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertToProjection() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("name", "Otavio"));
+        entity.add(Column.of("age", "10"));
+
+        Projection<PersonAge> projection = classMappings.get(Person.class).getProjection(PersonAge.class);
+        PersonAge person = converter.toProjection(projection, entity);
+        assertEquals("Otavio", person.getName());
+        assertEquals(10, person.getAge());
+    }
+
+    @Test
+    public void shouldUseTheFieldHooksOverriddenBySubclasses() {
+        List<String> written = new ArrayList<>();
+        List<String> read = new ArrayList<>();
+        AbstractColumnEntityConverter custom = new AbstractColumnEntityConverter() {
+            @Override
+            protected ClassMappings getClassMappings() {
+                return classMappings;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected ColumnFieldValue to(FieldMapping field, Object entityInstance) {
+                written.add(field.getName());
+                return super.to(field, entityInstance);
+            }
+
+            @Override
+            protected <T> Consumer<String> feedObject(T instance, List<Column> columns,
+                                                      Map<String, FieldMapping> fieldsGroupByName) {
+                Consumer<String> feed = super.feedObject(instance, columns, fieldsGroupByName);
+                return name -> {
+                    read.add(name);
+                    feed.accept(name);
+                };
+            }
+        };
+
+        Person person = Person.builder().withAge()
+                .withId(12)
+                .withName("Otavio")
+                .withPhones(asList("234", "2342")).build();
+        ColumnEntity entity = custom.toColumn(person);
+        Person converted = custom.toEntity(entity);
+        assertEquals("Otavio", converted.getName());
+        assertThat(written, containsInAnyOrder("_id", "age", "name", "phones"));
+        assertThat(read, containsInAnyOrder("_id", "age", "name", "phones"));
+    }
+
+    interface PersonAge {
+
+        String getName();
+
+        int getAge();
+    }
+}
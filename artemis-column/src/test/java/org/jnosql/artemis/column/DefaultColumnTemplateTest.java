@@ -18,6 +18,7 @@ import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.cache.UnitOfWork;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
@@ -30,11 +31,14 @@ import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.jnosql.query.QueryException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Instance;
@@ -51,8 +55,11 @@ import static java.util.Collections.singletonList;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -103,6 +110,15 @@ public class DefaultColumnTemplateTest {
                 columnEventPersistManager, classMappings, converters);
     }
 
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("artemis.cache.Person.size");
+        System.clearProperty("artemis.cache.Person.queries");
+        System.clearProperty("artemis.dirtyTracking");
+        System.clearProperty("artemis.batch.size");
+        System.clearProperty("artemis.writeBehind.size");
+    }
+
     @Test
     public void shouldInsert() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -167,16 +183,11 @@ public class DefaultColumnTemplateTest {
 
     @Test
     public void shouldInsertEntitiesTTL() {
-        ColumnEntity columnEntity = ColumnEntity.of("Person");
-        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
         Duration duration = Duration.ofHours(2);
 
-        Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
-
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any(), Mockito.eq(duration));
+        verify(managerMock, never()).insert(any(ColumnEntity.class), any(Duration.class));
     }
 
     @Test
@@ -185,24 +196,66 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any());
+        verify(managerMock, never()).insert(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePreColumnEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostColumnEntity(any(Person.class));
+        verify(columnEventPersistManager).firePreBatch(Mockito.anyList());
+        verify(columnEventPersistManager).firePostBatch(Mockito.anyList());
+        verify(columnEventPersistManager, never()).firePreColumn(any(ColumnEntity.class));
     }
 
     @Test
-    public void shouldUpdateEntities() {
-        ColumnEntity columnEntity = ColumnEntity.of("Person");
-        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+    public void shouldInsertEntitiesInBatches() {
+        System.setProperty("artemis.batch.size", "2");
+
+        subject.insert(Arrays.asList(person, person, person));
+        ArgumentCaptor<Iterable> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).insert(batches.capture());
+        assertEquals(2, ((List<?>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<?>) batches.getAllValues().get(1)).size());
+        verify(columnEventPersistManager, times(2)).firePreBatch(Mockito.anyList());
+    }
 
-        Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+    @Test
+    public void shouldDeferTheWritesToTheWriteBehindBuffer() {
+        System.setProperty("artemis.writeBehind.size", "10");
+
+        subject.insert(person);
+        subject.update(person);
+        verify(managerMock, never()).insert(any(ColumnEntity.class));
+        verify(managerMock, never()).insert(Mockito.<Iterable<ColumnEntity>>any());
+
+        subject.flush();
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock).insert(batch.capture());
+        assertEquals(1, ((List<?>) batch.getValue()).size());
+        verify(managerMock, never()).update(Mockito.<Iterable<ColumnEntity>>any());
+    }
+
+    @Test
+    public void shouldFlushTheWriteBehindBufferBeforeTheBulkWrites() {
+        System.setProperty("artemis.writeBehind.size", "10");
+
+        subject.update(person);
+        subject.insert(singletonList(person));
+
+        InOrder inOrder = Mockito.inOrder(managerMock);
+        inOrder.verify(managerMock).update(Mockito.<Iterable<ColumnEntity>>any());
+        inOrder.verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any());
+    }
 
+    @Test
+    public void shouldUpdateEntities() {
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(Mockito.<Iterable<ColumnEntity>>any());
+        verify(managerMock, never()).update(any(ColumnEntity.class));
     }
 
     @Test
@@ -235,6 +288,24 @@ public class DefaultColumnTemplateTest {
         assertTrue(result.isPresent());
     }
 
+    @Test
+    public void shouldLimitTheSingleResultQuery() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .select(any(ColumnQuery.class)))
+                .thenReturn(singletonList(columnEntity));
+
+        ColumnQuery query = select().from("person").build();
+        subject.singleResult(query);
+
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(2L, queryCaptor.getValue().getLimit());
+        assertEquals("person", queryCaptor.getValue().getColumnFamily());
+    }
+
     @Test
     public void shouldReturnSingleResultIsEmpty() {
         Mockito.when(managerMock
@@ -335,6 +406,62 @@ public class DefaultColumnTemplateTest {
         assertEquals("Person", query.getColumnFamily());
     }
 
+    @Test
+    public void shouldReturnErrorWhenThePreparedStatementIsNotBound() {
+        PreparedStatement preparedStatement = subject.prepare("select * from Person where name = @name");
+        Assertions.assertThrows(QueryException.class, preparedStatement::getResultList);
+        Assertions.assertThrows(QueryException.class, preparedStatement::getSingleResult);
+        verify(managerMock, never()).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldBindEachPreparedStatementFromTheSameQuery() {
+        PreparedStatement ada = subject.prepare("select * from Person where name = @name");
+        PreparedStatement poliana = subject.prepare("select * from Person where name = @name");
+        ada.bind("name", "Ada");
+        poliana.bind("name", "Poliana");
+        ada.getResultList();
+        poliana.getResultList();
+
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock, times(2)).select(queryCaptor.capture());
+        List<ColumnQuery> queries = queryCaptor.getAllValues();
+        assertEquals("Ada", queries.get(0).getCondition().get().getColumn().get());
+        assertEquals("Poliana", queries.get(1).getCondition().get().getColumn().get());
+    }
+
+    @Test
+    public void shouldStreamPageByPage() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity), singletonList(columnEntity));
+
+        Stream<Person> people = subject.stream(select().from("Person").build(), 2);
+        verify(managerMock, never()).select(any(ColumnQuery.class));
+        assertEquals(3, people.count());
+
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock, times(2)).select(queryCaptor.capture());
+        List<ColumnQuery> queries = queryCaptor.getAllValues();
+        assertEquals(0L, queries.get(0).getSkip());
+        assertEquals(2L, queries.get(0).getLimit());
+        assertEquals(2L, queries.get(1).getSkip());
+        assertEquals(2L, queries.get(1).getLimit());
+        verify(columnEventPersistManager, times(2)).firePreQuery(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldStopTheStreamWhenTheSkipIsIgnored() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
+
+        Stream<Person> people = subject.stream(select().from("Person").build(), 2);
+        assertEquals(2, people.count());
+    }
+
     @Test
     public void shouldCount() {
         subject.count("Person");
@@ -346,4 +473,136 @@ public class DefaultColumnTemplateTest {
         subject.count(Person.class);
         verify(managerMock).count("Person");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindFromCache() {
+        System.setProperty("artemis.cache.Person.size", "10");
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+
+        assertTrue(subject.find(Person.class, 19L).isPresent());
+        assertTrue(subject.find(Person.class, 19L).isPresent());
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+
+        subject.delete(Person.class, 19L);
+        assertTrue(subject.find(Person.class, 19L).isPresent());
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldEvictFromCacheWhenUpdate() {
+        System.setProperty("artemis.cache.Person.size", "10");
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+        Mockito.when(managerMock.update(any(ColumnEntity.class))).thenReturn(columnEntity);
+
+        subject.find(Person.class, 19L);
+        subject.update(person);
+        subject.find(Person.class, 19L);
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldSelectFromQueryCache() {
+        System.setProperty("artemis.cache.Person.queries", "10");
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+        Mockito.when(managerMock.insert(any(ColumnEntity.class))).thenReturn(columnEntity);
+
+        List<Person> people = subject.select(select().from("Person").where("name").eq("Name").build());
+        List<Person> cached = subject.select(select().from("Person").where("name").eq("Name").build());
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+        assertEquals(1, cached.size());
+        assertNotSame(people.get(0), cached.get(0));
+
+        subject.insert(person);
+        subject.select(select().from("Person").where("name").eq("Name").build());
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldDeferWritesInUnitOfWork() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(ColumnEntity.class))).thenReturn(columnEntity);
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            subject.insert(person);
+            verify(managerMock, never()).insert(any(ColumnEntity.class));
+            assertSame(person, subject.find(Person.class, 19L).get());
+            verify(managerMock, never()).select(any(ColumnQuery.class));
+        }
+        verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any());
+    }
+
+    @Test
+    public void shouldReturnSameInstanceInUnitOfWork() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Person first = subject.<Person, Long>find(Person.class, 19L).get();
+            assertSame(first, subject.find(Person.class, 19L).get());
+            assertSame(first, subject.select(select().from("Person").build()).get(0));
+
+            subject.delete(Person.class, 19L);
+            assertFalse(subject.find(Person.class, 19L).isPresent());
+            verify(managerMock, never()).delete(any(ColumnDeleteQuery.class));
+        }
+        verify(managerMock).delete(any(ColumnDeleteQuery.class));
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldNotUpdateWhenNothingChanged() {
+        System.setProperty("artemis.dirtyTracking", "true");
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(ColumnEntity.class))).thenReturn(columnEntity);
+
+        subject.insert(person);
+        subject.update(person);
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldSelectProjection() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.add(Column.of("name", "Name"));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+
+        List<PersonName> names = subject.select(select().from("Person").build(), PersonName.class);
+        assertEquals(singletonList("Name"), names.stream().map(PersonName::getName).collect(Collectors.toList()));
+
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(singletonList("name"), queryCaptor.getValue().getColumns());
+        assertEquals("Person", queryCaptor.getValue().getColumnFamily());
+    }
+
+    @Test
+    public void shouldStreamProjection() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.add(Column.of("name", "Name"));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+
+        Stream<PersonName> names = subject.stream(select().from("Person").build(), PersonName.class);
+        verify(managerMock, never()).select(any(ColumnQuery.class));
+        assertEquals(singletonList("Name"), names.map(PersonName::getName).collect(Collectors.toList()));
+
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(singletonList("name"), queryCaptor.getValue().getColumns());
+        assertEquals(0L, queryCaptor.getValue().getSkip());
+        assertEquals(100L, queryCaptor.getValue().getLimit());
+    }
+
+    interface PersonName {
+
+        String getName();
+    }
+}
@@ -21,11 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 
@@ -73,4 +78,32 @@ public class DefaultColumnWorkflowTest {
         verify(converter).toColumn(any());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFlowTheBatchEntityByEntityByDefault() {
+        ColumnWorkflow workflow = new ColumnWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
+                action.apply(columnEntity);
+                return entity;
+            }
+        };
+        List<Integer> sizes = new ArrayList<>();
+        List<String> entities = workflow.flowBatch(Arrays.asList("Ada", "Poliana"), batch -> {
+            sizes.add(batch.size());
+            return batch;
+        });
+        Assertions.assertEquals(Arrays.asList("Ada", "Poliana"), entities);
+        Assertions.assertEquals(Arrays.asList(1, 1), sizes);
+    }
+
+    @Test
+    public void shouldFireTheBatchEventsToEachEntityByDefault() {
+        ColumnEventPersistManager eventManager = Mockito.mock(ColumnEventPersistManager.class,
+                Mockito.CALLS_REAL_METHODS);
+        eventManager.firePreBatch(Arrays.asList(columnEntity, columnEntity));
+        eventManager.firePostBatch(Arrays.asList(columnEntity, columnEntity));
+        verify(eventManager, times(2)).firePreColumn(columnEntity);
+        verify(eventManager, times(2)).firePostColumn(columnEntity);
+    }
+
+}
@@ -208,12 +208,12 @@ public class ColumnRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -470,10 +470,43 @@ public class ColumnRepositoryProxyTest {
     }
 
 
+    @Test
+    public void shouldFindASingleProjection() {
+        when(template.singleResult(any(ColumnQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Optional.of(() -> "Ada"));
+
+        PersonName name = personRepository.findByAgeGreaterThanEqual(20);
+        assertEquals("Ada", name.getName());
+        verify(template).singleResult(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+    }
+
+    @Test
+    public void shouldFindAnOptionalProjection() {
+        when(template.singleResult(any(ColumnQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Optional.empty());
+
+        Optional<PersonName> name = personRepository.findByNameAndAgeLessThan("Ada", 20);
+        assertFalse(name.isPresent());
+        verify(template).singleResult(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+    }
+
+    @Test
+    public void shouldStreamTheProjections() {
+        when(template.stream(any(ColumnQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Stream.<PersonName>of(() -> "Ada"));
+
+        Stream<PersonName> names = personRepository.findByNameAndAgeLessThanEqual("Ada", 20);
+        assertEquals(singletonList("Ada"), names.map(PersonName::getName).collect(Collectors.toList()));
+        verify(template).stream(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(ColumnQuery.class), Mockito.eq(PersonName.class));
+    }
+
     @Test
     public void shouldExecuteJNoSQLQuery() {
         personRepository.findByQuery();
-        verify(template).query("select * from Person");
+        verify(template).singleResult("select * from Person");
     }
 
     @Test
@@ -482,6 +515,7 @@ public class ColumnRepositoryProxyTest {
         when(template.prepare(Mockito.anyString())).thenReturn(statement);
         personRepository.findByQuery("Ada");
         verify(statement).bind("id", "Ada");
+        verify(statement).getSingleResult();
     }
 
     interface PersonRepository extends Repository<Person, Long> {
@@ -520,5 +554,16 @@ public class ColumnRepositoryProxyTest {
 
         @Query("select * from Person where id = @id")
         Optional<Person> findByQuery(@Param("id") String id);
+
+        PersonName findByAgeGreaterThanEqual(Integer age);
+
+        Optional<PersonName> findByNameAndAgeLessThan(String name, Integer age);
+
+        Stream<PersonName> findByNameAndAgeLessThanEqual(String name, Integer age);
+    }
+
+    interface PersonName {
+
+        String getName();
     }
 }
\ No newline at end of file
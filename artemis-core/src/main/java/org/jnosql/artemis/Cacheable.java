@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies that the entities of this class are kept at the second-level cache of the template, so the find by id
+ * does not go to the database when the entity is there. The inserts, updates and deletes through the template
+ * remove the entity from the cache. The cache can also be enabled or configured without this annotation with
+ * the system properties artemis.cache.[entity name].size and artemis.cache.[entity name].ttl, in seconds.
+ * The results of the select queries are also kept when {@link Cacheable#queries()}, or the system property
+ * artemis.cache.[entity name].queries, is positive; any write of the entity through the template removes them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities in the cache, when it is full the least recently used one is evicted.
+     *
+     * @return the maximum size
+     */
+    int size() default 1_000;
+
+    /**
+     * The time to live of an entity in the cache, zero or negative means that it does not expire.
+     *
+     * @return the time to live
+     */
+    long ttl() default 0;
+
+    /**
+     * The unit of the {@link Cacheable#ttl()}
+     *
+     * @return the unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * The maximum number of entities, the sum of all the query results, in the query cache,
+     * when it is full the least recently used results are evicted. Zero means that the query results are not kept.
+     *
+     * @return the maximum weight of the query cache
+     */
+    long queries() default 0;
+}
@@ -20,14 +20,25 @@ import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * The Default implementation to {@link Converters}
+ * The Default implementation to {@link Converters}.
+ * The bean of each converter class is resolved once, and the reference is cached when the bean
+ * is either normal scoped or a singleton, so the same instance is shared; a dependent bean
+ * still creates a new instance to each call.
  */
 @ApplicationScoped
 class DefaultConverters implements Converters {
 
+    private final Map<Class<?>, ConverterBean<?>> beans = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
     @Inject
     private BeanManager beanManager;
 
@@ -37,16 +48,64 @@ class DefaultConverters implements Converters {
         return getInstance(converterClass);
     }
 
+    /**
+     * Returns how many times a converter was found in the cache
+     *
+     * @return the cache hits
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
     private <T> T getInstance(Class<T> clazz) {
+        ConverterBean<T> converterBean = (ConverterBean<T>) beans.get(clazz);
+        if (converterBean != null) {
+            hits.increment();
+        } else {
+            converterBean = (ConverterBean<T>) beans.computeIfAbsent(clazz, this::createBean);
+        }
+        return converterBean.get();
+    }
+
+    private <T> ConverterBean<T> createBean(Class<T> clazz) {
         Bean<T> bean = (Bean<T>) beanManager.getBeans(clazz).iterator().next();
-        CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-        return (T) beanManager.getReference(bean, clazz, ctx);
+        boolean shared = beanManager.isNormalScope(bean.getScope()) || Singleton.class.equals(bean.getScope());
+        return new ConverterBean<>(clazz, bean, shared);
+    }
+
+    private final class ConverterBean<T> {
+
+        private final Class<T> clazz;
+
+        private final Bean<T> bean;
+
+        private final T reference;
+
+        ConverterBean(Class<T> clazz, Bean<T> bean, boolean shared) {
+            this.clazz = clazz;
+            this.bean = bean;
+            this.reference = shared ? createReference() : null;
+        }
+
+        T get() {
+            if (reference != null) {
+                return reference;
+            }
+            return createReference();
+        }
+
+        private T createReference() {
+            CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
+            return (T) beanManager.getReference(bean, clazz, ctx);
+        }
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultConverters{");
         sb.append("beanManager=").append(beanManager);
+        sb.append(", converters=").append(beans.keySet());
+        sb.append(", hits=").append(hits.sum());
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A size bounded cache to the entities of a class in the database format, e.g. the ColumnEntity or the
+ * DocumentEntity, by the id. When it is full the least recently used entity is evicted and, when there is
+ * a time to live, the expired entities are evicted on read.
+ */
+public final class EntityCache {
+
+    private final String name;
+
+    private final int size;
+
+    private final long ttl;
+
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<Object, CachedEntity> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private long version;
+
+    EntityCache(String name, int size, long ttlNanos, LongSupplier ticker) {
+        this.name = name;
+        this.size = size;
+        this.ttl = ttlNanos;
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<Object, CachedEntity>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedEntity> eldest) {
+                if (size() > EntityCache.this.size) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the entity name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the entity from the id
+     *
+     * @param id the id in the database format
+     * @return the entity otherwise {@link Optional#empty()}
+     * @throws NullPointerException when id is null
+     */
+    public Optional<Object> get(Object id) {
+        requireNonNull(id, "id is required");
+        synchronized (entries) {
+            CachedEntity entry = entries.get(id);
+            if (entry != null && entry.isExpired(ttl, ticker.getAsLong())) {
+                entries.remove(id);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.value);
+        }
+    }
+
+    /**
+     * Puts the entity
+     *
+     * @param id     the id in the database format
+     * @param entity the entity in the database format
+     * @throws NullPointerException when there is null parameter
+     */
+    public void put(Object id, Object entity) {
+        requireNonNull(id, "id is required");
+        requireNonNull(entity, "entity is required");
+        CachedEntity entry = new CachedEntity(entity, ticker.getAsLong());
+        synchronized (entries) {
+            entries.put(id, entry);
+        }
+    }
+
+    /**
+     * Returns the version of this cache, that changes on every removal. It is read before going to the database,
+     * so the entity is not put back with {@link EntityCache#put(Object, Object, long)} when it was removed
+     * by a write meanwhile.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        synchronized (entries) {
+            return version;
+        }
+    }
+
+    /**
+     * Puts the entity when the cache has not changed since the version
+     *
+     * @param id      the id in the database format
+     * @param entity  the entity in the database format
+     * @param version the version read with {@link EntityCache#getVersion()}
+     * @return true when the entity was put
+     * @throws NullPointerException when there is null parameter
+     */
+    public boolean put(Object id, Object entity, long version) {
+        requireNonNull(id, "id is required");
+        requireNonNull(entity, "entity is required");
+        CachedEntity entry = new CachedEntity(entity, ticker.getAsLong());
+        synchronized (entries) {
+            if (this.version != version) {
+                return false;
+            }
+            entries.put(id, entry);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the entity from the id
+     *
+     * @param id the id in the database format
+     * @throws NullPointerException when id is null
+     */
+    public void remove(Object id) {
+        requireNonNull(id, "id is required");
+        synchronized (entries) {
+            version++;
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * Removes all the entities
+     */
+    public void clear() {
+        synchronized (entries) {
+            version++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes the expired entities
+     */
+    public void cleanUp() {
+        if (ttl <= 0) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        synchronized (entries) {
+            for (Iterator<CachedEntity> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                if (iterator.next().isExpired(ttl, now)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of entities in the cache
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the number of the entities found
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of the entities not found
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of the entities removed because the cache was full or they have expired
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EntityCache{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", size=").append(size);
+        sb.append(", ttl=").append(ttl);
+        sb.append(", hits=").append(getHits());
+        sb.append(", misses=").append(getMisses());
+        sb.append(", evictions=").append(getEvictions());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class CachedEntity {
+
+        private final Object value;
+
+        private final long created;
+
+        private CachedEntity(Object value, long created) {
+            this.value = value;
+            this.created = created;
+        }
+
+        private boolean isExpired(long ttl, long now) {
+            return ttl > 0 && now - created >= ttl;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.reflection.ClassMapping;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link EntityCache} and the {@link QueryCache} of the entities of a database, there is one instance to each
+ * database manager, so the templates of the same manager share the same cache. The cache of an entity is enabled
+ * either with {@link Cacheable} or with the system properties artemis.cache.[entity name].size,
+ * artemis.cache.[entity name].queries and artemis.cache.[entity name].ttl, in seconds, that take precedence over
+ * the annotation. The size zero disables it.
+ */
+public final class EntityCaches {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityCaches.class.getName());
+
+    private static final String PREFIX = "artemis.cache.";
+
+    private static final Map<Object, EntityCaches> DATABASES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Class<?>, Optional<EntityCache>> cachesByClass = new ConcurrentHashMap<>();
+
+    private final Map<String, EntityCache> caches = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Optional<QueryCache>> queryCachesByClass = new ConcurrentHashMap<>();
+
+    private final Map<String, QueryCache> queryCaches = new ConcurrentHashMap<>();
+
+    EntityCaches() {
+    }
+
+    /**
+     * Returns the {@link EntityCaches} of a database manager
+     *
+     * @param manager the database manager
+     * @return the {@link EntityCaches} to the manager
+     * @throws NullPointerException when manager is null
+     */
+    public static EntityCaches of(Object manager) {
+        requireNonNull(manager, "manager is required");
+        return DATABASES.computeIfAbsent(manager, m -> new EntityCaches());
+    }
+
+    /**
+     * Returns the {@link EntityCache} to the class
+     *
+     * @param mapping the class mapping
+     * @return the {@link EntityCache} otherwise {@link Optional#empty()} when the cache is not enabled to the class
+     * @throws NullPointerException when mapping is null
+     */
+    public Optional<EntityCache> get(ClassMapping mapping) {
+        requireNonNull(mapping, "mapping is required");
+        return cachesByClass.computeIfAbsent(mapping.getClassInstance(), c -> create(mapping));
+    }
+
+    /**
+     * Returns the {@link QueryCache} to the class
+     *
+     * @param mapping the class mapping
+     * @return the {@link QueryCache} otherwise {@link Optional#empty()} when the cache is not enabled to the class
+     * @throws NullPointerException when mapping is null
+     */
+    public Optional<QueryCache> getQueries(ClassMapping mapping) {
+        requireNonNull(mapping, "mapping is required");
+        return queryCachesByClass.computeIfAbsent(mapping.getClassInstance(), c -> createQueries(mapping));
+    }
+
+    /**
+     * Removes all the entities and the query results of an entity name
+     *
+     * @param name the entity name
+     * @throws NullPointerException when name is null
+     */
+    public void invalidate(String name) {
+        requireNonNull(name, "name is required");
+        EntityCache cache = caches.get(name);
+        if (cache != null) {
+            cache.clear();
+        }
+        invalidateQueries(name);
+    }
+
+    /**
+     * Removes all the query results of an entity name
+     *
+     * @param name the entity name
+     * @throws NullPointerException when name is null
+     */
+    public void invalidateQueries(String name) {
+        requireNonNull(name, "name is required");
+        QueryCache cache = queryCaches.get(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Removes all the entities and the query results of all the caches
+     */
+    public void invalidateAll() {
+        caches.values().forEach(EntityCache::clear);
+        queryCaches.values().forEach(QueryCache::clear);
+    }
+
+    /**
+     * Returns the caches enabled, to monitor them
+     *
+     * @return the caches by the entity name
+     */
+    public Map<String, EntityCache> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    /**
+     * Returns the query caches enabled, to monitor them
+     *
+     * @return the query caches by the entity name
+     */
+    public Map<String, QueryCache> getQueryCaches() {
+        return Collections.unmodifiableMap(queryCaches);
+    }
+
+    private Optional<EntityCache> create(ClassMapping mapping) {
+        String name = mapping.getName();
+        Cacheable cacheable = mapping.getClassInstance().getAnnotation(Cacheable.class);
+        int size = Integer.getInteger(PREFIX + name + ".size", cacheable == null ? 0 : cacheable.size());
+        if (size <= 0) {
+            return Optional.empty();
+        }
+        long ttlNanos = getTtl(name, cacheable);
+        EntityCache cache = caches.computeIfAbsent(name, n -> new EntityCache(n, size, ttlNanos, System::nanoTime));
+        LOGGER.fine(() -> "Second-level cache enabled: " + cache);
+        return Optional.of(cache);
+    }
+
+    private Optional<QueryCache> createQueries(ClassMapping mapping) {
+        String name = mapping.getName();
+        Cacheable cacheable = mapping.getClassInstance().getAnnotation(Cacheable.class);
+        long maxWeight = Long.getLong(PREFIX + name + ".queries", cacheable == null ? 0 : cacheable.queries());
+        if (maxWeight <= 0) {
+            return Optional.empty();
+        }
+        long ttlNanos = getTtl(name, cacheable);
+        QueryCache cache = queryCaches.computeIfAbsent(name,
+                n -> new QueryCache(n, maxWeight, ttlNanos, System::nanoTime));
+        LOGGER.fine(() -> "Query cache enabled: " + cache);
+        return Optional.of(cache);
+    }
+
+    private static long getTtl(String name, Cacheable cacheable) {
+        long defaultTtl = cacheable == null ? 0 : cacheable.unit().toNanos(cacheable.ttl());
+        Long ttl = Long.getLong(PREFIX + name + ".ttl");
+        return ttl == null ? defaultTtl : TimeUnit.SECONDS.toNanos(ttl);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The last state written to or read from the database of each entity instance, that the templates use to send
+ * only what changed. The entities are compared by identity and held by weak references, so a snapshot
+ * lives no longer than its entity. This class is thread-safe.
+ *
+ * @param <S> the snapshot type
+ */
+public final class EntitySnapshots<S> {
+
+    private final Map<Reference, S> snapshots = new HashMap<>();
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Sets the snapshot of an entity
+     *
+     * @param entity   the entity instance
+     * @param snapshot the snapshot
+     * @throws NullPointerException when either entity or snapshot is null
+     */
+    public synchronized void put(Object entity, S snapshot) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(snapshot, "snapshot is required");
+        expunge();
+        snapshots.put(new Reference(entity, queue), snapshot);
+    }
+
+    /**
+     * Returns the snapshot of an entity
+     *
+     * @param entity the entity instance
+     * @return the snapshot otherwise {@link Optional#empty()}
+     * @throws NullPointerException when entity is null
+     */
+    public synchronized Optional<S> get(Object entity) {
+        requireNonNull(entity, "entity is required");
+        expunge();
+        return Optional.ofNullable(snapshots.get(new Reference(entity, null)));
+    }
+
+    /**
+     * Removes the snapshot of an entity
+     *
+     * @param entity the entity instance
+     * @throws NullPointerException when entity is null
+     */
+    public synchronized void remove(Object entity) {
+        requireNonNull(entity, "entity is required");
+        expunge();
+        snapshots.remove(new Reference(entity, null));
+    }
+
+    /**
+     * Returns the number of entities tracked
+     *
+     * @return the number of snapshots
+     */
+    public synchronized int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    private void expunge() {
+        for (Object reference = queue.poll(); reference != null; reference = queue.poll()) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static final class Reference extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private Reference(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Reference)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((Reference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
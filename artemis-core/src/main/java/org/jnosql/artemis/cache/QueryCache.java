@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A cache to the query results of an entity name in the database format, e.g. the list of ColumnEntity
+ * or DocumentEntity, by a key built from the query. The weight of a result is the number of entities in it,
+ * when the sum of the weights is bigger than the maximum the least recently used results are evicted and,
+ * when there is a time to live, the expired results are evicted on read. Any write to the entity name
+ * should clear it.
+ */
+public final class QueryCache {
+
+    private final String name;
+
+    private final long maxWeight;
+
+    private final long ttl;
+
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<Object, CachedResult> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private long weight;
+
+    private long version;
+
+    QueryCache(String name, long maxWeight, long ttlNanos, LongSupplier ticker) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttl = ttlNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return the entity name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the result of the query
+     *
+     * @param key the key of the query
+     * @return the entities in the database format, that cannot be modified, otherwise {@link Optional#empty()}
+     * @throws NullPointerException when key is null
+     */
+    public Optional<List<Object>> get(Object key) {
+        requireNonNull(key, "key is required");
+        synchronized (entries) {
+            CachedResult entry = entries.get(key);
+            if (entry != null && entry.isExpired(ttl, ticker.getAsLong())) {
+                remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.entities);
+        }
+    }
+
+    /**
+     * Returns the version of this cache, that changes on every clear. It is read before going to the database,
+     * so the result is not put with {@link QueryCache#put(Object, List, long)} when a write cleared the cache
+     * meanwhile.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        synchronized (entries) {
+            return version;
+        }
+    }
+
+    /**
+     * Puts the result of the query when the cache has not changed since the version, a result bigger
+     * than the maximum weight is not put
+     *
+     * @param key      the key of the query
+     * @param entities the entities in the database format
+     * @param version  the version read with {@link QueryCache#getVersion()}
+     * @return true when the result was put
+     * @throws NullPointerException when there is null parameter
+     */
+    public boolean put(Object key, List<?> entities, long version) {
+        requireNonNull(key, "key is required");
+        requireNonNull(entities, "entities is required");
+        CachedResult entry = new CachedResult(entities, ticker.getAsLong());
+        if (entry.weight > maxWeight) {
+            return false;
+        }
+        synchronized (entries) {
+            if (this.version != version) {
+                return false;
+            }
+            remove(key);
+            entries.put(key, entry);
+            weight += entry.weight;
+            for (Iterator<CachedResult> iterator = entries.values().iterator(); weight > maxWeight; ) {
+                weight -= iterator.next().weight;
+                iterator.remove();
+                evictions.increment();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes all the results
+     */
+    public void clear() {
+        synchronized (entries) {
+            version++;
+            weight = 0;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes the expired results
+     */
+    public void cleanUp() {
+        if (ttl <= 0) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        synchronized (entries) {
+            for (Iterator<CachedResult> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                CachedResult entry = iterator.next();
+                if (entry.isExpired(ttl, now)) {
+                    weight -= entry.weight;
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of results in the cache
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the sum of the weights of the results in the cache
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * @return the number of the results found
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of the results not found
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of the results removed because the cache was full or they have expired
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void remove(Object key) {
+        CachedResult entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("QueryCache{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", maxWeight=").append(maxWeight);
+        sb.append(", ttl=").append(ttl);
+        sb.append(", hits=").append(getHits());
+        sb.append(", misses=").append(getMisses());
+        sb.append(", evictions=").append(getEvictions());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class CachedResult {
+
+        private final List<Object> entities;
+
+        private final long weight;
+
+        private final long created;
+
+        private CachedResult(List<?> entities, long created) {
+            this.entities = Collections.unmodifiableList(new ArrayList<>(entities));
+            this.weight = Math.max(1, entities.size());
+            this.created = created;
+        }
+
+        private boolean isExpired(long ttl, long now) {
+            return ttl > 0 && now - created >= ttl;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.BeforeDestroyed;
+import javax.enterprise.context.Destroyed;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+
+/**
+ * Binds a {@link UnitOfWork} to every request when the system property artemis.unitOfWork.request is true,
+ * it begins with the request scope and flushes before the scope is destroyed.
+ */
+@ApplicationScoped
+class RequestUnitOfWorkObserver {
+
+    static final String ENABLED = "artemis.unitOfWork.request";
+
+    private final ThreadLocal<UnitOfWork> unitOfWork = new ThreadLocal<>();
+
+    void begin(@Observes @Initialized(RequestScoped.class) Object event) {
+        if (Boolean.getBoolean(ENABLED) && !UnitOfWork.current().isPresent()) {
+            unitOfWork.set(UnitOfWork.begin());
+        }
+    }
+
+    void flush(@Observes @BeforeDestroyed(RequestScoped.class) Object event) {
+        UnitOfWork current = unitOfWork.get();
+        if (current != null) {
+            unitOfWork.remove();
+            current.close();
+        }
+    }
+
+    void end(@Observes @Destroyed(RequestScoped.class) Object event) {
+        UnitOfWork current = unitOfWork.get();
+        if (current != null) {
+            unitOfWork.remove();
+            current.discard();
+        }
+    }
+}
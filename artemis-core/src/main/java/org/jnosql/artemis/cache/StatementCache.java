@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A size bounded cache to the statements parsed from the query text, so the same query is parsed just once.
+ * The parsed statement must be immutable, since it is shared between the threads; the parameters are bound
+ * in each execution. When it is full the least recently used statement is evicted, the size is defined
+ * by the property artemis.statementCache.size and zero disables it.
+ *
+ * @param <T> the parsed statement type
+ */
+public final class StatementCache<T> {
+
+    static final String SIZE = "artemis.statementCache.size";
+
+    private static final int DEFAULT_SIZE = 500;
+
+    private final int size;
+
+    private final Function<String, T> parser;
+
+    private final Map<String, T> statements;
+
+    StatementCache(int size, Function<String, T> parser) {
+        this.size = size;
+        this.parser = parser;
+        this.statements = new LinkedHashMap<String, T>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > StatementCache.this.size;
+            }
+        };
+    }
+
+    /**
+     * Returns the statement parsed from the query, it parses the query when it is not in the cache
+     *
+     * @param query the query
+     * @return the statement
+     * @throws NullPointerException when query is null
+     */
+    public T get(String query) {
+        requireNonNull(query, "query is required");
+        if (size <= 0) {
+            return parser.apply(query);
+        }
+        synchronized (statements) {
+            T statement = statements.get(query);
+            if (statement != null) {
+                return statement;
+            }
+        }
+        T statement = parser.apply(query);
+        synchronized (statements) {
+            statements.putIfAbsent(query, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * @return the number of statements in the cache
+     */
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    /**
+     * Removes all the statements
+     */
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    /**
+     * Creates a cache with the size from the property artemis.statementCache.size
+     *
+     * @param parser the function that parses the query
+     * @param <T>    the parsed statement type
+     * @return a new {@link StatementCache}
+     * @throws NullPointerException when parser is null
+     */
+    public static <T> StatementCache<T> of(Function<String, T> parser) {
+        requireNonNull(parser, "parser is required");
+        return new StatementCache<>(Integer.getInteger(SIZE, DEFAULT_SIZE), parser);
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An identity map and a queue of deferred writes bound to the current thread. While it is active the templates
+ * return the instance already hydrated to the same database, entity name and id, and they defer the inserts,
+ * updates and deletes by id, that are flushed as batches either before a query that could read them or when it
+ * is closed. Either begin it explicitly, with try-with-resources, or enable it to every CDI request with the
+ * system property artemis.unitOfWork.request.
+ * This class is not thread-safe, there is one instance by thread.
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, Object> entities = new HashMap<>();
+
+    private final Set<Key> deleted = new HashSet<>();
+
+    private final Map<Key, Write> writes = new LinkedHashMap<>();
+
+    UnitOfWork() {
+    }
+
+    /**
+     * Begins a unit of work in the current thread
+     *
+     * @return the {@link UnitOfWork} begun
+     * @throws IllegalStateException when there is already a unit of work in the current thread
+     */
+    public static UnitOfWork begin() {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("There is already a unit of work in the current thread");
+        }
+        UnitOfWork unitOfWork = new UnitOfWork();
+        CURRENT.set(unitOfWork);
+        return unitOfWork;
+    }
+
+    /**
+     * Returns the unit of work of the current thread
+     *
+     * @return the {@link UnitOfWork} otherwise {@link Optional#empty()}
+     */
+    public static Optional<UnitOfWork> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the instance already hydrated to the id
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it
+     * @param <T>      the entity type
+     * @return the entity otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either database, name or id is null
+     */
+    public <T> Optional<T> get(Object database, String name, Object id) {
+        return Optional.ofNullable((T) entities.get(new Key(database, name, requireNonNull(id, "id is required"))));
+    }
+
+    /**
+     * Checks if the entity was deleted in this unit of work
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it
+     * @return true when the entity was deleted and not inserted again
+     * @throws NullPointerException when either database, name or id is null
+     */
+    public boolean isDeleted(Object database, String name, Object id) {
+        return deleted.contains(new Key(database, name, requireNonNull(id, "id is required")));
+    }
+
+    /**
+     * Registers an entity loaded from the database and returns the instance of the identity map,
+     * that is the one registered first to the same id.
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it, when it is null the entity is not registered
+     * @param entity   the entity loaded
+     * @param <T>      the entity type
+     * @return the instance of the identity map
+     * @throws NullPointerException when either database, name or entity is null
+     */
+    public <T> T register(Object database, String name, Object id, T entity) {
+        requireNonNull(entity, "entity is required");
+        if (id == null) {
+            return entity;
+        }
+        Key key = new Key(database, name, id);
+        deleted.remove(key);
+        Object registered = entities.putIfAbsent(key, entity);
+        return registered == null ? entity : (T) registered;
+    }
+
+    /**
+     * Defers the insert of the entity, that also becomes the instance of the identity map
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it, it might be null
+     * @param entity   the entity
+     * @param writer   the writer that will insert the entity
+     * @throws NullPointerException when either database, name, entity or writer is null
+     */
+    public void insert(Object database, String name, Object id, Object entity, UnitOfWorkWriter writer) {
+        defer(new Write(Kind.INSERT, key(database, name, id, entity), entity, null, null, writer));
+    }
+
+    /**
+     * Defers the update of the entity, that also becomes the instance of the identity map
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it, it might be null
+     * @param entity   the entity
+     * @param writer   the writer that will update the entity
+     * @throws NullPointerException when either database, name, entity or writer is null
+     */
+    public void update(Object database, String name, Object id, Object entity, UnitOfWorkWriter writer) {
+        defer(new Write(Kind.UPDATE, key(database, name, id, entity), entity, null, null, writer));
+    }
+
+    /**
+     * Defers the delete of the entity and removes it from the identity map
+     *
+     * @param database    the database manager
+     * @param name        the entity name
+     * @param id          the id as the database holds it
+     * @param entityClass the entity class
+     * @param entityId    the id as the entity holds it
+     * @param writer      the writer that will delete the entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public void delete(Object database, String name, Object id, Class<?> entityClass, Object entityId,
+                       UnitOfWorkWriter writer) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(entityId, "entityId is required");
+        Key key = new Key(database, name, requireNonNull(id, "id is required"));
+        defer(new Write(Kind.DELETE, key, null, entityClass, entityId, writer));
+    }
+
+    /**
+     * Replaces the instance of the identity map to the id, e.g. with the entity returned by a write that
+     * is not deferred
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it
+     * @param entity   the entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public void refresh(Object database, String name, Object id, Object entity) {
+        requireNonNull(entity, "entity is required");
+        Key key = new Key(database, name, requireNonNull(id, "id is required"));
+        deleted.remove(key);
+        entities.put(key, entity);
+    }
+
+    /**
+     * Removes an entity from the identity map, so the next read loads it again
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @param id       the id as the database holds it
+     * @throws NullPointerException when either database, name or id is null
+     */
+    public void remove(Object database, String name, Object id) {
+        entities.remove(new Key(database, name, requireNonNull(id, "id is required")));
+    }
+
+    /**
+     * Removes the entities of an entity name from the identity map, so the next reads load them again
+     *
+     * @param database the database manager
+     * @param name     the entity name
+     * @throws NullPointerException when either database or name is null
+     */
+    public void evict(Object database, String name) {
+        requireNonNull(database, "database is required");
+        requireNonNull(name, "name is required");
+        entities.keySet().removeIf(k -> k.database == database && k.name.equals(name));
+    }
+
+    /**
+     * Removes all the entities of a database from the identity map
+     *
+     * @param database the database manager
+     * @throws NullPointerException when database is null
+     */
+    public void evictAll(Object database) {
+        requireNonNull(database, "database is required");
+        entities.keySet().removeIf(k -> k.database == database);
+    }
+
+    /**
+     * Returns the number of writes deferred
+     *
+     * @return the number of writes that were not flushed
+     */
+    public int getPendingWrites() {
+        return writes.size();
+    }
+
+    /**
+     * Flushes the writes deferred to a database
+     *
+     * @param database the database manager
+     * @throws NullPointerException when database is null
+     */
+    public void flush(Object database) {
+        requireNonNull(database, "database is required");
+        flush(w -> w.key.database == database);
+    }
+
+    /**
+     * Flushes all the writes deferred, the consecutive inserts or updates of the same writer are sent as a batch.
+     * When a write fails, it and the writes after it are kept deferred, so either flush again or {@link #discard()}.
+     */
+    public void flush() {
+        flush(w -> true);
+    }
+
+    /**
+     * Discards the writes deferred and the identity map without flushing them, and ends the unit of work
+     */
+    public void discard() {
+        writes.clear();
+        end();
+    }
+
+    /**
+     * Flushes the writes deferred and ends the unit of work
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Runs the action without the unit of work of the current thread, so the writes it does go to the database
+     *
+     * @param action the action
+     */
+    static void suspend(Runnable action) {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            action.run();
+            return;
+        }
+        CURRENT.remove();
+        try {
+            action.run();
+        } finally {
+            CURRENT.set(current);
+        }
+    }
+
+    private void end() {
+        entities.clear();
+        deleted.clear();
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    private void defer(Write write) {
+        Write previous = writes.get(write.key);
+        if (previous != null && Kind.DELETE.equals(previous.kind) && !Kind.DELETE.equals(write.kind)) {
+            flush(previous.key.database);
+            previous = null;
+        }
+        if (previous != null && Kind.INSERT.equals(previous.kind) && Kind.UPDATE.equals(write.kind)) {
+            write = new Write(Kind.INSERT, write.key, write.entity, null, null, write.writer);
+        }
+        writes.put(write.key, write);
+
+        if (write.key.id instanceof Identity) {
+            return;
+        }
+        if (Kind.DELETE.equals(write.kind)) {
+            entities.remove(write.key);
+            deleted.add(write.key);
+        } else {
+            entities.put(write.key, write.entity);
+            deleted.remove(write.key);
+        }
+    }
+
+    private void flush(Predicate<Write> filter) {
+        List<Write> pending = new ArrayList<>();
+        for (Iterator<Write> iterator = writes.values().iterator(); iterator.hasNext(); ) {
+            Write write = iterator.next();
+            if (filter.test(write)) {
+                pending.add(write);
+                iterator.remove();
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        boolean isCurrent = CURRENT.get() == this;
+        if (isCurrent) {
+            CURRENT.remove();
+        }
+        int index = 0;
+        try {
+            while (index < pending.size()) {
+                Write first = pending.get(index);
+                if (Kind.DELETE.equals(first.kind)) {
+                    first.writer.delete(first.entityClass, first.entityId);
+                    index++;
+                    continue;
+                }
+                List<Object> batch = new ArrayList<>();
+                int end = index;
+                for (; end < pending.size() && pending.get(end).isBatchOf(first); end++) {
+                    batch.add(pending.get(end).entity);
+                }
+                if (Kind.INSERT.equals(first.kind)) {
+                    first.writer.insert(batch);
+                } else {
+                    first.writer.update(batch);
+                }
+                index = end;
+            }
+        } catch (RuntimeException e) {
+            requeue(pending.subList(index, pending.size()));
+            throw e;
+        } finally {
+            if (isCurrent) {
+                CURRENT.set(this);
+            }
+        }
+    }
+
+    private void requeue(List<Write> failed) {
+        Map<Key, Write> remaining = new LinkedHashMap<>();
+        failed.forEach(w -> remaining.put(w.key, w));
+        remaining.putAll(writes);
+        writes.clear();
+        writes.putAll(remaining);
+    }
+
+    private static Key key(Object database, String name, Object id, Object entity) {
+        requireNonNull(entity, "entity is required");
+        return new Key(database, name, id == null ? new Identity(entity) : id);
+    }
+
+    private enum Kind {
+        INSERT, UPDATE, DELETE
+    }
+
+    private static final class Write {
+
+        private final Kind kind;
+
+        private final Key key;
+
+        private final Object entity;
+
+        private final Class<?> entityClass;
+
+        private final Object entityId;
+
+        private final UnitOfWorkWriter writer;
+
+        private Write(Kind kind, Key key, Object entity, Class<?> entityClass, Object entityId,
+                      UnitOfWorkWriter writer) {
+            this.kind = kind;
+            this.key = key;
+            this.entity = entity;
+            this.entityClass = entityClass;
+            this.entityId = entityId;
+            this.writer = requireNonNull(writer, "writer is required");
+        }
+
+        private boolean isBatchOf(Write write) {
+            return kind.equals(write.kind) && writer.equals(write.writer);
+        }
+    }
+
+    private static final class Key {
+
+        private final Object database;
+
+        private final String name;
+
+        private final Object id;
+
+        private Key(Object database, String name, Object id) {
+            this.database = requireNonNull(database, "database is required");
+            this.name = requireNonNull(name, "name is required");
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return database == key.database && name.equals(key.name) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(database), name, id);
+        }
+    }
+
+    private static final class Identity {
+
+        private final Object value;
+
+        private Identity(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity && ((Identity) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+/**
+ * The database operations that a {@link UnitOfWork} or a {@link WriteBehind} uses to flush the writes it deferred,
+ * the templates implement it writing straight to the database.
+ */
+public interface UnitOfWorkWriter {
+
+    /**
+     * Inserts the entities as a batch
+     *
+     * @param entities the entities
+     */
+    void insert(Iterable<Object> entities);
+
+    /**
+     * Updates the entities as a batch
+     *
+     * @param entities the entities
+     */
+    void update(Iterable<Object> entities);
+
+    /**
+     * Deletes an entity by id
+     *
+     * @param entityClass the entity class
+     * @param id          the id, as the entity holds it
+     */
+    void delete(Class<?> entityClass, Object id);
+}
@@ -0,0 +1,467 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.artemis.util.Batches;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded buffer of the inserts and updates of a database, that are written later in batches instead of one
+ * entity at a time. The writes to the same entity name and id are coalesced and the last one wins. The buffer is
+ * flushed in the background either when it reaches the size of a batch, {@link Batches#getSize()}, or at each
+ * interval, and explicitly with {@link WriteBehind#flush()}. When the buffer is full the caller flushes it, so the
+ * writers slow down to the pace of the database. It is disabled by default and enabled with the system property
+ * artemis.writeBehind.size, the capacity of the buffer, and the interval is defined by
+ * artemis.writeBehind.interval, in milliseconds, 1,000 by default. The buffer is drained when it is closed and when
+ * the JVM shuts down. Each template holds its own instance, it is thread-safe. The buffers share one background
+ * thread, and the buffer of a template that is no longer used is collected once it has no pending writes.
+ * The background writes are not confirmed to the caller, when they fail the error is logged and the write that failed
+ * and the writes after it are kept in the buffer, so the next flush retries them.
+ */
+public final class WriteBehind implements AutoCloseable {
+
+    static final String SIZE = "artemis.writeBehind.size";
+
+    static final String INTERVAL = "artemis.writeBehind.interval";
+
+    private static final long DEFAULT_INTERVAL = 1_000L;
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehind.class.getName());
+
+    private static final Set<WriteBehind> PENDING = ConcurrentHashMap.newKeySet();
+
+    private final UnitOfWorkWriter writer;
+
+    private final int capacity;
+
+    private final int threshold;
+
+    private final Map<Key, Write> writes = new LinkedHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Future<?> task;
+
+    private final LongAdder coalescedWrites = new LongAdder();
+
+    private final LongAdder flushedWrites = new LongAdder();
+
+    private final LongAdder failedWrites = new LongAdder();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private volatile boolean closed;
+
+    WriteBehind(UnitOfWorkWriter writer, int capacity, int threshold, long interval) {
+        this.writer = requireNonNull(writer, "writer is required");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the buffer must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.threshold = Math.max(1, threshold);
+        Flusher flusher = new Flusher(this);
+        this.task = Scheduler.EXECUTOR.scheduleWithFixedDelay(flusher, interval, interval, TimeUnit.MILLISECONDS);
+        flusher.task = task;
+    }
+
+    /**
+     * Returns the supplier of the buffer of a template. The buffer is created by the first call once it is enabled and
+     * it is kept by the supplier, so the template that holds the supplier holds the buffer.
+     *
+     * @param writer the writer that flushes the buffer
+     * @return the supplier of the {@link WriteBehind}, it returns {@link Optional#empty()} when it is disabled or
+     * already closed
+     * @throws NullPointerException when writer is null
+     */
+    public static Supplier<Optional<WriteBehind>> of(UnitOfWorkWriter writer) {
+        requireNonNull(writer, "writer is required");
+        AtomicReference<WriteBehind> buffer = new AtomicReference<>();
+        return () -> {
+            WriteBehind writeBehind = buffer.get();
+            if (writeBehind == null) {
+                int capacity = Integer.getInteger(SIZE, 0);
+                if (capacity <= 0) {
+                    return Optional.empty();
+                }
+                long interval = Math.max(1L, Long.getLong(INTERVAL, DEFAULT_INTERVAL));
+                synchronized (buffer) {
+                    if (buffer.get() == null) {
+                        buffer.set(new WriteBehind(writer, capacity, Math.min(Batches.getSize(), capacity), interval));
+                    }
+                    writeBehind = buffer.get();
+                }
+            }
+            return writeBehind.closed ? Optional.empty() : Optional.of(writeBehind);
+        };
+    }
+
+    /**
+     * Defers the insert of the entity
+     *
+     * @param name   the entity name
+     * @param id     the id as the database holds it, when it is null the write is not coalesced
+     * @param entity the entity
+     * @throws NullPointerException  when either name or entity is null
+     * @throws IllegalStateException when the buffer is closed
+     */
+    public void insert(String name, Object id, Object entity) {
+        defer(Kind.INSERT, name, id, entity);
+    }
+
+    /**
+     * Defers the update of the entity
+     *
+     * @param name   the entity name
+     * @param id     the id as the database holds it, when it is null the write is not coalesced
+     * @param entity the entity
+     * @throws NullPointerException  when either name or entity is null
+     * @throws IllegalStateException when the buffer is closed
+     */
+    public void update(String name, Object id, Object entity) {
+        defer(Kind.UPDATE, name, id, entity);
+    }
+
+    /**
+     * Discards the write deferred to the entity, e.g. because it is deleted. It waits the flush in progress,
+     * so the write is not sent after the return of this method.
+     *
+     * @param name the entity name
+     * @param id   the id as the database holds it
+     * @throws NullPointerException when either name or id is null
+     */
+    public void remove(String name, Object id) {
+        Key key = new Key(name, requireNonNull(id, "id is required"));
+        flushLock.lock();
+        try {
+            synchronized (writes) {
+                writes.remove(key);
+                if (writes.isEmpty()) {
+                    PENDING.remove(this);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every write deferred, the consecutive inserts or updates are sent as a batch.
+     * When a write fails, it and the writes after it are kept in the buffer ahead of the writes deferred later.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Write> pending;
+            synchronized (writes) {
+                pending = new ArrayList<>(writes.values());
+                writes.clear();
+            }
+            if (!pending.isEmpty()) {
+                UnitOfWork.suspend(() -> write(pending));
+            }
+        } finally {
+            synchronized (writes) {
+                if (writes.isEmpty()) {
+                    PENDING.remove(this);
+                }
+            }
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of writes deferred
+     *
+     * @return the number of writes that were not flushed
+     */
+    public int getPendingWrites() {
+        synchronized (writes) {
+            return writes.size();
+        }
+    }
+
+    /**
+     * Returns the number of writes replaced by a later one to the same entity
+     *
+     * @return the coalesced writes
+     */
+    public long getCoalescedWrites() {
+        return coalescedWrites.sum();
+    }
+
+    /**
+     * Returns the number of entities written
+     *
+     * @return the flushed writes
+     */
+    public long getFlushedWrites() {
+        return flushedWrites.sum();
+    }
+
+    /**
+     * Returns the number of entities whose write failed, they are kept in the buffer and retried by the next flush
+     *
+     * @return the failed writes
+     */
+    public long getFailedWrites() {
+        return failedWrites.sum();
+    }
+
+    /**
+     * Returns the number of flushes that wrote at least one entity
+     *
+     * @return the flushes
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Checks if the buffer is closed
+     *
+     * @return true when it is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops the background flushes and drains the buffer, the templates write straight to the database after it
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        task.cancel(false);
+        flush();
+    }
+
+    private void defer(Kind kind, String name, Object id, Object entity) {
+        requireNonNull(entity, "entity is required");
+        Key key = new Key(name, id == null ? new Object() : id);
+        int size = offer(key, kind, entity);
+        while (size < 0) {
+            flush();
+            size = offer(key, kind, entity);
+        }
+        if (size >= threshold && flushRequested.compareAndSet(false, true)) {
+            Scheduler.EXECUTOR.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    private int offer(Key key, Kind kind, Object entity) {
+        synchronized (writes) {
+            if (closed) {
+                throw new IllegalStateException("The write-behind buffer is closed");
+            }
+            Write previous = writes.get(key);
+            if (previous == null && writes.size() >= capacity) {
+                return -1;
+            }
+            if (previous != null) {
+                coalescedWrites.increment();
+            }
+            boolean isInsert = previous != null && Kind.INSERT.equals(previous.kind);
+            writes.put(key, new Write(key, isInsert ? Kind.INSERT : kind, entity));
+            PENDING.add(this);
+            return writes.size();
+        }
+    }
+
+    private void write(List<Write> pending) {
+        int index = 0;
+        try {
+            while (index < pending.size()) {
+                Kind kind = pending.get(index).kind;
+                List<Object> batch = new ArrayList<>();
+                for (int next = index; next < pending.size() && kind.equals(pending.get(next).kind); next++) {
+                    batch.add(pending.get(next).entity);
+                }
+                if (Kind.INSERT.equals(kind)) {
+                    writer.insert(batch);
+                } else {
+                    writer.update(batch);
+                }
+                index += batch.size();
+                flushedWrites.add(batch.size());
+            }
+            flushes.increment();
+        } catch (RuntimeException ex) {
+            failedWrites.add(countBatch(pending, index));
+            requeue(pending.subList(index, pending.size()));
+            throw ex;
+        }
+    }
+
+    private static int countBatch(List<Write> pending, int index) {
+        int end = index;
+        while (end < pending.size() && pending.get(index).kind.equals(pending.get(end).kind)) {
+            end++;
+        }
+        return end - index;
+    }
+
+    private void requeue(List<Write> failed) {
+        synchronized (writes) {
+            Map<Key, Write> remaining = new LinkedHashMap<>();
+            failed.forEach(w -> remaining.put(w.key, w));
+            for (Write write : writes.values()) {
+                Write previous = remaining.get(write.key);
+                boolean isInsert = previous != null && Kind.INSERT.equals(previous.kind);
+                remaining.put(write.key, isInsert ? new Write(write.key, Kind.INSERT, write.entity) : write);
+            }
+            writes.clear();
+            writes.putAll(remaining);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.SEVERE, "The write-behind buffer could not write the entities", ex);
+        }
+    }
+
+    private static void drain() {
+        for (WriteBehind writeBehind : new ArrayList<>(PENDING)) {
+            try {
+                writeBehind.close();
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.SEVERE, "The write-behind buffer could not be drained", ex);
+            }
+        }
+    }
+
+    /**
+     * The scheduled flush, it holds the buffer weakly so the schedule does not keep it alive
+     */
+    private static final class Flusher implements Runnable {
+
+        private final WeakReference<WriteBehind> buffer;
+
+        private volatile Future<?> task;
+
+        private Flusher(WriteBehind buffer) {
+            this.buffer = new WeakReference<>(buffer);
+        }
+
+        @Override
+        public void run() {
+            WriteBehind writeBehind = buffer.get();
+            if (writeBehind != null) {
+                writeBehind.flushQuietly();
+            } else if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService EXECUTOR = newExecutor();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(WriteBehind::drain, "artemis-write-behind-shutdown"));
+        }
+
+        private static ScheduledExecutorService newExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "artemis-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    private enum Kind {
+        INSERT, UPDATE
+    }
+
+    private static final class Write {
+
+        private final Key key;
+
+        private final Kind kind;
+
+        private final Object entity;
+
+        private Write(Key key, Kind kind, Object entity) {
+            this.key = key;
+            this.kind = kind;
+            this.entity = entity;
+        }
+    }
+
+    private static final class Key {
+
+        private final String name;
+
+        private final Object id;
+
+        private Key(String name, Object id) {
+            this.name = requireNonNull(name, "name is required");
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return name.equals(key.name) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, id);
+        }
+    }
+}
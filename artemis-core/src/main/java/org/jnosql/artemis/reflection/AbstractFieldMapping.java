@@ -42,6 +42,8 @@ abstract class AbstractFieldMapping implements FieldMapping {
 
     protected final FieldWriter writer;
 
+    protected final ValueCodec codec;
+
     AbstractFieldMapping(FieldType type, Field field, String name,
                          Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
         this.type = type;
@@ -51,6 +53,7 @@ abstract class AbstractFieldMapping implements FieldMapping {
         this.converter = converter;
         this.reader = reader;
         this.writer = writer;
+        this.codec = ValueCodecs.of(field.getType());
     }
 
     @Override
@@ -104,6 +107,33 @@ abstract class AbstractFieldMapping implements FieldMapping {
     }
 
     public Object getValue(Value value) {
-        return value.get(field.getType());
+        return codec.decode(value);
+    }
+
+    @Override
+    public void writeValue(Object bean, Value value) {
+        Objects.requireNonNull(bean, "bean is required");
+        Objects.requireNonNull(value, "value is required");
+        Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive()) {
+            Object raw = value.get();
+            if (raw instanceof Number) {
+                Number number = (Number) raw;
+                if (int.class == fieldType) {
+                    writer.writeInt(bean, number.intValue());
+                    return;
+                } else if (long.class == fieldType) {
+                    writer.writeLong(bean, number.longValue());
+                    return;
+                } else if (double.class == fieldType) {
+                    writer.writeDouble(bean, number.doubleValue());
+                    return;
+                }
+            } else if (raw instanceof Boolean && boolean.class == fieldType) {
+                writer.writeBoolean(bean, (Boolean) raw);
+                return;
+            }
+        }
+        writer.write(bean, getValue(value));
     }
 }
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * A {@link ClassOperation} that creates the operations of a class at once, so the factories are cheaper
+ * when they are called to each field of that class.
+ */
+interface BatchClassOperation extends ClassOperation {
+
+    /**
+     * Prepares the operations to the class and its fields
+     *
+     * @param entityClass the class
+     * @param fields      the fields of the class
+     */
+    void prepare(Class<?> entityClass, List<Field> fields);
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Optional;
+
+/**
+ * The operations of a class that were created at build time, usually by an annotation processor.
+ * The implementations are loaded with {@link java.util.ServiceLoader} and take precedence over the
+ * {@link ClassOperation} in use, that still is the fallback to every field not provided here.
+ */
+public interface ClassAccessor {
+
+    /**
+     * Returns the class that this accessor operates on
+     *
+     * @return the class
+     */
+    Class<?> getEntityClass();
+
+    /**
+     * Returns the {@link InstanceSupplier} of the class
+     *
+     * @return the {@link InstanceSupplier} otherwise {@link Optional#empty()}
+     */
+    Optional<InstanceSupplier> getInstanceSupplier();
+
+    /**
+     * Returns the {@link FieldReader} from the Java field name
+     *
+     * @param fieldName the {@link java.lang.reflect.Field#getName()}
+     * @return the {@link FieldReader} otherwise {@link Optional#empty()}
+     * @throws NullPointerException when fieldName is null
+     */
+    Optional<FieldReader> getReader(String fieldName);
+
+    /**
+     * Returns the {@link FieldWriter} from the Java field name
+     *
+     * @param fieldName the {@link java.lang.reflect.Field#getName()}
+     * @return the {@link FieldWriter} otherwise {@link Optional#empty()}
+     * @throws NullPointerException when fieldName is null
+     */
+    Optional<FieldWriter> getWriter(String fieldName);
+}
@@ -46,6 +46,7 @@ class ClassConverter {
 
     private InstanceSupplierFactory instanceSupplierFactory;
 
+    private BatchClassOperation batchOperation;
 
     @Inject
     ClassConverter(Reflections reflections) {
@@ -55,6 +56,9 @@ class ClassConverter {
         this.readerFactory = classOperation.getFieldReaderFactory();
         this.writerFactory = classOperation.getFieldWriterFactory();
         this.instanceSupplierFactory = classOperation.getInstanceSupplierFactory();
+        if (classOperation instanceof BatchClassOperation) {
+            this.batchOperation = BatchClassOperation.class.cast(classOperation);
+        }
     }
 
     ClassConverter() {
@@ -65,8 +69,7 @@ class ClassConverter {
         long start = System.currentTimeMillis();
         String entityName = reflections.getEntityName(entityClass);
 
-        List<FieldMapping> fields = reflections.getFields(entityClass)
-                .stream().map(this::to).collect(toList());
+        List<FieldMapping> fields = toFields(entityClass);
 
         List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
 
@@ -150,9 +153,7 @@ class ClassConverter {
                               FieldMapping field, String javaField, String nativeField,
                               Class<?> entityClass) {
 
-        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(
-                reflections.getFields(entityClass)
-                        .stream().map(this::to).collect(toList()),
+        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(toFields(entityClass),
                 appendPreparePrefix(javaField, field.getFieldName()), nativeField);
 
         String nativeElement = entityMap.values().stream().map(NativeMapping::getNativeField)
@@ -174,6 +175,13 @@ class ClassConverter {
         }
     }
 
+    private List<FieldMapping> toFields(Class<?> entityClass) {
+        List<Field> fields = reflections.getFields(entityClass);
+        if (nonNull(batchOperation)) {
+            batchOperation.prepare(entityClass, fields);
+        }
+        return fields.stream().map(this::to).collect(toList());
+    }
 
     private FieldMapping to(Field field) {
         FieldType fieldType = FieldType.of(field);
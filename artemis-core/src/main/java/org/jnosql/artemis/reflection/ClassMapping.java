@@ -87,4 +87,35 @@ public interface ClassMapping {
      * @return the field with ID annotation
      */
     Optional<FieldMapping> getId();
+
+    /**
+     * Returns the {@link WritePlan} of the fields, that is created once to this class
+     *
+     * @return the {@link WritePlan}
+     */
+    default WritePlan getWritePlan() {
+        return WritePlan.of(getFields());
+    }
+
+    /**
+     * Returns the {@link ReadPlan} of the fields, that is created once to this class
+     *
+     * @return the {@link ReadPlan}
+     */
+    default ReadPlan getReadPlan() {
+        return ReadPlan.of(getFields());
+    }
+
+    /**
+     * Returns the {@link Projection} of this class to a type, that is created once to each type
+     *
+     * @param type the projection type
+     * @param <P>  the projection type
+     * @return the {@link Projection}
+     * @throws NullPointerException when type is null
+     * @throws ProjectionException  when the type cannot be a projection of this class
+     */
+    default <P> Projection<P> getProjection(Class<P> type) {
+        return Projection.of(this, type);
+    }
 }
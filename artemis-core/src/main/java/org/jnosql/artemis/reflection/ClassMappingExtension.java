@@ -20,22 +20,41 @@ import org.jnosql.artemis.Entity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterTypeDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
 
+import static java.util.stream.Collectors.toList;
 import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
  * Where the key is {@link Class#getName()} and the value is {@link ClassMapping}
+ * The classes are collected while the types are processed, and then all the mappings are created in parallel,
+ * on a {@link ForkJoinPool}, when the type discovery finishes; the parallelism is defined by the
+ * artemis.reflection.scanning.parallelism system property, the number of processors by default.
  */
 @ApplicationScoped
 public class ClassMappingExtension implements Extension {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingExtension.class.getName());
+
+    private static final String PARALLELISM = "artemis.reflection.scanning.parallelism";
+
+    private final List<Class<?>> entities = new ArrayList<>();
+
+    private final List<Class<?>> embeddables = new ArrayList<>();
+
     private final Map<String, ClassMapping> mappings = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassMapping> classes = new ConcurrentHashMap<>();
@@ -56,16 +75,76 @@ public class ClassMappingExtension implements Extension {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
         if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            mappings.put(classMapping.getName(), classMapping);
-            classes.put(javaClass, classMapping);
+            addEntity(annotatedType.getJavaClass());
         } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
+            addEmbeddable(annotatedType.getJavaClass());
+        }
+
+    }
+
+    /**
+     * Event observer that creates the mappings of the classes found
+     *
+     * @param event the event
+     */
+    public void loadMappings(@Observes final AfterTypeDiscovery event) {
+        load();
+    }
+
+    synchronized void addEntity(Class<?> entityClass) {
+        entities.add(entityClass);
+    }
+
+    synchronized void addEmbeddable(Class<?> embeddableClass) {
+        embeddables.add(embeddableClass);
+    }
+
+    synchronized void load() {
+        long start = System.currentTimeMillis();
+        Comparator<Class<?>> byName = Comparator.comparing(Class::getName);
+        List<Class<?>> entityClasses = entities.stream().distinct().sorted(byName).collect(toList());
+        List<Class<?>> embeddableClasses = embeddables.stream().distinct().sorted(byName).collect(toList());
+        entities.clear();
+        embeddables.clear();
+
+        int parallelism = Integer.getInteger(PARALLELISM, Runtime.getRuntime().availableProcessors());
+        List<Class<?>> allClasses = new ArrayList<>(entityClasses);
+        allClasses.addAll(embeddableClasses);
+        List<ClassMapping> created = create(allClasses, parallelism);
+
+        for (int index = 0; index < allClasses.size(); index++) {
+            Class<?> javaClass = allClasses.get(index);
+            ClassMapping classMapping = created.get(index);
+            if (index < entityClasses.size()) {
+                mappings.put(classMapping.getName(), classMapping);
+            }
             classes.put(javaClass, classMapping);
         }
 
+        long end = System.currentTimeMillis() - start;
+        LOGGER.info(String.format("Scanned %d entities and %d embeddables with parallelism %d in %d ms",
+                entityClasses.size(), embeddableClasses.size(), parallelism, end));
+    }
+
+    private List<ClassMapping> create(List<Class<?>> javaClasses, int parallelism) {
+        if (parallelism <= 1 || javaClasses.size() <= 1) {
+            return javaClasses.stream().map(classConverter::create).collect(toList());
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> javaClasses.parallelStream().map(classConverter::create).collect(toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The scanning of the classes was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("An error when the classes were scanned", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
     }
 
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
@@ -14,9 +14,13 @@
  */
 package org.jnosql.artemis.reflection;
 
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.StreamSupport;
 
@@ -26,19 +30,44 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private static final String DISABLE_COMPILER = "artemis.reclection.disableCompiler";
 
+    private static final String METHOD_HANDLE = "artemis.reflection.methodHandle";
+
+    private static final String COMPILER_CACHE = "artemis.reflection.compiler.cache";
+
+    private static final String TIERED = "artemis.reflection.tiered";
+
+    private static final String TIERED_THRESHOLD = "artemis.reflection.tiered.threshold";
+
+    private static final int DEFAULT_TIERED_THRESHOLD = 1_000;
+
+    private static final String NATIVE = "artemis.reflection.native";
+
+    private static final String NATIVE_IMAGE_CODE = "org.graalvm.nativeimage.imagecode";
+
     private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
             " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
 
+    private static final String METHOD_HANDLE_MESSAGE = "It will use method handles to access the class instead" +
+            " of reflections. To disable it set artemis.reflection.methodHandle as false.";
+
+    private static final String TIERED_MESSAGE = "It will use reflections and then promote the hot classes in background" +
+            " to the optimized access, method handles by default. To disable it set artemis.reflection.tiered as false.";
+
+    private static final String NATIVE_MESSAGE = "It will use the generated class accessors and reflections," +
+            " neither the Java compiler nor the method handles, it is enabled within a native image" +
+            " or when artemis.reflection.native is true.";
+
     private static final Logger LOGGER = Logger.getLogger(ClassOperationFactory.class.getName());
 
     private final Reflections reflections = new DefaultReflections();
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflection);
+
+    private ClassOperation compiler;
 
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private ClassOperation tiered;
 
 
     public Reflections getReflections() {
@@ -60,14 +89,84 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
             return operation;
         } else {
             LOGGER.info("ClassOperation does not found, using the default implementation");
-            boolean isDisableCompiler = Boolean.valueOf(System.getProperty(DISABLE_COMPILER));
-            if (isDisableCompiler) {
-                LOGGER.fine(LOG_MESSAGE);
-                return compiler;
-            }
+            return withClassAccessors(getDefault());
+        }
+
+
+    }
+
+    private ClassOperation getDefault() {
+        if (isNative()) {
+            LOGGER.fine(NATIVE_MESSAGE);
             return reflection;
         }
+        boolean isTiered = Boolean.valueOf(System.getProperty(TIERED));
+        if (isTiered) {
+            LOGGER.fine(TIERED_MESSAGE);
+            return getTiered();
+        }
+        return getOptimized();
+    }
 
+    private ClassOperation getOptimized() {
+        boolean isDisableCompiler = Boolean.valueOf(System.getProperty(DISABLE_COMPILER));
+        if (isDisableCompiler) {
+            LOGGER.fine(LOG_MESSAGE);
+            return getCompiler();
+        }
+        boolean isMethodHandle = Boolean.valueOf(System.getProperty(METHOD_HANDLE));
+        if (isMethodHandle) {
+            LOGGER.fine(METHOD_HANDLE_MESSAGE);
+            return methodHandle;
+        }
+        return reflection;
+    }
+
+    private ClassOperation getPromoted() {
+        ClassOperation operation = getOptimized();
+        return operation == reflection ? methodHandle : operation;
+    }
+
+    private boolean isNative() {
+        return Boolean.getBoolean(NATIVE) || System.getProperty(NATIVE_IMAGE_CODE) != null;
+    }
 
+    private ClassOperation withClassAccessors(ClassOperation fallback) {
+        GeneratedClassOperation generated = new GeneratedClassOperation(ServiceLoader.load(ClassAccessor.class),
+                fallback);
+        if (generated.isEmpty()) {
+            return fallback;
+        }
+        LOGGER.info("ClassAccessor found, using the generated operations with the fallback: " + fallback.getClass());
+        return generated;
+    }
+
+    private synchronized ClassOperation getTiered() {
+        if (tiered == null) {
+            int threshold = Integer.getInteger(TIERED_THRESHOLD, DEFAULT_TIERED_THRESHOLD);
+            Executor executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "artemis-tiered-class-operation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            tiered = new TieredClassOperation(reflection, this::getPromoted, threshold, executor);
+        }
+        return tiered;
+    }
+
+    private synchronized ClassOperation getCompiler() {
+        if (compiler == null) {
+            try {
+                JavaCompilerCache cache = Optional.ofNullable(System.getProperty(COMPILER_CACHE))
+                        .map(Paths::get).map(JavaCompilerCache::new).orElse(null);
+                JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory.class.getClassLoader(),
+                        cache);
+                compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+            } catch (IllegalStateException e) {
+                LOGGER.log(Level.WARNING, "The Java compiler is not available, using method handles instead", e);
+                compiler = methodHandle;
+            }
+        }
+        return compiler;
     }
 }
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
@@ -42,6 +43,12 @@ class DefaultClassMapping implements ClassMapping {
 
     private final FieldMapping id;
 
+    private final WritePlan writePlan;
+
+    private final ReadPlan readPlan;
+
+    private final Map<Class<?>, Projection<?>> projections = new ConcurrentHashMap<>();
+
     DefaultClassMapping(String name, List<String> fieldsName, Class<?> classInstance,
                         List<FieldMapping> fields,
                         Map<String, NativeMapping> javaFieldGroupedByColumn,
@@ -54,6 +61,8 @@ class DefaultClassMapping implements ClassMapping {
         this.javaFieldGroupedByColumn = javaFieldGroupedByColumn;
         this.instanceSupplier = instanceSupplier;
         this.id = fields.stream().filter(FieldMapping::isId).findFirst().orElse(null);
+        this.writePlan = WritePlan.of(fields);
+        this.readPlan = ReadPlan.of(fields);
     }
 
     @Override
@@ -106,6 +115,22 @@ class DefaultClassMapping implements ClassMapping {
         return Optional.ofNullable(id);
     }
 
+    @Override
+    public WritePlan getWritePlan() {
+        return writePlan;
+    }
+
+    @Override
+    public ReadPlan getReadPlan() {
+        return readPlan;
+    }
+
+    @Override
+    public <P> Projection<P> getProjection(Class<P> type) {
+        requireNonNull(type, "type is required");
+        return (Projection<P>) projections.computeIfAbsent(type, t -> Projection.of(this, t));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -18,6 +18,7 @@ package org.jnosql.artemis.reflection;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,7 +26,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation of {@link ClassMapping}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}, where each class is converted once,
+ * and a {@link ClassValue} in front of it, so the lookup by class is constant-time without contention.
+ * The names are indexed in lower case, so {@link #findByName(String)} does not scan the mappings.
  */
 @ApplicationScoped
 class DefaultClassMappings implements ClassMappings {
@@ -38,6 +41,8 @@ class DefaultClassMappings implements ClassMappings {
 
     private Map<String, ClassMapping> findByClassName;
 
+    private ClassValue<ClassMapping> classValue;
+
 
     @Inject
     private ClassConverter classConverter;
@@ -51,40 +56,47 @@ class DefaultClassMappings implements ClassMappings {
         classes = new ConcurrentHashMap<>();
         findBySimpleName = new ConcurrentHashMap<>();
         findByClassName = new ConcurrentHashMap<>();
+        classValue = new ClassValue<ClassMapping>() {
+            @Override
+            protected ClassMapping computeValue(Class<?> classEntity) {
+                return classes.computeIfAbsent(classEntity, classConverter::create);
+            }
+        };
 
         classes.putAll(extension.getClasses());
-        mappings.putAll(extension.getMappings());
-        mappings.values().forEach(r -> {
-            Class<?> entityClass = r.getClassInstance();
-            findBySimpleName.put(entityClass.getSimpleName(), r);
-            findByClassName.put(entityClass.getName(), r);
-        });
+        extension.getMappings().values().forEach(this::index);
     }
 
     void load(Class classEntity) {
-        ClassMapping classMapping = classConverter.create(classEntity);
-        mappings.put(classEntity.getName(), classMapping);
-        findBySimpleName.put(classEntity.getSimpleName(), classMapping);
-        findByClassName.put(classEntity.getName(), classMapping);
+        ClassMapping classMapping = get(classEntity);
+        index(classMapping);
+    }
+
+    private void index(ClassMapping classMapping) {
+        Class<?> entityClass = classMapping.getClassInstance();
+        mappings.put(toKey(classMapping.getName()), classMapping);
+        findBySimpleName.put(entityClass.getSimpleName(), classMapping);
+        findByClassName.put(entityClass.getName(), classMapping);
     }
 
     @Override
     public ClassMapping get(Class classEntity) {
-        ClassMapping classMapping = classes.get(classEntity);
+        Objects.requireNonNull(classEntity, "classEntity is required");
+        return classValue.get(classEntity);
+    }
+
+    @Override
+    public ClassMapping findByName(String name) {
+        Objects.requireNonNull(name, "name is required");
+        ClassMapping classMapping = mappings.get(toKey(name));
         if (classMapping == null) {
-            classMapping = classConverter.create(classEntity);
-            classes.put(classEntity, classMapping);
-            return this.get(classEntity);
+            throw new ClassInformationNotFoundException("There is not entity found with the name: " + name);
         }
         return classMapping;
     }
 
-    @Override
-    public ClassMapping findByName(String name) {
-        return mappings.keySet().stream()
-                .map(k -> mappings.get(k))
-                .filter(r -> r.getName().equalsIgnoreCase(name)).findFirst()
-                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -84,6 +84,19 @@ public interface FieldMapping {
      */
     Object getValue(Value value);
 
+    /**
+     * Writes the {@link Value} converted to the field type, when the field is primitive and the value
+     * is already a number or a boolean it is written without the {@link Value#get(Class)} conversion
+     * and without boxing.
+     *
+     * @param bean  the bean
+     * @param value the value
+     * @throws NullPointerException when there is null parameter
+     */
+    default void writeValue(Object bean, Value value) {
+        write(bean, getValue(value));
+    }
+
     /**
      * Returns true is the field is annotated with {@link org.jnosql.artemis.Id}
      *
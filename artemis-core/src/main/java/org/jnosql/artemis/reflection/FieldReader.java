@@ -29,4 +29,48 @@ public interface FieldReader {
      * @throws NullPointerException when bean is null
      */
     Object read(Object bean);
+
+    /**
+     * Reads an int field without boxing it, the implementations that are not specialized box the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default int readInt(Object bean) {
+        return ((Number) read(bean)).intValue();
+    }
+
+    /**
+     * Reads a long field without boxing it, the implementations that are not specialized box the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default long readLong(Object bean) {
+        return ((Number) read(bean)).longValue();
+    }
+
+    /**
+     * Reads a double field without boxing it, the implementations that are not specialized box the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default double readDouble(Object bean) {
+        return ((Number) read(bean)).doubleValue();
+    }
+
+    /**
+     * Reads a boolean field without boxing it, the implementations that are not specialized box the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default boolean readBoolean(Object bean) {
+        return (Boolean) read(bean);
+    }
 }
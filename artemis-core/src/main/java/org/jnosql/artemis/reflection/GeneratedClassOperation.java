@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An implementation of {@link ClassOperation} that uses the {@link ClassAccessor} generated at build time,
+ * when the class or the field is not found there it will use the fallback.
+ */
+final class GeneratedClassOperation implements BatchClassOperation {
+
+    private final Map<Class<?>, ClassAccessor> accessors;
+
+    private final ClassOperation fallback;
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    GeneratedClassOperation(Iterable<ClassAccessor> accessors, ClassOperation fallback) {
+        Map<Class<?>, ClassAccessor> accessorsByClass = new HashMap<>();
+        for (ClassAccessor accessor : accessors) {
+            accessorsByClass.put(accessor.getEntityClass(), accessor);
+        }
+        this.accessors = Collections.unmodifiableMap(accessorsByClass);
+        this.fallback = fallback;
+
+        this.instanceSupplierFactory = constructor -> get(requireNonNull(constructor, "constructor is required")
+                .getDeclaringClass())
+                .flatMap(ClassAccessor::getInstanceSupplier)
+                .orElseGet(() -> fallback.getInstanceSupplierFactory().apply(constructor));
+
+        this.fieldWriterFactory = field -> get(requireNonNull(field, "field is required").getDeclaringClass())
+                .flatMap(a -> a.getWriter(field.getName()))
+                .orElseGet(() -> fallback.getFieldWriterFactory().apply(field));
+
+        this.fieldReaderFactory = field -> get(requireNonNull(field, "field is required").getDeclaringClass())
+                .flatMap(a -> a.getReader(field.getName()))
+                .orElseGet(() -> fallback.getFieldReaderFactory().apply(field));
+    }
+
+    boolean isEmpty() {
+        return accessors.isEmpty();
+    }
+
+    @Override
+    public void prepare(Class<?> entityClass, List<Field> fields) {
+        if (fallback instanceof BatchClassOperation && !accessors.containsKey(entityClass)) {
+            BatchClassOperation.class.cast(fallback).prepare(entityClass, fields);
+        }
+    }
+
+    private Optional<ClassAccessor> get(Class<?> entityClass) {
+        return Optional.ofNullable(accessors.get(entityClass));
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+}
@@ -23,32 +23,29 @@ import org.jnosql.diana.api.Value;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.function.IntFunction;
 
 public class GenericFieldMapping extends AbstractFieldMapping {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final ValueCodec genericCodec;
+
+    private final IntFunction<Collection<Object>> collectionSupplier;
+
     GenericFieldMapping(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier,
                         Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
         super(type, field, name, converter, reader, writer);
         this.typeSupplier = typeSupplier;
+        this.genericCodec = ValueCodecs.of(field, typeSupplier);
+        this.collectionSupplier = ValueCodecs.getCollectionSupplier(field.getType());
     }
 
     @Override
     public Object getValue(Value value) {
-        return value.get(typeSupplier);
+        return genericCodec.decode(value);
     }
 
     @Override
@@ -102,17 +99,11 @@ public class GenericFieldMapping extends AbstractFieldMapping {
     }
 
     public Collection getCollectionInstance() {
-        Class<?> type = getNativeField().getType();
-        if (Deque.class.equals(type) || Queue.class.equals(type)) {
-            return new LinkedList<>();
-        } else if (List.class.equals(type) || Iterable.class.equals(type)) {
-            return new ArrayList<>();
-        } else if (NavigableSet.class.equals(type) || SortedSet.class.equals(type)) {
-            return new TreeSet<>();
-        } else if (Set.class.equals(type)) {
-            return new HashSet<>();
+        if (collectionSupplier == null) {
+            throw new UnsupportedOperationException("This collection is not supported yet: "
+                    + getNativeField().getType());
         }
-        throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        return collectionSupplier.apply(0);
     }
 
     @Override
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A cache on disk of the classes compiled from a {@link JavaSource}, so a new JVM loads the bytecode
+ * instead of compiling it again. Every file is keyed by a hash of the java source, that already has the template,
+ * and of the bytecode of the {@link JavaSource#getEntityClass()}, thus when either changes the source is compiled
+ * again. Any error on disk is logged and handled as a cache miss.
+ */
+final class JavaCompilerCache {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaCompilerCache.class.getName());
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final String EXTENSION = ".class";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+
+    private final ClassValue<byte[]> classDigests = new ClassValue<byte[]>() {
+        @Override
+        protected byte[] computeValue(Class<?> entityClass) {
+            return digest(entityClass);
+        }
+    };
+
+    JavaCompilerCache(Path directory) {
+        this.directory = requireNonNull(directory, "directory is required");
+    }
+
+    /**
+     * Returns the bytecode compiled to the source
+     *
+     * @param source the source
+     * @return the bytecode otherwise {@link Optional#empty()} when it is not cached or the hash has changed
+     */
+    Optional<byte[]> get(JavaSource<?> source) {
+        Path file = getFile(source);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(file));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "It cannot read the compiled class " + file + ", compiling it again", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the bytecode compiled to the source and removes the ones from a previous hash
+     *
+     * @param source     the source
+     * @param classBytes the bytecode
+     */
+    void put(JavaSource<?> source, byte[] classBytes) {
+        Path file = getFile(source);
+        try {
+            Files.createDirectories(directory);
+            removePrevious(source, file);
+            Path temp = Files.createTempFile(directory, source.getName(), ".tmp");
+            Files.write(temp, classBytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "It cannot write the compiled class " + file, e);
+        }
+    }
+
+    private void removePrevious(JavaSource<?> source, Path file) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, source.getName() + "-*" + EXTENSION)) {
+            for (Path previous : files) {
+                if (!previous.equals(file)) {
+                    Files.deleteIfExists(previous);
+                }
+            }
+        }
+    }
+
+    private Path getFile(JavaSource<?> source) {
+        MessageDigest digest = getMessageDigest();
+        source.getEntityClass().map(classDigests::get).ifPresent(digest::update);
+        digest.update(source.getJavaSource().getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(source.getName() + '-' + toHex(digest.digest()) + EXTENSION);
+    }
+
+    private static byte[] digest(Class<?> entityClass) {
+        MessageDigest digest = getMessageDigest();
+        digest.update(System.getProperty("java.specification.version").getBytes(StandardCharsets.UTF_8));
+        String resource = entityClass.getName().replace('.', '/') + EXTENSION;
+        ClassLoader loader = Optional.ofNullable(entityClass.getClassLoader())
+                .orElseGet(ClassLoader::getSystemClassLoader);
+        try (InputStream stream = loader.getResourceAsStream(resource)) {
+            if (stream != null) {
+                digest.update(readAll(stream));
+            } else {
+                digest.update(entityClass.getName().getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "It cannot read the bytecode of " + entityClass.getName(), e);
+            digest.update(entityClass.getName().getBytes(StandardCharsets.UTF_8));
+        }
+        return digest.digest();
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The algorithm " + ALGORITHM + " is required to the compiler cache", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int index = 0; index < bytes.length; index++) {
+            chars[index * 2] = HEX[(bytes[index] >> 4) & 0xF];
+            chars[index * 2 + 1] = HEX[bytes[index] & 0xF];
+        }
+        return new String(chars);
+    }
+}
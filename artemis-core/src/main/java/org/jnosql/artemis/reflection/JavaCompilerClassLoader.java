@@ -14,12 +14,12 @@
  */
 package org.jnosql.artemis.reflection;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class JavaCompilerClassLoader extends ClassLoader {
 
-    private final Map<String, JavaCompiledStream> fileObjectMap = new HashMap<>();
+    private final Map<String, JavaCompiledStream> fileObjectMap = new ConcurrentHashMap<>();
 
     public JavaCompilerClassLoader(ClassLoader parent) {
         super(parent);
@@ -39,4 +39,12 @@ final class JavaCompilerClassLoader extends ClassLoader {
         fileObjectMap.put(qualifiedName, fileObject);
     }
 
+    public byte[] getClassBytes(String qualifiedName) {
+        JavaCompiledStream fileObject = fileObjectMap.get(qualifiedName);
+        if (fileObject == null) {
+            throw new IllegalArgumentException("There is not a class compiled to the name: " + qualifiedName);
+        }
+        return fileObject.getClassBytes();
+    }
+
 }
\ No newline at end of file
@@ -14,16 +14,24 @@
  */
 package org.jnosql.artemis.reflection;
 
-final class JavaCompilerClassOperation implements ClassOperation {
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
-    private final InstanceSupplierFactory instanceSupplierFactory;
+final class JavaCompilerClassOperation implements BatchClassOperation {
 
-    private final FieldWriterFactory fieldWriterFactory;
+    private final JavaCompilerFacade compilerFacade;
 
-    private final FieldReaderFactory fieldReaderFactory;
+    private final JavaCompilerInstanceSupplierFactory instanceSupplierFactory;
+
+    private final JavaCompilerFieldWriterFactory fieldWriterFactory;
+
+    private final JavaCompilerFieldReaderFactory fieldReaderFactory;
 
 
     JavaCompilerClassOperation(ClassOperation fallback, Reflections reflections, JavaCompilerFacade compilerFacade) {
+        this.compilerFacade = compilerFacade;
         this.instanceSupplierFactory = new JavaCompilerInstanceSupplierFactory(compilerFacade, reflections,
                 fallback.getInstanceSupplierFactory());
         this.fieldWriterFactory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections,
@@ -32,6 +40,26 @@ final class JavaCompilerClassOperation implements ClassOperation {
                 fallback.getFieldReaderFactory());
     }
 
+    /**
+     * Compiles the instance supplier and every reader and writer of the class within a single compilation task
+     */
+    @Override
+    public void prepare(Class<?> entityClass, List<Field> fields) {
+        List<JavaSource<?>> sources = new ArrayList<>();
+        Stream.of(entityClass.getConstructors())
+                .filter(c -> c.getParameterCount() == 0)
+                .findFirst()
+                .flatMap(instanceSupplierFactory::getSource)
+                .ifPresent(sources::add);
+        for (Field field : fields) {
+            fieldReaderFactory.getSource(field).ifPresent(sources::add);
+            fieldWriterFactory.getSource(field).ifPresent(sources::add);
+        }
+        if (!sources.isEmpty()) {
+            compilerFacade.applyAll(sources);
+        }
+    }
+
     @Override
     public InstanceSupplierFactory getInstanceSupplierFactory() {
         return instanceSupplierFactory;
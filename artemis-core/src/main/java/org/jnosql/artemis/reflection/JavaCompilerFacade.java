@@ -15,56 +15,119 @@
 package org.jnosql.artemis.reflection;
 
 
+import javax.tools.Diagnostic;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileManager;
 import javax.tools.ToolProvider;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static java.util.stream.Collectors.toList;
+
 /**
- * Class that converts a {@link JavaSource} to a compiled class
+ * Class that converts a {@link JavaSource} to a compiled class.
+ * The sources might be compiled at once, within a single {@link CompilationTask}, and every class compiled
+ * is kept by its name, so a source already compiled is not compiled again.
+ * When there is a {@link JavaCompilerCache} the bytecode is loaded from it, and it only compiles on a cache miss.
  */
 final class JavaCompilerFacade {
 
     private static final Pattern BREAK_LINE = Pattern.compile("\n");
     private final JavaCompilerClassLoader classLoader;
     private final JavaCompiler compiler;
-    private final DiagnosticCollector<javax.tools.JavaFileObject> diagnosticCollector;
+    private final JavaFileManager javaFileManager;
+    private final Map<String, Class<?>> compiledClasses = new ConcurrentHashMap<>();
+    private final JavaCompilerCache cache;
 
     public JavaCompilerFacade(ClassLoader loader) {
+        this(loader, null);
+    }
+
+    public JavaCompilerFacade(ClassLoader loader, JavaCompilerCache cache) {
         this.compiler = Optional.ofNullable(ToolProvider.getSystemJavaCompiler())
                 .orElseThrow(() -> new IllegalStateException("Cannot find the system Java compiler"));
         this.classLoader = new JavaCompilerClassLoader(loader);
-        this.diagnosticCollector = new DiagnosticCollector<>();
+        this.javaFileManager = new GeneratedJavaFileManager(compiler.getStandardFileManager(null, null, null),
+                classLoader);
+        this.cache = cache;
     }
 
     public <T> Class<? extends T> apply(JavaSource<T> source) {
-        return compile(source);
+        Class<?> compiledClass = compiledClasses.get(source.getName());
+        if (compiledClass == null) {
+            compiledClass = applyAll(Collections.singletonList(source)).get(0);
+        }
+        return (Class<? extends T>) compiledClass;
+    }
+
+    /**
+     * Compiles the sources within a single {@link CompilationTask}, skipping the ones already compiled.
+     *
+     * @param sources the sources
+     * @return the compiled classes in the same order of the sources
+     * @throws IllegalStateException when any source does not compile
+     */
+    public synchronized List<Class<?>> applyAll(Collection<? extends JavaSource<?>> sources) {
+        Map<String, JavaSource<?>> notCompiled = new LinkedHashMap<>();
+        for (JavaSource<?> source : sources) {
+            if (!compiledClasses.containsKey(source.getName()) && !loadFromCache(source)) {
+                notCompiled.put(source.getName(), source);
+            }
+        }
+        if (!notCompiled.isEmpty()) {
+            compile(new ArrayList<>(notCompiled.values()));
+        }
+        return sources.stream().map(s -> compiledClasses.get(s.getName())).collect(toList());
     }
 
-    private synchronized <T> Class<? extends T> compile(JavaSource<T> source) {
-        JavaFileObject fileObject = new JavaFileObject(source.getSimpleName(), source.getJavaSource());
+    private void compile(List<JavaSource<?>> sources) {
+        DiagnosticCollector<javax.tools.JavaFileObject> diagnosticCollector = new DiagnosticCollector<>();
+        List<JavaFileObject> fileObjects = sources.stream()
+                .map(s -> new JavaFileObject(s.getSimpleName(), s.getJavaSource()))
+                .collect(toList());
 
-        JavaFileManager standardFileManager = compiler.getStandardFileManager(diagnosticCollector, null, null);
+        CompilationTask task = compiler.getTask(null, javaFileManager, diagnosticCollector,
+                null, null, fileObjects);
 
-        try (GeneratedJavaFileManager javaFileManager = new GeneratedJavaFileManager(standardFileManager, classLoader)) {
-            CompilationTask task = compiler.getTask(null, javaFileManager, diagnosticCollector,
-                    null, null, Collections.singletonList(fileObject));
+        if (!task.call()) {
+            throw createCompilerErrorMessage(sources, diagnosticCollector);
+        }
 
-            if (!task.call()) {
-                return createCompilerErrorMessage(source);
+        for (JavaSource<?> source : sources) {
+            compiledClasses.put(source.getName(), load(source));
+            if (cache != null) {
+                cache.put(source, classLoader.getClassBytes(source.getName()));
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("The generated class (" + source.getSimpleName() + ") failed to compile because the "
-                    + JavaFileManager.class.getSimpleName() + " didn't close.", e);
         }
+    }
+
+    private boolean loadFromCache(JavaSource<?> source) {
+        if (cache == null) {
+            return false;
+        }
+        Optional<byte[]> classBytes = cache.get(source);
+        if (classBytes.isPresent()) {
+            classLoader.addJavaFileObject(source.getName(), new JavaCompiledStream(source.getName(), classBytes.get()));
+            compiledClasses.put(source.getName(), load(source));
+            return true;
+        }
+        return false;
+    }
+
+    private Class<?> load(JavaSource<?> source) {
         try {
-            Class<T> compiledClass = (Class<T>) classLoader.loadClass(source.getName());
+            Class<?> compiledClass = classLoader.loadClass(source.getName());
             if (!source.getType().isAssignableFrom(compiledClass)) {
                 throw new ClassCastException("The generated compiledClass (" + compiledClass
                         + ") cannot be assigned to the superclass/interface (" + source.getType() + ").");
@@ -74,20 +137,31 @@ final class JavaCompilerFacade {
             throw new IllegalStateException("The generated class (" + source.getSimpleName()
                     + ") compiled, but failed to load.", e);
         }
-
     }
 
-    private <T> Class<? extends T> createCompilerErrorMessage(JavaSource<T> source) {
+    private IllegalStateException createCompilerErrorMessage(List<JavaSource<?>> sources,
+                                                             DiagnosticCollector<javax.tools.JavaFileObject> diagnosticCollector) {
         String compilationMessages = diagnosticCollector.getDiagnostics().stream()
                 .map(d -> d.getKind() + ":[" + d.getLineNumber() + "," + d.getColumnNumber() + "] "
                         + d.getMessage(null)
-                        + "\n        " + (d
-                        .getLineNumber() <= 0 ? "" : BREAK_LINE.splitAsStream(source.getJavaSource())
-                        .skip(d.getLineNumber() - 1).findFirst().orElse("")))
+                        + "\n        " + getLine(d))
                 .collect(Collectors.joining("\n"));
-        throw new IllegalStateException("The generated class (" + source.getSimpleName() + ") failed to compile.\n"
+        String names = sources.stream().map(JavaSource::getSimpleName).collect(Collectors.joining(", "));
+        return new IllegalStateException("The generated classes (" + names + ") failed to compile.\n"
                 + compilationMessages);
     }
 
+    private String getLine(Diagnostic<? extends javax.tools.JavaFileObject> diagnostic) {
+        if (diagnostic.getLineNumber() <= 0 || diagnostic.getSource() == null) {
+            return "";
+        }
+        try {
+            return BREAK_LINE.splitAsStream(diagnostic.getSource().getCharContent(true))
+                    .skip(diagnostic.getLineNumber() - 1).findFirst().orElse("");
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
 
-}
\ No newline at end of file
+}
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,6 +35,11 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
     private static final String TEMPLATE = TemplateReader.INSTANCE.apply(TEMPLATE_FILE);
 
+    private static final String PRIMITIVE_TEMPLATE = "\n    @Override\n"
+            + "    public {0} read{1}(Object bean) '{'\n"
+            + "        return {2}.class.cast(bean).{3}();\n"
+            + "    '}'\n";
+
     private final JavaCompilerFacade compilerFacade;
 
     private final Reflections reflections;
@@ -51,28 +55,46 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
     @Override
     public FieldReader apply(Field field) {
-
-        Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
-
-        FieldReader fieldReader = methodName.map(compile(declaringClass))
+        return getSource(field).map(this::compile)
                 .orElseGet(() -> fallback.apply(field));
-
-        return fieldReader;
     }
 
-    private Function<String, FieldReader> compile(Class<?> declaringClass) {
-        return method -> {
+    /**
+     * Creates the source of the {@link FieldReader} to the field
+     *
+     * @param field the field
+     * @return the source otherwise {@link Optional#empty()} when there is not a public getter method
+     */
+    Optional<JavaSource<FieldReader>> getSource(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
 
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
-            String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance, method);
-            FieldReaderJavaSource source = new FieldReaderJavaSource(name, simpleName, javaSource);
-            Class<FieldReader> reader = (Class<FieldReader>) compilerFacade.apply(source);
-            return reflections.newInstance(reader);
-        };
+            String primitive = getPrimitiveSource(field.getType(), newInstance, method);
+            String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance, method,
+                    primitive);
+            return new FieldReaderJavaSource(declaringClass, name, simpleName, javaSource);
+        });
+    }
+
+    /**
+     * The int, long, double and boolean fields also override the typed read, so it does not box the value
+     */
+    private String getPrimitiveSource(Class<?> type, String newInstance, String method) {
+        if (int.class != type && long.class != type && double.class != type && boolean.class != type) {
+            return "";
+        }
+        String typeName = type.getName();
+        String suffix = Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        return StringFormatter.INSTANCE.format(PRIMITIVE_TEMPLATE, typeName, suffix, newInstance, method);
+    }
+
+    private FieldReader compile(JavaSource<FieldReader> source) {
+        Class<? extends FieldReader> reader = compilerFacade.apply(source);
+        return reflections.newInstance(reader);
     }
 
     private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
@@ -91,6 +113,8 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
     private static final class FieldReaderJavaSource implements JavaSource<FieldReader> {
 
+        private final Class<?> entityClass;
+
         private final String name;
 
         private final String simpleName;
@@ -98,7 +122,8 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
         private final String javaSource;
 
 
-        FieldReaderJavaSource(String name, String simpleName, String javaSource) {
+        FieldReaderJavaSource(Class<?> entityClass, String name, String simpleName, String javaSource) {
+            this.entityClass = entityClass;
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
@@ -119,6 +144,11 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
             return javaSource;
         }
 
+        @Override
+        public Optional<Class<?>> getEntityClass() {
+            return Optional.of(entityClass);
+        }
+
         @Override
         public Class<FieldReader> getType() {
             return FieldReader.class;
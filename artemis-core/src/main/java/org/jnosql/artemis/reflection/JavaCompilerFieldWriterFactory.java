@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,6 +35,11 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
     private static final String TEMPLATE = TemplateReader.INSTANCE.apply(TEMPLATE_FILE);
 
+    private static final String PRIMITIVE_TEMPLATE = "\n    @Override\n"
+            + "    public void write{1}(Object bean, {0} value) '{'\n"
+            + "        {2}.class.cast(bean).{3}(value);\n"
+            + "    '}'\n";
+
     private final JavaCompilerFacade compilerFacade;
 
     private final Reflections reflections;
@@ -51,30 +55,46 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
     @Override
     public FieldWriter apply(Field field) {
-
-        Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
-
-        FieldWriter fieldWriter = methodName.map(compile(declaringClass, field.getType()))
+        return getSource(field).map(this::compile)
                 .orElseGet(() -> fallback.apply(field));
-
-        return fieldWriter;
     }
 
-    private Function<String, FieldWriter> compile(Class<?> declaringClass, Class<?> type) {
-        return method -> {
+    /**
+     * Creates the source of the {@link FieldWriter} to the field
+     *
+     * @param field the field
+     * @return the source otherwise {@link Optional#empty()} when there is not a public setter method
+     */
+    Optional<JavaSource<FieldWriter>> getSource(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
-            String typeCast = type.getName();
+            String typeCast = field.getType().getName();
+            String primitive = getPrimitiveSource(field.getType(), newInstance, method);
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName,
-                    newInstance, method, typeCast);
+                    newInstance, method, typeCast, primitive);
+            return new FieldWriterJavaSource(declaringClass, name, simpleName, javaSource);
+        });
+    }
 
-            FieldWriterJavaSource source = new FieldWriterJavaSource(name, simpleName, javaSource);
-            Class<FieldWriter> reader = (Class<FieldWriter>) compilerFacade.apply(source);
-            return reflections.newInstance(reader);
-        };
+    /**
+     * The int, long, double and boolean fields also override the typed write, so it does not box the value
+     */
+    private String getPrimitiveSource(Class<?> type, String newInstance, String method) {
+        if (int.class != type && long.class != type && double.class != type && boolean.class != type) {
+            return "";
+        }
+        String typeName = type.getName();
+        String suffix = Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        return StringFormatter.INSTANCE.format(PRIMITIVE_TEMPLATE, typeName, suffix, newInstance, method);
+    }
+
+    private FieldWriter compile(JavaSource<FieldWriter> source) {
+        Class<? extends FieldWriter> writer = compilerFacade.apply(source);
+        return reflections.newInstance(writer);
     }
 
     private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
@@ -93,6 +113,8 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
     private static final class FieldWriterJavaSource implements JavaSource<FieldWriter> {
 
+        private final Class<?> entityClass;
+
         private final String name;
 
         private final String simpleName;
@@ -100,7 +122,8 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
         private final String javaSource;
 
 
-        FieldWriterJavaSource(String name, String simpleName, String javaSource) {
+        FieldWriterJavaSource(Class<?> entityClass, String name, String simpleName, String javaSource) {
+            this.entityClass = entityClass;
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
@@ -121,6 +144,11 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
             return javaSource;
         }
 
+        @Override
+        public Optional<Class<?>> getEntityClass() {
+            return Optional.of(entityClass);
+        }
+
         @Override
         public Class<FieldWriter> getType() {
             return FieldWriter.class;
@@ -16,6 +16,7 @@ package org.jnosql.artemis.reflection;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -43,25 +44,40 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
 
     @Override
     public InstanceSupplier apply(Constructor<?> constructor) {
-        Class<?> declaringClass = constructor.getDeclaringClass();
-        if (Modifier.isPublic(constructor.getModifiers())) {
-            String packageName = declaringClass.getPackage().getName();
-            String simpleName = declaringClass.getSimpleName() + "$InstanceSupplier";
-            String newInstance = declaringClass.getName();
-            String name = declaringClass.getName() + "$InstanceSupplier";
-            String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance);
-            InstanceJavaSource source = new InstanceJavaSource(name, simpleName, javaSource);
-            Class<? extends InstanceSupplier> supplier = compilerFacade.apply(source);
+        Optional<JavaSource<InstanceSupplier>> source = getSource(constructor);
+        if (source.isPresent()) {
+            Class<? extends InstanceSupplier> supplier = compilerFacade.apply(source.get());
             return reflections.newInstance(supplier);
         }
 
         LOGGER.fine(String.format("The constructor to the class %s is not public, using fallback with Reflectioin",
-                declaringClass.getName()));
+                constructor.getDeclaringClass().getName()));
         return fallback.apply(constructor);
     }
 
+    /**
+     * Creates the source of the {@link InstanceSupplier} to the constructor
+     *
+     * @param constructor the constructor
+     * @return the source otherwise {@link Optional#empty()} when the constructor is not public
+     */
+    Optional<JavaSource<InstanceSupplier>> getSource(Constructor<?> constructor) {
+        if (!Modifier.isPublic(constructor.getModifiers())) {
+            return Optional.empty();
+        }
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        String packageName = declaringClass.getPackage().getName();
+        String simpleName = declaringClass.getSimpleName() + "$InstanceSupplier";
+        String newInstance = declaringClass.getName();
+        String name = declaringClass.getName() + "$InstanceSupplier";
+        String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance);
+        return Optional.of(new InstanceJavaSource(declaringClass, name, simpleName, javaSource));
+    }
+
     private static final class InstanceJavaSource implements JavaSource<InstanceSupplier> {
 
+        private final Class<?> entityClass;
+
         private final String name;
 
         private final String simpleName;
@@ -69,7 +85,8 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
         private final String javaSource;
 
 
-        InstanceJavaSource(String name, String simpleName, String javaSource) {
+        InstanceJavaSource(Class<?> entityClass, String name, String simpleName, String javaSource) {
+            this.entityClass = entityClass;
             this.name = name;
             this.simpleName = simpleName;
             this.javaSource = javaSource;
@@ -90,6 +107,11 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
             return javaSource;
         }
 
+        @Override
+        public Optional<Class<?>> getEntityClass() {
+            return Optional.of(entityClass);
+        }
+
         @Override
         public Class<InstanceSupplier> getType() {
             return InstanceSupplier.class;
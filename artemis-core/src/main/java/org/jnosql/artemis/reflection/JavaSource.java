@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import java.util.Optional;
+
 /**
  * The Java source code to be compiled.
  *
@@ -48,4 +50,13 @@ interface JavaSource<T> {
      * @return the Super class from the source code
      */
     Class<T> getType();
+
+    /**
+     * Returns the class that the code operates on
+     *
+     * @return the class otherwise {@link Optional#empty()}
+     */
+    default Optional<Class<?>> getEntityClass() {
+        return Optional.empty();
+    }
 }
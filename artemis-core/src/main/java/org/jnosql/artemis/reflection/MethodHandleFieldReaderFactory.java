@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldReaderFactory} implementation that uses {@link LambdaMetafactory} to link the public getter
+ * straight into a {@link FieldReader}, so there is neither reflection nor a Java compiler at runtime.
+ * When there is no public getter it reads the field with a {@link MethodHandle},
+ * otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldReaderFactory.class.getName());
+
+    private static final MethodType READ = MethodType.methodType(Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final FieldReaderFactory fallback;
+
+    MethodHandleFieldReaderFactory(FieldReaderFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+
+        Optional<FieldReader> reader = getReadMethod(field).flatMap(this::createLambda);
+        if (reader.isPresent()) {
+            return reader.get();
+        }
+        return createMethodHandle(field).orElseGet(() -> fallback.apply(field));
+    }
+
+    private Optional<FieldReader> createLambda(Method method) {
+        try {
+            MethodHandle getter = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "read",
+                    MethodType.methodType(FieldReader.class), READ, getter, getter.type().wrap());
+            return Optional.of(specialize((FieldReader) site.getTarget().invoke(), getter));
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It cannot create a lambda to the getter: " + method
+                    + " using a method handle to the field", e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<FieldReader> createMethodHandle(Field field) {
+        try {
+            MethodHandle fieldGetter = lookup.unreflectGetter(field);
+            MethodHandle getter = fieldGetter.asType(READ);
+            return Optional.of(specialize(bean -> {
+                try {
+                    return (Object) getter.invokeExact(bean);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ArtemisException("An error when the field " + field.getName() + " was read", e);
+                }
+            }, fieldGetter));
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "The field " + field.getName() + " within class "
+                    + field.getDeclaringClass().getName() + " is not accessible, using the fallback with reflection", e);
+            return Optional.empty();
+        }
+    }
+
+    private FieldReader specialize(FieldReader reader, MethodHandle getter) {
+        Class<?> type = getter.type().returnType();
+        if (PrimitiveFieldReader.isSupported(type)) {
+            return new PrimitiveFieldReader(reader, getter.asType(MethodType.methodType(type, Object.class)));
+        }
+        return reader;
+    }
+
+    private Optional<Method> getReadMethod(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!isVisible(declaringClass) || !isVisible(field.getType())) {
+            return Optional.empty();
+        }
+        try {
+            Method readMethod = new PropertyDescriptor(field.getName(), declaringClass).getReadMethod();
+            if (Modifier.isPublic(readMethod.getModifiers())
+                    && Modifier.isPublic(readMethod.getDeclaringClass().getModifiers())) {
+                return Optional.of(readMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "A getter method does not exist to the field: "
+                    + field.getName() + " within class " + declaringClass.getName() + " using a method handle", e);
+        }
+        return Optional.empty();
+    }
+
+    private boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodHandleFieldReaderFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A {@link FieldReader} that reads the int, long, double and boolean values with a {@link MethodHandle}
+     * typed to the primitive, so they are not boxed.
+     */
+    private static final class PrimitiveFieldReader implements FieldReader {
+
+        private final FieldReader reader;
+
+        private final MethodHandle getter;
+
+        private final Class<?> type;
+
+        PrimitiveFieldReader(FieldReader reader, MethodHandle getter) {
+            this.reader = reader;
+            this.getter = getter;
+            this.type = getter.type().returnType();
+        }
+
+        @Override
+        public Object read(Object bean) {
+            return reader.read(bean);
+        }
+
+        @Override
+        public int readInt(Object bean) {
+            if (int.class != type) {
+                return FieldReader.super.readInt(bean);
+            }
+            try {
+                return (int) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public long readLong(Object bean) {
+            if (long.class != type) {
+                return FieldReader.super.readLong(bean);
+            }
+            try {
+                return (long) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public double readDouble(Object bean) {
+            if (double.class != type) {
+                return FieldReader.super.readDouble(bean);
+            }
+            try {
+                return (double) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public boolean readBoolean(Object bean) {
+            if (boolean.class != type) {
+                return FieldReader.super.readBoolean(bean);
+            }
+            try {
+                return (boolean) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new ArtemisException("An error when the field was read", e);
+        }
+
+        static boolean isSupported(Class<?> type) {
+            return int.class == type || long.class == type || double.class == type || boolean.class == type;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldWriterFactory} implementation that uses {@link LambdaMetafactory} to link the public setter
+ * straight into a {@link FieldWriter}, so there is neither reflection nor a Java compiler at runtime.
+ * When there is no public setter it writes the field with a {@link MethodHandle},
+ * otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final MethodType WRITE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(FieldWriterFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+
+        Optional<FieldWriter> writer = getWriteMethod(field).flatMap(this::createLambda);
+        if (writer.isPresent()) {
+            return writer.get();
+        }
+        return createMethodHandle(field).orElseGet(() -> fallback.apply(field));
+    }
+
+    private Optional<FieldWriter> createLambda(Method method) {
+        try {
+            MethodHandle setter = lookup.unreflect(method);
+            MethodType setterType = setter.type();
+            MethodType instantiatedType = MethodType.methodType(void.class, setterType.parameterType(0),
+                    MethodType.methodType(setterType.parameterType(1)).wrap().returnType());
+            CallSite site = LambdaMetafactory.metafactory(lookup, "write",
+                    MethodType.methodType(FieldWriter.class), WRITE, setter, instantiatedType);
+            return Optional.of(specialize((FieldWriter) site.getTarget().invoke(), setter));
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It cannot create a lambda to the setter: " + method
+                    + " using a method handle to the field", e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<FieldWriter> createMethodHandle(Field field) {
+        try {
+            MethodHandle fieldSetter = lookup.unreflectSetter(field);
+            MethodHandle setter = fieldSetter.asType(WRITE);
+            return Optional.of(specialize((bean, value) -> {
+                try {
+                    setter.invokeExact(bean, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ArtemisException("An error when the field " + field.getName() + " was written", e);
+                }
+            }, fieldSetter));
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "The field " + field.getName() + " within class "
+                    + field.getDeclaringClass().getName() + " is not writable, using the fallback with reflection", e);
+            return Optional.empty();
+        }
+    }
+
+    private FieldWriter specialize(FieldWriter writer, MethodHandle setter) {
+        Class<?> type = setter.type().parameterType(1);
+        if (PrimitiveFieldWriter.isSupported(type)) {
+            return new PrimitiveFieldWriter(writer,
+                    setter.asType(MethodType.methodType(void.class, Object.class, type)));
+        }
+        return writer;
+    }
+
+    private Optional<Method> getWriteMethod(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!isVisible(declaringClass) || !isVisible(field.getType())) {
+            return Optional.empty();
+        }
+        try {
+            Method writeMethod = new PropertyDescriptor(field.getName(), declaringClass).getWriteMethod();
+            if (Modifier.isPublic(writeMethod.getModifiers())
+                    && Modifier.isPublic(writeMethod.getDeclaringClass().getModifiers())) {
+                return Optional.of(writeMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "A setter method does not exist to the field: "
+                    + field.getName() + " within class " + declaringClass.getName() + " using a method handle", e);
+        }
+        return Optional.empty();
+    }
+
+    private boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodHandleFieldWriterFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A {@link FieldWriter} that writes the int, long, double and boolean values with a {@link MethodHandle}
+     * typed to the primitive, so they are not boxed.
+     */
+    private static final class PrimitiveFieldWriter implements FieldWriter {
+
+        private final FieldWriter writer;
+
+        private final MethodHandle setter;
+
+        private final Class<?> type;
+
+        PrimitiveFieldWriter(FieldWriter writer, MethodHandle setter) {
+            this.writer = writer;
+            this.setter = setter;
+            this.type = setter.type().parameterType(1);
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            writer.write(bean, value);
+        }
+
+        @Override
+        public void writeInt(Object bean, int value) {
+            if (int.class != type) {
+                FieldWriter.super.writeInt(bean, value);
+                return;
+            }
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public void writeLong(Object bean, long value) {
+            if (long.class != type) {
+                FieldWriter.super.writeLong(bean, value);
+                return;
+            }
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public void writeDouble(Object bean, double value) {
+            if (double.class != type) {
+                FieldWriter.super.writeDouble(bean, value);
+                return;
+            }
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public void writeBoolean(Object bean, boolean value) {
+            if (boolean.class != type) {
+                FieldWriter.super.writeBoolean(bean, value);
+                return;
+            }
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new ArtemisException("An error when the field was written", e);
+        }
+
+        static boolean isSupported(Class<?> type) {
+            return int.class == type || long.class == type || double.class == type || boolean.class == type;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that uses {@link LambdaMetafactory} to link a public
+ * constructor straight into an {@link InstanceSupplier}. When the constructor is not public it uses
+ * a {@link MethodHandle}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final MethodType GET = MethodType.methodType(Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        Optional<InstanceSupplier> supplier = Optional.empty();
+        if (isPublic(constructor) && isVisible(constructor.getDeclaringClass())) {
+            supplier = createLambda(constructor);
+        }
+        if (supplier.isPresent()) {
+            return supplier.get();
+        }
+        return createMethodHandle(constructor).orElseGet(() -> fallback.apply(constructor));
+    }
+
+    private Optional<InstanceSupplier> createLambda(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(InstanceSupplier.class), GET, handle, handle.type());
+            return Optional.of((InstanceSupplier) site.getTarget().invoke());
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "It cannot create a lambda to the constructor: " + constructor
+                    + " using a method handle", e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<InstanceSupplier> createMethodHandle(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asType(GET);
+            return Optional.of(() -> {
+                try {
+                    return (Object) handle.invokeExact();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ArtemisException("An error when the class "
+                            + constructor.getDeclaringClass().getName() + " was instantiated", e);
+                }
+            });
+        } catch (IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "The constructor to the class " + constructor.getDeclaringClass().getName()
+                    + " is not accessible, using fallback with Reflection", e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isPublic(Constructor<?> constructor) {
+        return Modifier.isPublic(constructor.getModifiers())
+                && Modifier.isPublic(constructor.getDeclaringClass().getModifiers());
+    }
+
+    private boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, MethodHandleInstanceSupplierFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
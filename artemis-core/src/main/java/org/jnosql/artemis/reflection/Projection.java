@@ -0,0 +1,353 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The plan to read a subset of the fields of an entity into a projection, that is either an interface,
+ * whose getters are named after the entity fields, or a class with a no arg constructor and fields
+ * with the same names as the entity ones. It is created once to each entity and projection type, and
+ * keeps the native names to restrict the query and the readers from the entity to the projection.
+ * When every field maps to a single native value the projection is read straight from the native values,
+ * without the entity, see {@link Projection#read(Function)}.
+ *
+ * @param <P> the projection type
+ */
+public final class Projection<P> {
+
+    private static final String GET = "get";
+
+    private static final String IS = "is";
+
+    private final Class<P> type;
+
+    private final Class<?> entityClass;
+
+    private final FieldMapping[] fields;
+
+    private final boolean flat;
+
+    private final List<String> columns;
+
+    private final Function<Object[], P> factory;
+
+    private Projection(ClassMapping mapping, Class<P> type, List<FieldMapping> fields, Function<Object[], P> factory) {
+        this.type = type;
+        this.entityClass = mapping.getClassInstance();
+        this.fields = fields.toArray(new FieldMapping[fields.size()]);
+        this.flat = fields.stream().allMatch(Projection::isFlat);
+        this.factory = factory;
+        boolean isEmbedded = fields.stream().anyMatch(f -> FieldType.EMBEDDED.equals(f.getType()));
+        List<String> names = new ArrayList<>();
+        if (!isEmbedded) {
+            fields.stream().map(FieldMapping::getName).distinct().forEach(names::add);
+        }
+        this.columns = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @return the projection type
+     */
+    public Class<P> getType() {
+        return type;
+    }
+
+    /**
+     * @return the entity class
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Checks if every field of the projection maps to a single native value, that is neither an embedded field,
+     * a sub entity nor a collection of embeddables, so {@link Projection#read(Function)} can be used
+     *
+     * @return true when the fields are flat
+     */
+    public boolean isFlat() {
+        return flat;
+    }
+
+    /**
+     * Returns the native names of the fields that the projection reads, to restrict the query
+     *
+     * @return the native names, it is empty when the projection requires all of them
+     * because an embedded field spreads over the native names of its class
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Creates the projection from an entity instance
+     *
+     * @param entity the entity instance
+     * @return the projection
+     * @throws NullPointerException when entity is null
+     */
+    public P apply(Object entity) {
+        requireNonNull(entity, "entity is required");
+        Object[] values = new Object[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            values[index] = fields[index].read(entity);
+        }
+        return factory.apply(values);
+    }
+
+    /**
+     * Creates the projection from the values of its fields, e.g. converted straight from the native values
+     * instead of an entity instance
+     *
+     * @param reader returns the value of a field, null when it is absent
+     * @return the projection
+     * @throws NullPointerException when reader is null
+     */
+    public P read(Function<FieldMapping, Object> reader) {
+        requireNonNull(reader, "reader is required");
+        Object[] values = new Object[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            values[index] = reader.apply(fields[index]);
+        }
+        return factory.apply(values);
+    }
+
+    /**
+     * Creates the {@link Projection} of an entity, prefer {@link ClassMapping#getProjection(Class)}
+     * that creates it once.
+     *
+     * @param mapping the entity mapping
+     * @param type    the projection type
+     * @param <P>     the projection type
+     * @return the {@link Projection}
+     * @throws NullPointerException when there is null parameter
+     * @throws ProjectionException  when a property of the projection is not an entity field,
+     *                              or its type does not match
+     */
+    public static <P> Projection<P> of(ClassMapping mapping, Class<P> type) {
+        requireNonNull(mapping, "mapping is required");
+        requireNonNull(type, "type is required");
+        if (type.isInterface()) {
+            return ofInterface(mapping, type);
+        }
+        return ofClass(mapping, type);
+    }
+
+    /**
+     * Returns the projection type of a repository method, that is the return type, or its first type argument
+     * to the containers such as {@link Optional}, {@link List} and {@link java.util.stream.Stream},
+     * when it is not the entity class nor a super type of it.
+     *
+     * @param method      the repository method
+     * @param entityClass the entity class
+     * @return the projection type otherwise {@link Optional#empty()}
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<Class<?>> getType(Method method, Class<?> entityClass) {
+        requireNonNull(method, "method is required");
+        requireNonNull(entityClass, "entityClass is required");
+        Type returnType = method.getGenericReturnType();
+        Type elementType = returnType;
+        if (returnType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) returnType).getActualTypeArguments();
+            elementType = arguments.length == 1 ? arguments[0] : Object.class;
+        }
+        if (!(elementType instanceof Class) || ((Class<?>) elementType).isPrimitive()) {
+            return Optional.empty();
+        }
+        Class<?> element = (Class<?>) elementType;
+        if (element.isAssignableFrom(entityClass) || isContainer(element)) {
+            return Optional.empty();
+        }
+        return Optional.of(element);
+    }
+
+    private static boolean isFlat(FieldMapping field) {
+        switch (field.getType()) {
+            case EMBEDDED:
+            case SUBENTITY:
+                return false;
+            case COLLECTION:
+                return !(field instanceof GenericFieldMapping) || !((GenericFieldMapping) field).isEmbeddable();
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return Iterable.class.isAssignableFrom(type) || Optional.class.equals(type)
+                || BaseStream.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private static <P> Projection<P> ofInterface(ClassMapping mapping, Class<P> type) {
+        List<FieldMapping> fields = new ArrayList<>();
+        Map<Method, Integer> slots = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (method.getParameterCount() != 0 || void.class.equals(method.getReturnType())) {
+                throw new ProjectionException("The projection method must be a getter: " + method);
+            }
+            FieldMapping field = getField(mapping, getPropertyName(method), method.getReturnType(), type);
+            slots.put(method, fields.size());
+            fields.add(field);
+        }
+        Map<Method, Integer> methods = Collections.unmodifiableMap(slots);
+        ClassLoader classLoader = type.getClassLoader();
+        Class<?>[] interfaces = {type};
+        Function<Object[], P> factory = values -> type.cast(Proxy.newProxyInstance(classLoader, interfaces,
+                new ProjectionHandler(type, methods, values)));
+        return new Projection<>(mapping, type, fields, factory);
+    }
+
+    private static <P> Projection<P> ofClass(ClassMapping mapping, Class<P> type) {
+        ClassOperation operation = ClassOperationFactory.INSTANCE.get();
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new ConstructorException(type);
+        }
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(constructor);
+        List<FieldMapping> fields = new ArrayList<>();
+        List<FieldWriter> writers = new ArrayList<>();
+        List<Boolean> primitives = new ArrayList<>();
+        for (Class<?> current = type; !Object.class.equals(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+                        || field.isSynthetic()) {
+                    continue;
+                }
+                fields.add(getField(mapping, field.getName(), field.getType(), type));
+                field.setAccessible(true);
+                writers.add(operation.getFieldWriterFactory().apply(field));
+                primitives.add(field.getType().isPrimitive());
+            }
+        }
+        FieldWriter[] fieldWriters = writers.toArray(new FieldWriter[writers.size()]);
+        Function<Object[], P> factory = values -> {
+            Object instance = supplier.get();
+            for (int index = 0; index < fieldWriters.length; index++) {
+                if (values[index] != null || !primitives.get(index)) {
+                    fieldWriters[index].write(instance, values[index]);
+                }
+            }
+            return type.cast(instance);
+        };
+        return new Projection<>(mapping, type, fields, factory);
+    }
+
+    private static FieldMapping getField(ClassMapping mapping, String name, Class<?> propertyType,
+                                         Class<?> type) {
+        FieldMapping field = mapping.getFieldMapping(name).orElseThrow(() -> new ProjectionException(
+                "The projection " + type.getName() + " has the property " + name
+                        + " that is not a field of the entity " + mapping.getClassInstance().getName()));
+        Class<?> fieldType = field.getNativeField().getType();
+        if (!wrap(propertyType).isAssignableFrom(wrap(fieldType))) {
+            throw new ProjectionException("The projection " + type.getName() + " has the property " + name
+                    + " whose type " + propertyType.getName() + " is not compatible with " + fieldType.getName());
+        }
+        return field;
+    }
+
+    private static String getPropertyName(Method method) {
+        String name = method.getName();
+        if (name.length() > GET.length() && name.startsWith(GET)
+                && Character.isUpperCase(name.charAt(GET.length()))) {
+            return decapitalize(name.substring(GET.length()));
+        }
+        boolean isBoolean = boolean.class.equals(method.getReturnType())
+                || Boolean.class.equals(method.getReturnType());
+        if (isBoolean && name.length() > IS.length() && name.startsWith(IS)
+                && Character.isUpperCase(name.charAt(IS.length()))) {
+            return decapitalize(name.substring(IS.length()));
+        }
+        return name;
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static final class ProjectionHandler implements InvocationHandler {
+
+        private final Class<?> type;
+
+        private final Map<Method, Integer> methods;
+
+        private final Object[] values;
+
+        private ProjectionHandler(Class<?> type, Map<Method, Integer> methods, Object[] values) {
+            this.type = type;
+            this.methods = methods;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Integer slot = methods.get(method);
+            if (slot != null) {
+                Object value = values[slot];
+                if (value == null && method.getReturnType().isPrimitive()) {
+                    return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+                }
+                return value;
+            }
+            switch (method.getName()) {
+                case "equals":
+                    Object other = args[0];
+                    return other != null && Proxy.isProxyClass(other.getClass())
+                            && Proxy.getInvocationHandler(other) instanceof ProjectionHandler
+                            && type.equals(((ProjectionHandler) Proxy.getInvocationHandler(other)).type)
+                            && Arrays.equals(values, ((ProjectionHandler) Proxy.getInvocationHandler(other)).values);
+                case "hashCode":
+                    return Arrays.hashCode(values);
+                case "toString":
+                    return type.getSimpleName() + Arrays.toString(values);
+                default:
+                    throw new UnsupportedOperationException("The projection does not support the method: "
+                            + method);
+            }
+        }
+
+    }
+}
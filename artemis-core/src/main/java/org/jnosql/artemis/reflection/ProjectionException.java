@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+/**
+ * The exception when a type cannot be a projection of an entity
+ */
+public class ProjectionException extends ArtemisException {
+
+    /**
+     * Constructs a new exception with the specified detail message.
+     *
+     * @param message the message
+     */
+    public ProjectionException(String message) {
+        super(message);
+    }
+}
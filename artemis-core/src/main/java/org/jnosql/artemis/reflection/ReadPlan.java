@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The plan to read an entity from the database format, it is created once to each {@link ClassMapping}
+ * and keeps a table from the native name to the field slot. So the elements of a row, either columns,
+ * documents or properties, are walked once and each one is dispatched to its {@link FieldMapping}
+ * instead of searching the elements to each field.
+ */
+public final class ReadPlan {
+
+    private final FieldMapping[] fields;
+
+    private final Map<String, Integer> slots;
+
+    private ReadPlan(List<FieldMapping> fields) {
+        this.fields = fields.toArray(new FieldMapping[fields.size()]);
+        Map<String, Integer> slotsByName = new HashMap<>();
+        for (int index = 0; index < this.fields.length; index++) {
+            slotsByName.putIfAbsent(this.fields[index].getName(), index);
+        }
+        this.slots = Collections.unmodifiableMap(slotsByName);
+    }
+
+    /**
+     * @return the number of fields
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Returns the slot of the field from the native name
+     *
+     * @param name the native name
+     * @return the slot otherwise -1
+     * @throws NullPointerException when name is null
+     */
+    public int getSlot(String name) {
+        requireNonNull(name, "name is required");
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Walks the elements once, finds the field of each element and then calls the consumer, in the field order,
+     * to each field that has an element or whose type is within the types always visited,
+     * such as the embedded fields whose values are spread over the elements.
+     * When there are elements with the same name, the first one is used.
+     *
+     * @param elements      the elements of the row
+     * @param nameOf        the function that returns the name of an element
+     * @param alwaysVisited the types that are visited even without an element
+     * @param consumer      the consumer to each field and its element
+     * @param <E>           the element type
+     * @throws NullPointerException when there is null parameter
+     */
+    public <E> void read(List<E> elements, Function<E, String> nameOf, Set<FieldType> alwaysVisited,
+                         BiConsumer<FieldMapping, Optional<E>> consumer) {
+        requireNonNull(elements, "elements is required");
+        requireNonNull(nameOf, "nameOf is required");
+        requireNonNull(alwaysVisited, "alwaysVisited is required");
+        requireNonNull(consumer, "consumer is required");
+
+        Object[] found = new Object[fields.length];
+        for (E element : elements) {
+            Integer slot = slots.get(nameOf.apply(element));
+            if (slot != null && found[slot] == null) {
+                found[slot] = element;
+            }
+        }
+
+        for (int index = 0; index < fields.length; index++) {
+            FieldMapping field = fields[index];
+            if (found[index] != null) {
+                consumer.accept(field, Optional.of((E) found[index]));
+            } else if (alwaysVisited.contains(field.getType())) {
+                consumer.accept(field, Optional.empty());
+            }
+        }
+    }
+
+    /**
+     * Creates the plan from the fields
+     *
+     * @param fields the fields
+     * @return a {@link ReadPlan}
+     * @throws NullPointerException when fields is null
+     */
+    public static ReadPlan of(List<FieldMapping> fields) {
+        requireNonNull(fields, "fields is required");
+        return new ReadPlan(fields);
+    }
+}
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.ArtemisException;
+
 import javax.inject.Inject;
 import java.lang.reflect.Field;
 import java.util.Objects;
@@ -33,6 +35,66 @@ class ReflectionFieldReaderFactory implements FieldReaderFactory {
     @Override
     public FieldReader apply(Field field) {
         Objects.requireNonNull(field, "field is required");
+        if (field.getType().isPrimitive()) {
+            return new PrimitiveFieldReader(reflections, field);
+        }
         return bean -> reflections.getValue(bean, field);
     }
+
+    /**
+     * A {@link FieldReader} that reads the primitive values with the {@link Field} primitive getters,
+     * so they are not boxed.
+     */
+    private static final class PrimitiveFieldReader implements FieldReader {
+
+        private final Reflections reflections;
+
+        private final Field field;
+
+        PrimitiveFieldReader(Reflections reflections, Field field) {
+            this.reflections = reflections;
+            this.field = field;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            return reflections.getValue(bean, field);
+        }
+
+        @Override
+        public int readInt(Object bean) {
+            try {
+                return field.getInt(bean);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was read", e);
+            }
+        }
+
+        @Override
+        public long readLong(Object bean) {
+            try {
+                return field.getLong(bean);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was read", e);
+            }
+        }
+
+        @Override
+        public double readDouble(Object bean) {
+            try {
+                return field.getDouble(bean);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was read", e);
+            }
+        }
+
+        @Override
+        public boolean readBoolean(Object bean) {
+            try {
+                return field.getBoolean(bean);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was read", e);
+            }
+        }
+    }
 }
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.ArtemisException;
+
 import javax.inject.Inject;
 import java.lang.reflect.Field;
 
@@ -32,6 +34,66 @@ class ReflectionFieldWriterFactory implements FieldWriterFactory {
 
     @Override
     public FieldWriter apply(Field field) {
+        if (field.getType().isPrimitive()) {
+            return new PrimitiveFieldWriter(reflections, field);
+        }
         return (bean, value) -> reflections.setValue(bean, field, value);
     }
+
+    /**
+     * A {@link FieldWriter} that writes the primitive values with the {@link Field} primitive setters,
+     * so they are not boxed.
+     */
+    private static final class PrimitiveFieldWriter implements FieldWriter {
+
+        private final Reflections reflections;
+
+        private final Field field;
+
+        PrimitiveFieldWriter(Reflections reflections, Field field) {
+            this.reflections = reflections;
+            this.field = field;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            reflections.setValue(bean, field, value);
+        }
+
+        @Override
+        public void writeInt(Object bean, int value) {
+            try {
+                field.setInt(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was written", e);
+            }
+        }
+
+        @Override
+        public void writeLong(Object bean, long value) {
+            try {
+                field.setLong(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was written", e);
+            }
+        }
+
+        @Override
+        public void writeDouble(Object bean, double value) {
+            try {
+                field.setDouble(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was written", e);
+            }
+        }
+
+        @Override
+        public void writeBoolean(Object bean, boolean value) {
+            try {
+                field.setBoolean(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new ArtemisException("An error when the field " + field.getName() + " was written", e);
+            }
+        }
+    }
 }
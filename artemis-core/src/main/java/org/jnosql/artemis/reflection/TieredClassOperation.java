@@ -0,0 +1,380 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An implementation of {@link ClassOperation} that hands out the accessors from the initial operation,
+ * usually reflection, and counts how many times the accessors of each class are invoked. When a class crosses
+ * the threshold, its accessors are created again from the optimized operation in background and then
+ * swapped in, so the bootstrap does not wait the code generation and only the hot classes pay for it.
+ * Once promoted, an accessor calls the optimized one straight away and no longer counts. The optimized accessors
+ * are immutable, so they are published through plain fields: a thread that does not see the swap yet keeps using
+ * the initial accessor, that is still correct, until it does.
+ */
+final class TieredClassOperation implements ClassOperation {
+
+    private static final Logger LOGGER = Logger.getLogger(TieredClassOperation.class.getName());
+
+    private final ClassOperation initial;
+
+    private final Supplier<ClassOperation> optimized;
+
+    private final int threshold;
+
+    private final Executor executor;
+
+    private final ClassValue<Tier> tiers = new ClassValue<Tier>() {
+        @Override
+        protected Tier computeValue(Class<?> entityClass) {
+            return new Tier(entityClass);
+        }
+    };
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    TieredClassOperation(ClassOperation initial, Supplier<ClassOperation> optimized, int threshold, Executor executor) {
+        this.initial = requireNonNull(initial, "initial is required");
+        this.optimized = requireNonNull(optimized, "optimized is required");
+        this.executor = requireNonNull(executor, "executor is required");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold must not be negative: " + threshold);
+        }
+        this.threshold = threshold;
+        this.instanceSupplierFactory = this::createInstanceSupplier;
+        this.fieldWriterFactory = this::createWriter;
+        this.fieldReaderFactory = this::createReader;
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+
+    /**
+     * Checks if the accessors of the class were already swapped to the optimized operation
+     *
+     * @param entityClass the class
+     * @return true when the class is promoted
+     */
+    boolean isPromoted(Class<?> entityClass) {
+        return tiers.get(entityClass).promoted;
+    }
+
+    /**
+     * Returns how many times the initial accessors of the class were invoked
+     *
+     * @param entityClass the class
+     * @return the invocations counted
+     */
+    int getInvocations(Class<?> entityClass) {
+        return tiers.get(entityClass).invocations.get();
+    }
+
+    private InstanceSupplier createInstanceSupplier(Constructor<?> constructor) {
+        requireNonNull(constructor, "constructor is required");
+        Tier tier = tiers.get(constructor.getDeclaringClass());
+        TieredInstanceSupplier supplier = new TieredInstanceSupplier(tier,
+                initial.getInstanceSupplierFactory().apply(constructor));
+        tier.register(o -> supplier.promoted = o.getInstanceSupplierFactory().apply(constructor));
+        return supplier;
+    }
+
+    private FieldWriter createWriter(Field field) {
+        requireNonNull(field, "field is required");
+        Tier tier = tiers.get(field.getDeclaringClass());
+        TieredFieldWriter writer = new TieredFieldWriter(tier, initial.getFieldWriterFactory().apply(field));
+        tier.register(field, o -> writer.promoted = o.getFieldWriterFactory().apply(field));
+        return writer;
+    }
+
+    private FieldReader createReader(Field field) {
+        requireNonNull(field, "field is required");
+        Tier tier = tiers.get(field.getDeclaringClass());
+        TieredFieldReader reader = new TieredFieldReader(tier, initial.getFieldReaderFactory().apply(field));
+        tier.register(field, o -> reader.promoted = o.getFieldReaderFactory().apply(field));
+        return reader;
+    }
+
+    private interface Promotion {
+        void promote(ClassOperation operation);
+    }
+
+    private final class Tier {
+
+        private final Class<?> entityClass;
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private final List<Promotion> promotions = new ArrayList<>();
+
+        private final List<Field> fields = new ArrayList<>();
+
+        private volatile boolean scheduled;
+
+        private volatile boolean promoted;
+
+        Tier(Class<?> entityClass) {
+            this.entityClass = entityClass;
+        }
+
+        void hit() {
+            if (!scheduled && invocations.incrementAndGet() >= threshold) {
+                schedule();
+            }
+        }
+
+        void register(Field field, Promotion promotion) {
+            synchronized (this) {
+                if (!fields.contains(field)) {
+                    fields.add(field);
+                }
+            }
+            register(promotion);
+        }
+
+        void register(Promotion promotion) {
+            synchronized (this) {
+                if (!promoted) {
+                    promotions.add(promotion);
+                    return;
+                }
+            }
+            promote(promotion, optimized);
+        }
+
+        private synchronized void schedule() {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+            executor.execute(this::promote);
+        }
+
+        private void promote() {
+            List<Promotion> pending;
+            List<Field> preparedFields;
+            synchronized (this) {
+                pending = new ArrayList<>(promotions);
+                preparedFields = new ArrayList<>(fields);
+                promotions.clear();
+                promoted = true;
+            }
+            try {
+                ClassOperation operation = optimized.get();
+                if (operation instanceof BatchClassOperation) {
+                    BatchClassOperation.class.cast(operation).prepare(entityClass, preparedFields);
+                }
+                pending.forEach(p -> promote(p, () -> operation));
+                LOGGER.fine(() -> "The accessors of " + entityClass.getName() + " were promoted to "
+                        + operation.getClass().getName());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "It cannot promote the accessors of " + entityClass.getName()
+                        + ", keeping the initial ones", e);
+            }
+        }
+
+        private void promote(Promotion promotion, Supplier<ClassOperation> operation) {
+            try {
+                promotion.promote(operation.get());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "It cannot promote an accessor of " + entityClass.getName()
+                        + ", keeping the initial one", e);
+            }
+        }
+    }
+
+    private static final class TieredFieldReader implements FieldReader {
+
+        private final Tier tier;
+
+        private final FieldReader initial;
+
+        private FieldReader promoted;
+
+        TieredFieldReader(Tier tier, FieldReader initial) {
+            this.tier = tier;
+            this.initial = initial;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            FieldReader accessor = promoted;
+            if (accessor != null) {
+                return accessor.read(bean);
+            }
+            tier.hit();
+            return initial.read(bean);
+        }
+
+        @Override
+        public int readInt(Object bean) {
+            FieldReader accessor = promoted;
+            if (accessor != null) {
+                return accessor.readInt(bean);
+            }
+            tier.hit();
+            return initial.readInt(bean);
+        }
+
+        @Override
+        public long readLong(Object bean) {
+            FieldReader accessor = promoted;
+            if (accessor != null) {
+                return accessor.readLong(bean);
+            }
+            tier.hit();
+            return initial.readLong(bean);
+        }
+
+        @Override
+        public double readDouble(Object bean) {
+            FieldReader accessor = promoted;
+            if (accessor != null) {
+                return accessor.readDouble(bean);
+            }
+            tier.hit();
+            return initial.readDouble(bean);
+        }
+
+        @Override
+        public boolean readBoolean(Object bean) {
+            FieldReader accessor = promoted;
+            if (accessor != null) {
+                return accessor.readBoolean(bean);
+            }
+            tier.hit();
+            return initial.readBoolean(bean);
+        }
+    }
+
+    private static final class TieredFieldWriter implements FieldWriter {
+
+        private final Tier tier;
+
+        private final FieldWriter initial;
+
+        private FieldWriter promoted;
+
+        TieredFieldWriter(Tier tier, FieldWriter initial) {
+            this.tier = tier;
+            this.initial = initial;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            FieldWriter accessor = promoted;
+            if (accessor != null) {
+                accessor.write(bean, value);
+                return;
+            }
+            tier.hit();
+            initial.write(bean, value);
+        }
+
+        @Override
+        public void writeInt(Object bean, int value) {
+            FieldWriter accessor = promoted;
+            if (accessor != null) {
+                accessor.writeInt(bean, value);
+                return;
+            }
+            tier.hit();
+            initial.writeInt(bean, value);
+        }
+
+        @Override
+        public void writeLong(Object bean, long value) {
+            FieldWriter accessor = promoted;
+            if (accessor != null) {
+                accessor.writeLong(bean, value);
+                return;
+            }
+            tier.hit();
+            initial.writeLong(bean, value);
+        }
+
+        @Override
+        public void writeDouble(Object bean, double value) {
+            FieldWriter accessor = promoted;
+            if (accessor != null) {
+                accessor.writeDouble(bean, value);
+                return;
+            }
+            tier.hit();
+            initial.writeDouble(bean, value);
+        }
+
+        @Override
+        public void writeBoolean(Object bean, boolean value) {
+            FieldWriter accessor = promoted;
+            if (accessor != null) {
+                accessor.writeBoolean(bean, value);
+                return;
+            }
+            tier.hit();
+            initial.writeBoolean(bean, value);
+        }
+    }
+
+    private static final class TieredInstanceSupplier implements InstanceSupplier {
+
+        private final Tier tier;
+
+        private final InstanceSupplier initial;
+
+        private InstanceSupplier promoted;
+
+        TieredInstanceSupplier(Tier tier, InstanceSupplier initial) {
+            this.tier = tier;
+            this.initial = initial;
+        }
+
+        @Override
+        public Object get() {
+            InstanceSupplier accessor = promoted;
+            if (accessor != null) {
+                return accessor.get();
+            }
+            tier.hit();
+            return initial.get();
+        }
+    }
+}
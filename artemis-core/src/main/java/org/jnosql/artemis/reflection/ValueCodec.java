@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.diana.api.Value;
+
+/**
+ * Converts a {@link Value} from the database to the type of a field, it is resolved once to each
+ * {@link FieldMapping}, so the conversion of the common types does not need to search a reader
+ * within {@link Value#get(Class)} on every call.
+ *
+ * @see ValueCodecs
+ */
+@FunctionalInterface
+interface ValueCodec {
+
+    /**
+     * Converts the value to the field type
+     *
+     * @param value the value
+     * @return the instance from the field type
+     * @throws NullPointerException when value is null
+     */
+    Object decode(Value value);
+}
@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.diana.api.TypeSupplier;
+import org.jnosql.diana.api.Value;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link ValueCodec} implementations. The codecs convert the value without {@link Value#get(Class)}
+ * when the value already is the field type, when it is the name of an enum constant, when it is a number
+ * to a number field or when it is a collection whose elements have these conversions.
+ * Every other case, such as a String to a temporal type, falls back to {@link Value}.
+ */
+final class ValueCodecs {
+
+    private static final Object MISS = new Object();
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Creates the codec to a type
+     *
+     * @param type the type
+     * @return the {@link ValueCodec}
+     * @throws NullPointerException when type is null
+     */
+    static ValueCodec of(Class<?> type) {
+        return scalar(requireNonNull(type, "type is required"));
+    }
+
+    /**
+     * Creates the codec to a generic field, when the field is a collection of a class it converts each element
+     * into a target created with the collection size, otherwise it uses the {@link TypeSupplier}
+     *
+     * @param field        the field
+     * @param typeSupplier the type supplier
+     * @return the {@link ValueCodec}
+     * @throws NullPointerException when there is null parameter
+     */
+    static ValueCodec of(Field field, TypeSupplier<?> typeSupplier) {
+        requireNonNull(field, "field is required");
+        requireNonNull(typeSupplier, "typeSupplier is required");
+        ValueCodec fallback = value -> value.get(typeSupplier);
+        IntFunction<Collection<Object>> collection = getCollectionSupplier(field.getType());
+        Type genericType = field.getGenericType();
+        if (collection == null || !(genericType instanceof ParameterizedType)) {
+            return fallback;
+        }
+        Type element = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        if (!(element instanceof Class)) {
+            return fallback;
+        }
+        return new CollectionCodec(collection, scalar((Class<?>) element), fallback);
+    }
+
+    /**
+     * Returns the function that creates the collection to the field type with an expected size
+     *
+     * @param type the field type
+     * @return the function otherwise null when the collection type is not supported
+     */
+    static IntFunction<Collection<Object>> getCollectionSupplier(Class<?> type) {
+        if (Deque.class.equals(type) || Queue.class.equals(type)) {
+            return size -> new LinkedList<>();
+        } else if (List.class.equals(type) || Iterable.class.equals(type)) {
+            return ArrayList::new;
+        } else if (NavigableSet.class.equals(type) || SortedSet.class.equals(type)) {
+            return size -> new TreeSet<>();
+        } else if (Set.class.equals(type)) {
+            return size -> new HashSet<>(Math.max(size * 4 / 3 + 1, 16));
+        }
+        return null;
+    }
+
+    private static ScalarCodec scalar(Class<?> type) {
+        Class<?> boxed = box(type);
+        if (type.isEnum()) {
+            return new EnumCodec(type);
+        }
+        if (Number.class.isAssignableFrom(boxed) && boxed.getName().startsWith("java.lang.")) {
+            return new NumberCodec(type, boxed);
+        }
+        return new ScalarCodec(type, boxed);
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (int.class == type) {
+            return Integer.class;
+        } else if (long.class == type) {
+            return Long.class;
+        } else if (double.class == type) {
+            return Double.class;
+        } else if (float.class == type) {
+            return Float.class;
+        } else if (short.class == type) {
+            return Short.class;
+        } else if (byte.class == type) {
+            return Byte.class;
+        } else if (boolean.class == type) {
+            return Boolean.class;
+        } else if (char.class == type) {
+            return Character.class;
+        }
+        return type;
+    }
+
+    private static class ScalarCodec implements ValueCodec {
+
+        protected final Class<?> type;
+
+        protected final Class<?> boxed;
+
+        ScalarCodec(Class<?> type, Class<?> boxed) {
+            this.type = type;
+            this.boxed = boxed;
+        }
+
+        @Override
+        public Object decode(Value value) {
+            Object raw = value.get();
+            Object converted = raw == null ? MISS : convert(raw);
+            return converted == MISS ? value.get(type) : converted;
+        }
+
+        Object decodeElement(Object raw) {
+            Object converted = raw == null ? MISS : convert(raw);
+            return converted == MISS ? Value.of(raw).get(type) : converted;
+        }
+
+        Object convert(Object raw) {
+            return boxed.isInstance(raw) ? raw : MISS;
+        }
+    }
+
+    private static class EnumCodec extends ScalarCodec {
+
+        private final Map<String, Object> constants;
+
+        EnumCodec(Class<?> type) {
+            super(type, type);
+            Map<String, Object> constantsByName = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constantsByName.put(((Enum<?>) constant).name(), constant);
+            }
+            this.constants = Collections.unmodifiableMap(constantsByName);
+        }
+
+        @Override
+        Object convert(Object raw) {
+            if (type.isInstance(raw)) {
+                return raw;
+            }
+            if (raw instanceof String) {
+                return constants.getOrDefault(raw, MISS);
+            }
+            return MISS;
+        }
+    }
+
+    private static class NumberCodec extends ScalarCodec {
+
+        NumberCodec(Class<?> type, Class<?> boxed) {
+            super(type, boxed);
+        }
+
+        @Override
+        Object convert(Object raw) {
+            if (boxed.isInstance(raw)) {
+                return raw;
+            }
+            if (!(raw instanceof Number)) {
+                return MISS;
+            }
+            Number number = (Number) raw;
+            if (Integer.class == boxed) {
+                return number.intValue();
+            } else if (Long.class == boxed) {
+                return number.longValue();
+            } else if (Double.class == boxed) {
+                return number.doubleValue();
+            } else if (Float.class == boxed) {
+                return number.floatValue();
+            } else if (Short.class == boxed) {
+                return number.shortValue();
+            } else if (Byte.class == boxed) {
+                return number.byteValue();
+            }
+            return MISS;
+        }
+    }
+
+    private static class CollectionCodec implements ValueCodec {
+
+        private final IntFunction<Collection<Object>> supplier;
+
+        private final ScalarCodec element;
+
+        private final ValueCodec fallback;
+
+        CollectionCodec(IntFunction<Collection<Object>> supplier, ScalarCodec element, ValueCodec fallback) {
+            this.supplier = supplier;
+            this.element = element;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public Object decode(Value value) {
+            Object raw = value.get();
+            if (!(raw instanceof Collection)) {
+                return fallback.decode(value);
+            }
+            Collection<?> elements = (Collection<?>) raw;
+            Collection<Object> collection = supplier.apply(elements.size());
+            for (Object item : elements) {
+                collection.add(element.decodeElement(item));
+            }
+            return collection;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The plan to write an entity into the database format, it is created once to each {@link ClassMapping}
+ * and keeps, in arrays, what each field needs: its {@link FieldMapping}, the native name, the converter
+ * and how the value is written, so a converter only loops over indexes instead of checking the field
+ * to each instance.
+ */
+public final class WritePlan {
+
+    /**
+     * How a field value is written into the database format
+     */
+    public enum Kind {
+        /**
+         * The value is written as it is
+         */
+        VALUE,
+        /**
+         * The value is converted with the {@link AttributeConverter}
+         */
+        CONVERTER,
+        /**
+         * The fields of the value are written at the same level of the entity
+         */
+        EMBEDDED,
+        /**
+         * The value is written as a sub entity
+         */
+        SUBENTITY,
+        /**
+         * The value is a collection of embeddable, each element is written as a sub entity
+         */
+        EMBEDDABLE_COLLECTION
+    }
+
+    private final FieldMapping[] fields;
+
+    private final String[] names;
+
+    private final Kind[] kinds;
+
+    private final Class<? extends AttributeConverter>[] converters;
+
+    private WritePlan(List<FieldMapping> fields) {
+        int size = fields.size();
+        this.fields = new FieldMapping[size];
+        this.names = new String[size];
+        this.kinds = new Kind[size];
+        this.converters = new Class[size];
+        for (int index = 0; index < size; index++) {
+            FieldMapping field = fields.get(index);
+            this.fields[index] = field;
+            this.names[index] = field.getName();
+            this.converters[index] = field.getConverter().orElse(null);
+            this.kinds[index] = getKind(field, converters[index]);
+        }
+    }
+
+    /**
+     * @return the number of fields
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Reads the value of the field at the index
+     *
+     * @param index the field index
+     * @param bean  the entity
+     * @return the value, it might be null
+     */
+    public Object read(int index, Object bean) {
+        return fields[index].read(bean);
+    }
+
+    /**
+     * @param index the field index
+     * @return the {@link FieldMapping} at the index
+     */
+    public FieldMapping getField(int index) {
+        return fields[index];
+    }
+
+    /**
+     * @param index the field index
+     * @return the native name at the index
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index the field index
+     * @return how the field at the index is written
+     */
+    public Kind getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * @param index the field index
+     * @return the converter of the field at the index, it is null unless the {@link Kind} is {@link Kind#CONVERTER}
+     */
+    public Class<? extends AttributeConverter> getConverter(int index) {
+        return converters[index];
+    }
+
+    private static Kind getKind(FieldMapping field, Class<? extends AttributeConverter> converter) {
+        switch (field.getType()) {
+            case EMBEDDED:
+                return Kind.EMBEDDED;
+            case SUBENTITY:
+                return Kind.SUBENTITY;
+            case COLLECTION:
+                if (GenericFieldMapping.class.cast(field).isEmbeddable()) {
+                    return Kind.EMBEDDABLE_COLLECTION;
+                }
+                break;
+            default:
+                break;
+        }
+        return converter == null ? Kind.VALUE : Kind.CONVERTER;
+    }
+
+    /**
+     * Creates the plan from the fields
+     *
+     * @param fields the fields
+     * @return a {@link WritePlan}
+     * @throws NullPointerException when fields is null
+     */
+    public static WritePlan of(List<FieldMapping> fields) {
+        requireNonNull(fields, "fields is required");
+        return new WritePlan(fields);
+    }
+}
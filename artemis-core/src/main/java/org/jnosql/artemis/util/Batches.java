@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splits the entities of a bulk operation in batches, so the templates send each batch to the database at once
+ * instead of one entity at a time. The size of the batches is defined by the system property artemis.batch.size,
+ * 1,000 by default.
+ */
+public final class Batches {
+
+    static final String SIZE = "artemis.batch.size";
+
+    private static final int DEFAULT_SIZE = 1_000;
+
+    private Batches() {
+    }
+
+    /**
+     * Returns the size of the batches from the system property artemis.batch.size
+     *
+     * @return the size of the batches, when the property is not positive it returns the default one
+     */
+    public static int getSize() {
+        int size = Integer.getInteger(SIZE, DEFAULT_SIZE);
+        return size > 0 ? size : DEFAULT_SIZE;
+    }
+
+    /**
+     * Applies the operation to each batch of {@link Batches#getSize()} elements
+     *
+     * @param elements  the elements
+     * @param operation the operation to a batch
+     * @param <T>       the element type
+     * @param <R>       the result type
+     * @return the results of every batch, in the order of the elements
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T, R> List<R> apply(Iterable<T> elements, Function<List<T>, List<R>> operation) {
+        return apply(elements, getSize(), operation);
+    }
+
+    /**
+     * Applies the operation to each batch of the size given
+     *
+     * @param elements  the elements
+     * @param size      the size of the batches
+     * @param operation the operation to a batch
+     * @param <T>       the element type
+     * @param <R>       the result type
+     * @return the results of every batch, in the order of the elements
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    public static <T, R> List<R> apply(Iterable<T> elements, int size, Function<List<T>, List<R>> operation) {
+        requireNonNull(elements, "elements is required");
+        requireNonNull(operation, "operation is required");
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size of the batches must be positive: " + size);
+        }
+        List<R> results = new ArrayList<>();
+        List<T> batch = new ArrayList<>(size);
+        for (T element : elements) {
+            batch.add(element);
+            if (batch.size() == size) {
+                results.addAll(operation.apply(batch));
+                batch = new ArrayList<>(size);
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(operation.apply(batch));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazy {@link Stream} that reads a query result page by page with skip and limit. Each page is read by the
+ * {@link PageReader} in the caller thread when the stream reaches it, while only the database call of the next page,
+ * the {@link PageFetcher}, runs in background, so at most two pages are in memory. The stream ends at the first page
+ * smaller than the page size, when the limit of the query is reached or when a page repeats the previous one, as a
+ * database that ignores the skip does.
+ */
+public final class PagedStream {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private PagedStream() {
+    }
+
+    /**
+     * Creates the stream
+     *
+     * @param fetcher  the function that reads a page from the database, it may run in background
+     * @param reader   the function that reads a page in the caller thread
+     * @param skip     the skip of the query
+     * @param limit    the limit of the query, zero or negative means no limit
+     * @param pageSize the page size
+     * @param <E>      the entity type
+     * @return a lazy and sequential {@link Stream}, it should be closed when it is not consumed until the end
+     * @throws NullPointerException     when fetcher or reader is null
+     * @throws IllegalArgumentException when pageSize is not positive
+     */
+    public static <E> Stream<E> of(PageFetcher<E> fetcher, PageReader<E> reader, long skip, long limit,
+                                   int pageSize) {
+        requireNonNull(fetcher, "fetcher is required");
+        requireNonNull(reader, "reader is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+        }
+        PagedIterator<E> iterator = new PagedIterator<>(fetcher, reader, skip, limit <= 0 ? Long.MAX_VALUE : limit,
+                pageSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * The function that reads a page of a query result from the database. The pages after the first one are read in
+     * background, so it should only call the database.
+     *
+     * @param <E> the entity type
+     */
+    @FunctionalInterface
+    public interface PageFetcher<E> {
+
+        /**
+         * Reads the page
+         *
+         * @param skip  the number of entities to skip
+         * @param limit the maximum number of entities
+         * @return the entities of the page
+         */
+        List<E> fetch(long skip, long limit);
+    }
+
+    /**
+     * The function that reads a page of a query result in the caller thread, where the events and the caches
+     * of the page apply.
+     *
+     * @param <E> the entity type
+     */
+    @FunctionalInterface
+    public interface PageReader<E> {
+
+        /**
+         * Reads the page
+         *
+         * @param skip  the number of entities to skip
+         * @param limit the maximum number of entities
+         * @param page  the page from the {@link PageFetcher}, it waits the background read when there is one
+         * @return the entities of the page
+         */
+        List<E> read(long skip, long limit, Supplier<List<E>> page);
+    }
+
+    private static final class PagedIterator<E> implements Iterator<E> {
+
+        private final PageFetcher<E> fetcher;
+
+        private final PageReader<E> reader;
+
+        private final int pageSize;
+
+        private long skip;
+
+        private long remaining;
+
+        private boolean started;
+
+        private Page<E> next;
+
+        private List<E> previous;
+
+        private Iterator<E> current = Collections.emptyIterator();
+
+        private PagedIterator(PageFetcher<E> fetcher, PageReader<E> reader, long skip, long remaining,
+                              int pageSize) {
+            this.fetcher = fetcher;
+            this.reader = reader;
+            this.skip = skip;
+            this.remaining = remaining;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                next = new Page<>(fetcher, skip, Math.min(pageSize, remaining), false);
+            }
+            while (!current.hasNext()) {
+                if (next == null) {
+                    return false;
+                }
+                Page<E> page = next;
+                next = null;
+                List<E> entities = reader.read(page.skip, page.limit, page::get);
+                page.cancel();
+                if (entities.isEmpty() || entities.equals(previous)) {
+                    return false;
+                }
+                skip += page.limit;
+                remaining -= page.limit;
+                if (entities.size() >= page.limit && remaining > 0) {
+                    next = new Page<>(fetcher, skip, Math.min(pageSize, remaining), true);
+                }
+                previous = entities;
+                current = entities.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private void close() {
+            if (next != null) {
+                next.cancel();
+                next = null;
+            }
+            previous = null;
+            current = Collections.emptyIterator();
+        }
+    }
+
+    private static final class Page<E> {
+
+        private final PageFetcher<E> fetcher;
+
+        private final long skip;
+
+        private final long limit;
+
+        private final CompletableFuture<List<E>> prefetch;
+
+        private Page(PageFetcher<E> fetcher, long skip, long limit, boolean async) {
+            this.fetcher = fetcher;
+            this.skip = skip;
+            this.limit = limit;
+            this.prefetch = async ? CompletableFuture.supplyAsync(() -> fetcher.fetch(skip, limit), Prefetch.EXECUTOR)
+                    : null;
+        }
+
+        private List<E> get() {
+            if (prefetch == null) {
+                return fetcher.fetch(skip, limit);
+            }
+            try {
+                return prefetch.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            }
+        }
+
+        private void cancel() {
+            if (prefetch != null) {
+                prefetch.cancel(false);
+            }
+        }
+    }
+
+    private static final class Prefetch {
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "artemis-prefetch-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
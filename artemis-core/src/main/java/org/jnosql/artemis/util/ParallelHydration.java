@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Converts the results of a query to entities in parallel, at a dedicated {@link ForkJoinPool}, when the number
+ * of results reaches a threshold; the smaller results are converted in the caller thread. The order of the results
+ * is kept. It is enabled with the system property artemis.hydration.parallelism, the size of the pool, and the
+ * threshold is defined by artemis.hydration.threshold, 10,000 by default.
+ * The converter must be thread-safe and must not rely on the state of the caller thread.
+ */
+public final class ParallelHydration {
+
+    static final String PARALLELISM = "artemis.hydration.parallelism";
+
+    static final String THRESHOLD = "artemis.hydration.threshold";
+
+    private static final int DEFAULT_THRESHOLD = 10_000;
+
+    private static final Logger LOGGER = Logger.getLogger(ParallelHydration.class.getName());
+
+    private final int parallelism;
+
+    private final int threshold;
+
+    private final LongAdder parallelHydrations = new LongAdder();
+
+    private final LongAdder parallelEntities = new LongAdder();
+
+    private final LongAdder sequentialHydrations = new LongAdder();
+
+    private volatile ForkJoinPool pool;
+
+    ParallelHydration(int parallelism, int threshold) {
+        this.parallelism = parallelism;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Returns the instance configured from the system properties
+     *
+     * @return the {@link ParallelHydration}
+     */
+    public static ParallelHydration get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Converts the entities keeping their order
+     *
+     * @param entities  the entities in the database format
+     * @param converter the converter to each entity
+     * @param <E>       the database entity type
+     * @param <T>       the entity type
+     * @return the entities converted
+     * @throws NullPointerException when there is null parameter
+     */
+    public <E, T> List<T> apply(List<E> entities, Function<? super E, ? extends T> converter) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(converter, "converter is required");
+        if (!isEnabled() || entities.size() < threshold) {
+            sequentialHydrations.increment();
+            return entities.stream().<T>map(converter).collect(toList());
+        }
+        parallelHydrations.increment();
+        parallelEntities.add(entities.size());
+        return getPool().submit(() -> entities.parallelStream().<T>map(converter).collect(toList())).join();
+    }
+
+    /**
+     * @return true when the parallelism is bigger than one
+     */
+    public boolean isEnabled() {
+        return parallelism > 1;
+    }
+
+    /**
+     * @return the size of the pool
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the minimum number of entities converted in parallel
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return the number of results converted in parallel
+     */
+    public long getParallelHydrations() {
+        return parallelHydrations.sum();
+    }
+
+    /**
+     * @return the number of entities converted in parallel
+     */
+    public long getParallelEntities() {
+        return parallelEntities.sum();
+    }
+
+    /**
+     * @return the number of results converted in the caller thread
+     */
+    public long getSequentialHydrations() {
+        return sequentialHydrations.sum();
+    }
+
+    /**
+     * @return the number of threads of the pool converting the entities
+     */
+    public int getActiveThreads() {
+        ForkJoinPool current = pool;
+        return current == null ? 0 : current.getActiveThreadCount();
+    }
+
+    private ForkJoinPool getPool() {
+        ForkJoinPool current = pool;
+        if (current == null) {
+            synchronized (this) {
+                current = pool;
+                if (current == null) {
+                    current = new ForkJoinPool(parallelism, ParallelHydration::newThread, null, false);
+                    pool = current;
+                    LOGGER.fine(() -> "Parallel hydration enabled: " + this);
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("artemis-hydration-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ParallelHydration{");
+        sb.append("parallelism=").append(parallelism);
+        sb.append(", threshold=").append(threshold);
+        sb.append(", parallelHydrations=").append(getParallelHydrations());
+        sb.append(", parallelEntities=").append(getParallelEntities());
+        sb.append(", sequentialHydrations=").append(getSequentialHydrations());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class Holder {
+
+        private static final ParallelHydration INSTANCE = new ParallelHydration(Integer.getInteger(PARALLELISM, 0),
+                Integer.getInteger(THRESHOLD, DEFAULT_THRESHOLD));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.artemis.model.MoneyConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultConvertersTest {
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    public void shouldReturnNPEWhenClassIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> converters.get(null));
+    }
+
+    @Test
+    public void shouldReturnConverter() {
+        AttributeConverter converter = converters.get(MoneyConverter.class);
+        Assertions.assertNotNull(converter);
+        Assertions.assertTrue(converter instanceof MoneyConverter);
+    }
+
+    @Test
+    public void shouldCountCacheHits() {
+        DefaultConverters defaultConverters = (DefaultConverters) converters;
+        converters.get(MoneyConverter.class);
+        long hits = defaultConverters.getHits();
+        converters.get(MoneyConverter.class);
+        converters.get(MoneyConverter.class);
+        Assertions.assertEquals(hits + 2, defaultConverters.getHits());
+    }
+}
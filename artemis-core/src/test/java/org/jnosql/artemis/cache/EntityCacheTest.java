@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class EntityCacheTest {
+
+    private AtomicLong ticker;
+
+    private EntityCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        ticker = new AtomicLong();
+        cache = new EntityCache("Person", 2, TimeUnit.SECONDS.toNanos(10), ticker::get);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIdIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(null, "entity"));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(1L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.remove(null));
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        Assertions.assertFalse(cache.get(1L).isPresent());
+        cache.put(1L, "Ada");
+        Assertions.assertEquals(Optional.of("Ada"), cache.get(1L));
+        Assertions.assertEquals(1L, cache.getHits());
+        Assertions.assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsed() {
+        cache.put(1L, "Ada");
+        cache.put(2L, "Grace");
+        cache.get(1L);
+        cache.put(3L, "Linus");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertTrue(cache.get(1L).isPresent());
+        Assertions.assertFalse(cache.get(2L).isPresent());
+        Assertions.assertEquals(1L, cache.getEvictions());
+    }
+
+    @Test
+    public void shouldExpire() {
+        cache.put(1L, "Ada");
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.put(2L, "Grace");
+        Assertions.assertTrue(cache.get(1L).isPresent());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertFalse(cache.get(1L).isPresent());
+        cache.cleanUp();
+        Assertions.assertEquals(1, cache.size());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.cleanUp();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(2L, cache.getEvictions());
+    }
+
+    @Test
+    public void shouldNotPutWhenItWasRemovedMeanwhile() {
+        long version = cache.getVersion();
+        cache.remove(1L);
+        Assertions.assertFalse(cache.put(1L, "Ada", version));
+        Assertions.assertFalse(cache.get(1L).isPresent());
+        Assertions.assertTrue(cache.put(1L, "Ada", cache.getVersion()));
+        Assertions.assertTrue(cache.get(1L).isPresent());
+    }
+
+    @Test
+    public void shouldClear() {
+        cache.put(1L, "Ada");
+        cache.put(2L, "Grace");
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.Optional;
+
+class EntityCachesTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("artemis.cache.Plain.size");
+        System.clearProperty("artemis.cache.Plain.queries");
+    }
+
+    @Test
+    public void shouldReturnTheSameCachesToTheManager() {
+        Object manager = new Object();
+        Assertions.assertSame(EntityCaches.of(manager), EntityCaches.of(manager));
+        Assertions.assertNotSame(EntityCaches.of(manager), EntityCaches.of(new Object()));
+    }
+
+    @Test
+    public void shouldEnableFromAnnotation() {
+        EntityCaches caches = new EntityCaches();
+        Optional<EntityCache> cache = caches.get(mapping(Country.class, "Country"));
+        Assertions.assertTrue(cache.isPresent());
+        Assertions.assertSame(cache.get(), caches.getCaches().get("Country"));
+        Assertions.assertFalse(caches.get(mapping(Plain.class, "Plain")).isPresent());
+    }
+
+    @Test
+    public void shouldEnableFromSystemProperty() {
+        System.setProperty("artemis.cache.Plain.size", "10");
+        Assertions.assertTrue(new EntityCaches().get(mapping(Plain.class, "Plain")).isPresent());
+    }
+
+    @Test
+    public void shouldInvalidate() {
+        EntityCaches caches = new EntityCaches();
+        EntityCache cache = caches.get(mapping(Country.class, "Country")).get();
+        cache.put("BR", "Brazil");
+        caches.invalidate("Country");
+        Assertions.assertEquals(0, cache.size());
+        cache.put("BR", "Brazil");
+        caches.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEnableQueriesFromAnnotation() {
+        EntityCaches caches = new EntityCaches();
+        Optional<QueryCache> cache = caches.getQueries(mapping(Catalog.class, "Catalog"));
+        Assertions.assertTrue(cache.isPresent());
+        Assertions.assertSame(cache.get(), caches.getQueryCaches().get("Catalog"));
+        Assertions.assertFalse(caches.get(mapping(Catalog.class, "Catalog")).isPresent());
+        Assertions.assertFalse(caches.getQueries(mapping(Country.class, "Country")).isPresent());
+    }
+
+    @Test
+    public void shouldEnableQueriesFromSystemProperty() {
+        System.setProperty("artemis.cache.Plain.queries", "10");
+        Assertions.assertTrue(new EntityCaches().getQueries(mapping(Plain.class, "Plain")).isPresent());
+    }
+
+    @Test
+    public void shouldInvalidateQueries() {
+        EntityCaches caches = new EntityCaches();
+        QueryCache cache = caches.getQueries(mapping(Catalog.class, "Catalog")).get();
+        cache.put("all", Collections.singletonList("Brazil"), cache.getVersion());
+        caches.invalidateQueries("Catalog");
+        Assertions.assertEquals(0, cache.size());
+        cache.put("all", Collections.singletonList("Brazil"), cache.getVersion());
+        caches.invalidate("Catalog");
+        Assertions.assertEquals(0, cache.size());
+        cache.put("all", Collections.singletonList("Brazil"), cache.getVersion());
+        caches.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    private ClassMapping mapping(Class<?> entityClass, String name) {
+        ClassMapping mapping = Mockito.mock(ClassMapping.class);
+        Mockito.when(mapping.getName()).thenReturn(name);
+        Mockito.<Class<?>>when(mapping.getClassInstance()).thenReturn(entityClass);
+        return mapping;
+    }
+
+    @Cacheable(size = 100)
+    static class Country {
+    }
+
+    @Cacheable(size = 0, queries = 100)
+    static class Catalog {
+    }
+
+    static class Plain {
+    }
+}
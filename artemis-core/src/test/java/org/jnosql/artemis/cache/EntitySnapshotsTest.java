@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class EntitySnapshotsTest {
+
+    private final EntitySnapshots<String> snapshots = new EntitySnapshots<>();
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> snapshots.put(null, "snapshot"));
+        Assertions.assertThrows(NullPointerException.class, () -> snapshots.put(new Object(), null));
+        Assertions.assertThrows(NullPointerException.class, () -> snapshots.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> snapshots.remove(null));
+    }
+
+    @Test
+    public void shouldTrackByIdentity() {
+        String ada = new String("Ada");
+        snapshots.put(ada, "first");
+        Assertions.assertEquals(Optional.of("first"), snapshots.get(ada));
+        Assertions.assertFalse(snapshots.get(new String("Ada")).isPresent());
+
+        snapshots.put(ada, "second");
+        Assertions.assertEquals(Optional.of("second"), snapshots.get(ada));
+        Assertions.assertEquals(1, snapshots.size());
+    }
+
+    @Test
+    public void shouldRemove() {
+        Object entity = new Object();
+        snapshots.put(entity, "snapshot");
+        snapshots.remove(entity);
+        Assertions.assertFalse(snapshots.get(entity).isPresent());
+        Assertions.assertEquals(0, snapshots.size());
+    }
+}
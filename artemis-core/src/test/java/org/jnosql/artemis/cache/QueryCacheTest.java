@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class QueryCacheTest {
+
+    private AtomicLong ticker;
+
+    private QueryCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        ticker = new AtomicLong();
+        cache = new QueryCache("Person", 3, TimeUnit.SECONDS.toNanos(10), ticker::get);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(null, Collections.emptyList(), 0L));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put("all", null, 0L));
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        Assertions.assertFalse(cache.get("all").isPresent());
+        cache.put("all", Arrays.asList("Ada", "Grace"), cache.getVersion());
+        Assertions.assertEquals(Optional.of(Arrays.asList("Ada", "Grace")), cache.get("all"));
+        Assertions.assertEquals(1L, cache.getHits());
+        Assertions.assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotChangeTheResult() {
+        List<Object> entities = new ArrayList<>(Arrays.asList("Ada", "Grace"));
+        cache.put("all", entities, cache.getVersion());
+        entities.clear();
+        List<Object> cached = cache.get("all").get();
+        Assertions.assertEquals(2, cached.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cached.add("Linus"));
+    }
+
+    @Test
+    public void shouldEvictByWeight() {
+        cache.put("ada", Collections.singletonList("Ada"), cache.getVersion());
+        cache.put("empty", Collections.emptyList(), cache.getVersion());
+        cache.get("ada");
+        cache.put("all", Arrays.asList("Ada", "Grace"), cache.getVersion());
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(3L, cache.getWeight());
+        Assertions.assertTrue(cache.get("ada").isPresent());
+        Assertions.assertFalse(cache.get("empty").isPresent());
+        Assertions.assertEquals(1L, cache.getEvictions());
+    }
+
+    @Test
+    public void shouldNotPutWhenBiggerThanTheMaximum() {
+        Assertions.assertFalse(cache.put("all", Arrays.asList("Ada", "Grace", "Linus", "Poliana"),
+                cache.getVersion()));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldExpire() {
+        cache.put("ada", Collections.singletonList("Ada"), cache.getVersion());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.put("grace", Collections.singletonList("Grace"), cache.getVersion());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertFalse(cache.get("ada").isPresent());
+        Assertions.assertEquals(1L, cache.getWeight());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.cleanUp();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0L, cache.getWeight());
+    }
+
+    @Test
+    public void shouldNotPutWhenItWasClearedMeanwhile() {
+        long version = cache.getVersion();
+        cache.clear();
+        Assertions.assertFalse(cache.put("all", Collections.singletonList("Ada"), version));
+        Assertions.assertFalse(cache.get("all").isPresent());
+        Assertions.assertTrue(cache.put("all", Collections.singletonList("Ada"), cache.getVersion()));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StatementCacheTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> StatementCache.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> StatementCache.of(this::parse).get(null));
+    }
+
+    @Test
+    public void shouldParseOnce() {
+        StatementCache<String> cache = new StatementCache<>(10, this::parse);
+        Assertions.assertEquals("SELECT * FROM PERSON", cache.get("select * from Person"));
+        Assertions.assertEquals("SELECT * FROM PERSON", cache.get("select * from Person"));
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        StatementCache<String> cache = new StatementCache<>(2, this::parse);
+        cache.get("select * from Person");
+        cache.get("select * from Movie");
+        cache.get("select * from Person");
+        cache.get("select * from Book");
+        Assertions.assertEquals(2, cache.size());
+
+        cache.get("select * from Person");
+        Assertions.assertEquals(3, parsed.get());
+        cache.get("select * from Movie");
+        Assertions.assertEquals(4, parsed.get());
+    }
+
+    @Test
+    public void shouldNotCacheWhenSizeIsZero() {
+        StatementCache<String> cache = new StatementCache<>(0, this::parse);
+        cache.get("select * from Person");
+        cache.get("select * from Person");
+        Assertions.assertEquals(2, parsed.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldClear() {
+        StatementCache<String> cache = new StatementCache<>(10, this::parse);
+        cache.get("select * from Person");
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        cache.get("select * from Person");
+        Assertions.assertEquals(2, parsed.get());
+    }
+
+    private String parse(String query) {
+        parsed.incrementAndGet();
+        return query.toUpperCase();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+class UnitOfWorkTest {
+
+    private final Object database = new Object();
+
+    private final RecordWriter writer = new RecordWriter();
+
+    @AfterEach
+    public void tearDown() {
+        UnitOfWork.current().ifPresent(UnitOfWork::discard);
+    }
+
+    @Test
+    public void shouldBeginInTheCurrentThread() {
+        Assertions.assertFalse(UnitOfWork.current().isPresent());
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Assertions.assertEquals(Optional.of(unitOfWork), UnitOfWork.current());
+            Assertions.assertThrows(IllegalStateException.class, UnitOfWork::begin);
+        }
+        Assertions.assertFalse(UnitOfWork.current().isPresent());
+    }
+
+    @Test
+    public void shouldReturnTheInstanceRegisteredFirst() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        String ada = new String("Ada");
+        Assertions.assertSame(ada, unitOfWork.register(database, "Person", 1L, ada));
+        Assertions.assertSame(ada, unitOfWork.register(database, "Person", 1L, new String("Ada")));
+        Assertions.assertSame(ada, unitOfWork.<String>get(database, "Person", 1L).get());
+        Assertions.assertFalse(unitOfWork.get(database, "Movie", 1L).isPresent());
+        Assertions.assertFalse(unitOfWork.get(new Object(), "Person", 1L).isPresent());
+    }
+
+    @Test
+    public void shouldDeferTheWritesUntilClose() {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            unitOfWork.insert(database, "Person", 1L, "Ada", writer);
+            unitOfWork.insert(database, "Person", 2L, "Grace", writer);
+            unitOfWork.update(database, "Person", 3L, "Linus", writer);
+            unitOfWork.delete(database, "Person", 4L, String.class, 4L, writer);
+            Assertions.assertTrue(writer.operations.isEmpty());
+            Assertions.assertEquals(4, unitOfWork.getPendingWrites());
+        }
+        Assertions.assertEquals(Arrays.asList("insert [Ada, Grace]", "update [Linus]", "delete 4"),
+                writer.operations);
+    }
+
+    @Test
+    public void shouldMergeTheWritesToTheSameId() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.insert(database, "Person", 1L, "Ada", writer);
+        unitOfWork.update(database, "Person", 1L, "Ada Lovelace", writer);
+        Assertions.assertEquals(Optional.of("Ada Lovelace"), unitOfWork.get(database, "Person", 1L));
+        unitOfWork.flush();
+        Assertions.assertEquals(Collections.singletonList("insert [Ada Lovelace]"), writer.operations);
+        Assertions.assertEquals(0, unitOfWork.getPendingWrites());
+    }
+
+    @Test
+    public void shouldFlushTheDeleteBeforeInsertAgain() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.delete(database, "Person", 1L, String.class, 1L, writer);
+        Assertions.assertTrue(unitOfWork.isDeleted(database, "Person", 1L));
+        Assertions.assertFalse(unitOfWork.get(database, "Person", 1L).isPresent());
+        unitOfWork.insert(database, "Person", 1L, "Ada", writer);
+        Assertions.assertFalse(unitOfWork.isDeleted(database, "Person", 1L));
+        unitOfWork.flush();
+        Assertions.assertEquals(Arrays.asList("delete 1", "insert [Ada]"), writer.operations);
+    }
+
+    @Test
+    public void shouldFlushWithoutTheUnitOfWorkInTheThread() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        List<Boolean> isPresent = new ArrayList<>();
+        unitOfWork.insert(database, "Person", null, "Ada", new RecordWriter() {
+            @Override
+            public void insert(Iterable<Object> entities) {
+                isPresent.add(UnitOfWork.current().isPresent());
+            }
+        });
+        unitOfWork.flush();
+        Assertions.assertEquals(Collections.singletonList(false), isPresent);
+        Assertions.assertEquals(Optional.of(unitOfWork), UnitOfWork.current());
+    }
+
+    @Test
+    public void shouldFlushOnlyTheDatabase() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.insert(database, "Person", 1L, "Ada", writer);
+        unitOfWork.insert(new Object(), "Person", 1L, "Grace", writer);
+        unitOfWork.flush(database);
+        Assertions.assertEquals(Collections.singletonList("insert [Ada]"), writer.operations);
+        Assertions.assertEquals(1, unitOfWork.getPendingWrites());
+    }
+
+    @Test
+    public void shouldKeepTheWritesWhenFlushFails() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        List<Boolean> failures = new ArrayList<>(Collections.singletonList(true));
+        unitOfWork.insert(database, "Person", 1L, "Ada", new RecordWriter() {
+            @Override
+            public void insert(Iterable<Object> entities) {
+                if (failures.remove(0)) {
+                    throw new IllegalStateException("database is down");
+                }
+                writer.insert(entities);
+            }
+        });
+        unitOfWork.delete(database, "Person", 2L, String.class, 2L, writer);
+
+        Assertions.assertThrows(IllegalStateException.class, unitOfWork::flush);
+        Assertions.assertEquals(2, unitOfWork.getPendingWrites());
+        Assertions.assertTrue(writer.operations.isEmpty());
+
+        failures.add(false);
+        unitOfWork.flush();
+        Assertions.assertEquals(Arrays.asList("insert [Ada]", "delete 2"), writer.operations);
+        Assertions.assertEquals(0, unitOfWork.getPendingWrites());
+    }
+
+    @Test
+    public void shouldRefreshTheIdentityMap() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.register(database, "Person", 1L, "Ada");
+        unitOfWork.refresh(database, "Person", 1L, "Grace");
+        Assertions.assertEquals(Optional.of("Grace"), unitOfWork.get(database, "Person", 1L));
+    }
+
+    @Test
+    public void shouldDiscard() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.insert(database, "Person", 1L, "Ada", writer);
+        unitOfWork.discard();
+        Assertions.assertTrue(writer.operations.isEmpty());
+        Assertions.assertFalse(UnitOfWork.current().isPresent());
+    }
+
+    @Test
+    public void shouldEvict() {
+        UnitOfWork unitOfWork = UnitOfWork.begin();
+        unitOfWork.register(database, "Person", 1L, "Ada");
+        unitOfWork.register(database, "Movie", 1L, "Matrix");
+        unitOfWork.evict(database, "Person");
+        Assertions.assertFalse(unitOfWork.get(database, "Person", 1L).isPresent());
+        Assertions.assertTrue(unitOfWork.get(database, "Movie", 1L).isPresent());
+        unitOfWork.evictAll(database);
+        Assertions.assertFalse(unitOfWork.get(database, "Movie", 1L).isPresent());
+    }
+
+    private static class RecordWriter implements UnitOfWorkWriter {
+
+        private final List<String> operations = new ArrayList<>();
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            operations.add("insert " + entities);
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            operations.add("update " + entities);
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            operations.add("delete " + id);
+        }
+    }
+}
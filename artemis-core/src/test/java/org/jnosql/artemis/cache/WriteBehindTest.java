@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+class WriteBehindTest {
+
+    private final RecordWriter writer = new RecordWriter();
+
+    private WriteBehind writeBehind;
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(WriteBehind.SIZE);
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(WriteBehind.of(writer).get().isPresent());
+    }
+
+    @Test
+    public void shouldReturnTheSameBufferToTheTemplate() {
+        System.setProperty(WriteBehind.SIZE, "10");
+        Supplier<Optional<WriteBehind>> buffer = WriteBehind.of(writer);
+        writeBehind = buffer.get().get();
+        Assertions.assertSame(writeBehind, buffer.get().get());
+        Assertions.assertNotSame(writeBehind, WriteBehind.of(writer).get().get());
+        writeBehind.close();
+        Assertions.assertFalse(buffer.get().isPresent());
+    }
+
+    @Test
+    public void shouldCoalesceTheWritesToTheSameId() {
+        writeBehind = new WriteBehind(writer, 10, 10, 60_000L);
+        writeBehind.insert("Person", 1L, "Ada");
+        writeBehind.update("Person", 1L, "Ada Lovelace");
+        writeBehind.update("Person", 2L, "Grace");
+        writeBehind.update("Person", 2L, "Grace Hopper");
+        writeBehind.insert("Person", null, "Linus");
+        Assertions.assertEquals(3, writeBehind.getPendingWrites());
+        Assertions.assertEquals(2L, writeBehind.getCoalescedWrites());
+        Assertions.assertTrue(writer.getOperations().isEmpty());
+
+        writeBehind.flush();
+        Assertions.assertEquals(Arrays.asList("insert [Ada Lovelace]", "update [Grace Hopper]", "insert [Linus]"),
+                writer.getOperations());
+        Assertions.assertEquals(0, writeBehind.getPendingWrites());
+        Assertions.assertEquals(3L, writeBehind.getFlushedWrites());
+    }
+
+    @Test
+    public void shouldFlushInBackgroundWhenItReachesTheBatchSize() throws InterruptedException {
+        writeBehind = new WriteBehind(writer, 10, 2, 60_000L);
+        writeBehind.insert("Person", 1L, "Ada");
+        writeBehind.insert("Person", 2L, "Grace");
+        Assertions.assertTrue(writer.await());
+        Assertions.assertEquals(Collections.singletonList("insert [Ada, Grace]"), writer.getOperations());
+    }
+
+    @Test
+    public void shouldFlushInBackgroundAtTheInterval() throws InterruptedException {
+        writeBehind = new WriteBehind(writer, 10, 10, 10L);
+        writeBehind.insert("Person", 1L, "Ada");
+        Assertions.assertTrue(writer.await());
+        Assertions.assertEquals(Collections.singletonList("insert [Ada]"), writer.getOperations());
+    }
+
+    @Test
+    public void shouldFlushInTheCallerWhenTheBufferIsFull() {
+        writeBehind = new WriteBehind(writer, 2, 10, 60_000L);
+        writeBehind.insert("Person", 1L, "Ada");
+        writeBehind.insert("Person", 2L, "Grace");
+        writeBehind.update("Person", 2L, "Grace Hopper");
+        Assertions.assertTrue(writer.getOperations().isEmpty());
+        writeBehind.insert("Person", 3L, "Linus");
+        Assertions.assertEquals(Collections.singletonList("insert [Ada, Grace Hopper]"), writer.getOperations());
+        Assertions.assertEquals(1, writeBehind.getPendingWrites());
+    }
+
+    @Test
+    public void shouldDiscardTheWriteRemoved() {
+        writeBehind = new WriteBehind(writer, 10, 10, 60_000L);
+        writeBehind.insert("Person", 1L, "Ada");
+        writeBehind.insert("Person", 2L, "Grace");
+        writeBehind.remove("Person", 1L);
+        writeBehind.flush();
+        Assertions.assertEquals(Collections.singletonList("insert [Grace]"), writer.getOperations());
+    }
+
+    @Test
+    public void shouldDrainWhenItIsClosed() {
+        writeBehind = new WriteBehind(writer, 10, 10, 60_000L);
+        writeBehind.insert("Person", 1L, "Ada");
+        writeBehind.close();
+        Assertions.assertTrue(writeBehind.isClosed());
+        Assertions.assertEquals(Collections.singletonList("insert [Ada]"), writer.getOperations());
+        Assertions.assertThrows(IllegalStateException.class, () -> writeBehind.insert("Person", 2L, "Grace"));
+    }
+
+    @Test
+    public void shouldKeepTheWritesOfAFailedFlush() {
+        AtomicBoolean down = new AtomicBoolean(true);
+        RecordWriter failure = new RecordWriter() {
+            @Override
+            public void update(Iterable<Object> entities) {
+                if (down.get()) {
+                    throw new IllegalStateException("The database is down");
+                }
+                super.update(entities);
+            }
+        };
+        writeBehind = new WriteBehind(failure, 10, 10, 60_000L);
+        writeBehind.update("Person", 1L, "Ada");
+        writeBehind.insert("Person", 2L, "Grace");
+        Assertions.assertThrows(IllegalStateException.class, writeBehind::flush);
+        Assertions.assertEquals(1L, writeBehind.getFailedWrites());
+        Assertions.assertEquals(2, writeBehind.getPendingWrites());
+        Assertions.assertTrue(failure.getOperations().isEmpty());
+
+        writeBehind.update("Person", 1L, "Ada Lovelace");
+        writeBehind.insert("Person", 3L, "Linus");
+        down.set(false);
+        writeBehind.flush();
+        Assertions.assertEquals(Arrays.asList("update [Ada Lovelace]", "insert [Grace, Linus]"),
+                failure.getOperations());
+        Assertions.assertEquals(0, writeBehind.getPendingWrites());
+    }
+
+    private static class RecordWriter implements UnitOfWorkWriter {
+
+        private final List<String> operations = new ArrayList<>();
+
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            record("insert " + entities);
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            record("update " + entities);
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            record("delete " + id);
+        }
+
+        private synchronized void record(String operation) {
+            operations.add(operation);
+            written.countDown();
+        }
+
+        private synchronized List<String> getOperations() {
+            return new ArrayList<>(operations);
+        }
+
+        private boolean await() throws InterruptedException {
+            return written.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
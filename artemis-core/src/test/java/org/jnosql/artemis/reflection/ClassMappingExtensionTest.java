@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Actor;
+import org.jnosql.artemis.model.Address;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ClassMappingExtensionTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("artemis.reflection.scanning.parallelism");
+    }
+
+    @Test
+    public void shouldLoadInParallel() {
+        System.setProperty("artemis.reflection.scanning.parallelism", "4");
+        ClassMappingExtension extension = load();
+
+        Assertions.assertEquals(3, extension.getMappings().size());
+        Assertions.assertEquals(4, extension.getClasses().size());
+        Assertions.assertEquals(Person.class, extension.getMappings().get("Person").getClassInstance());
+        Assertions.assertEquals(Job.class, extension.getClasses().get(Job.class).getClassInstance());
+    }
+
+    @Test
+    public void shouldLoadTheSameMappingsSequentially() {
+        System.setProperty("artemis.reflection.scanning.parallelism", "4");
+        ClassMappingExtension parallel = load();
+        System.setProperty("artemis.reflection.scanning.parallelism", "1");
+        ClassMappingExtension sequential = load();
+
+        Assertions.assertEquals(sequential.getMappings().keySet(), parallel.getMappings().keySet());
+        Assertions.assertEquals(sequential.getClasses().keySet(), parallel.getClasses().keySet());
+        sequential.getClasses().forEach((k, v) ->
+                Assertions.assertEquals(v.getFieldsName(), parallel.getClasses().get(k).getFieldsName()));
+    }
+
+    private ClassMappingExtension load() {
+        ClassMappingExtension extension = new ClassMappingExtension();
+        extension.addEntity(Person.class);
+        extension.addEntity(Actor.class);
+        extension.addEntity(Address.class);
+        extension.addEntity(Person.class);
+        extension.addEmbeddable(Job.class);
+        extension.load();
+        return extension;
+    }
+}
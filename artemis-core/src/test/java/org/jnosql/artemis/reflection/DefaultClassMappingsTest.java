@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultClassMappingsTest {
+
+    @Inject
+    private ClassMappings mappings;
+
+    @Test
+    public void shouldFindByNameIgnoringCase() {
+        ClassMapping mapping = mappings.findByName("Person");
+        Assertions.assertEquals(Person.class, mapping.getClassInstance());
+        Assertions.assertSame(mapping, mappings.findByName("PERSON"));
+        Assertions.assertSame(mapping, mappings.findByName("person"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNotFound() {
+        Assertions.assertThrows(ClassInformationNotFoundException.class, () -> mappings.findByName("not_found"));
+        Assertions.assertThrows(NullPointerException.class, () -> mappings.findByName(null));
+    }
+
+    @Test
+    public void shouldReturnTheSameMappingToClass() {
+        Assertions.assertSame(mappings.get(Person.class), mappings.get(Person.class));
+        Assertions.assertThrows(NullPointerException.class, () -> mappings.get(null));
+    }
+
+    @Test
+    public void shouldConvertOnceInParallel() {
+        List<ClassMapping> result = IntStream.range(0, 100).parallel()
+                .mapToObj(i -> mappings.get(Job.class)).collect(toList());
+        ClassMapping mapping = mappings.get(Job.class);
+        result.forEach(m -> Assertions.assertSame(mapping, m));
+    }
+}
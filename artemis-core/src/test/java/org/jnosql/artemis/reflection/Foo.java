@@ -22,6 +22,10 @@ package org.jnosql.artemis.reflection;
 
      private String bar3 = "bar3";
 
+     private int number;
+
+     private boolean active;
+
      public String getBar() {
          return bar;
      }
@@ -45,4 +49,20 @@ package org.jnosql.artemis.reflection;
      void setBar3(String bar3) {
          this.bar3 = bar3;
      }
+
+     public int getNumber() {
+         return number;
+     }
+
+     public void setNumber(int number) {
+         this.number = number;
+     }
+
+     public boolean isActive() {
+         return active;
+     }
+
+     public void setActive(boolean active) {
+         this.active = active;
+     }
  }
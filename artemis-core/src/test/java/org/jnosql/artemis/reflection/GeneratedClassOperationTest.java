@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+class GeneratedClassOperationTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final ClassOperation fallback = new ReflectionClassOperation(reflections);
+
+    private final GeneratedClassOperation operation = new GeneratedClassOperation(singletonList(new FooAccessor()),
+            fallback);
+
+    @Test
+    public void shouldUseGeneratedReader() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        FieldReader reader = operation.getFieldReaderFactory().apply(Foo.class.getDeclaredField("bar"));
+        Assertions.assertEquals("generated-bar", reader.read(foo));
+    }
+
+    @Test
+    public void shouldUseGeneratedWriter() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        FieldWriter writer = operation.getFieldWriterFactory().apply(Foo.class.getDeclaredField("bar"));
+        writer.write(foo, "bar");
+        Assertions.assertEquals("generated-bar", foo.getBar());
+    }
+
+    @Test
+    public void shouldUseGeneratedInstanceSupplier() {
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(Foo.class.getConstructors()[0]);
+        Object value = supplier.get();
+        Assertions.assertTrue(value instanceof Foo);
+        Assertions.assertEquals("generated", ((Foo) value).getBar());
+    }
+
+    @Test
+    public void shouldUseFallbackWhenFieldIsNotGenerated() throws NoSuchFieldException, IllegalAccessException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar2");
+        field.setAccessible(true);
+        operation.getFieldWriterFactory().apply(field).write(foo, "update");
+        Assertions.assertEquals("update", operation.getFieldReaderFactory().apply(field).read(foo));
+    }
+
+    @Test
+    public void shouldUseFallbackWhenClassIsNotGenerated() {
+        Constructor<?> constructor = Faa.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        Object value = operation.getInstanceSupplierFactory().apply(constructor).get();
+        Assertions.assertTrue(value instanceof Faa);
+    }
+
+    @Test
+    public void shouldReturnIsEmpty() {
+        Assertions.assertTrue(new GeneratedClassOperation(emptyList(), fallback).isEmpty());
+        Assertions.assertFalse(operation.isEmpty());
+    }
+
+    private static class FooAccessor implements ClassAccessor {
+
+        @Override
+        public Class<?> getEntityClass() {
+            return Foo.class;
+        }
+
+        @Override
+        public Optional<InstanceSupplier> getInstanceSupplier() {
+            return Optional.of(() -> {
+                Foo foo = new Foo();
+                foo.setBar("generated");
+                return foo;
+            });
+        }
+
+        @Override
+        public Optional<FieldReader> getReader(String fieldName) {
+            if ("bar".equals(fieldName)) {
+                return Optional.of(bean -> "generated-" + ((Foo) bean).getBar());
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FieldWriter> getWriter(String fieldName) {
+            if ("bar".equals(fieldName)) {
+                return Optional.of((bean, value) -> ((Foo) bean).setBar("generated-" + value));
+            }
+            return Optional.empty();
+        }
+    }
+}
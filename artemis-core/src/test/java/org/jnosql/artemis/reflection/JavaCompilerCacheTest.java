@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class JavaCompilerCacheTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("artemis-cache");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void shouldWriteTheCompiledClass() throws IOException {
+        JavaCompilerCache cache = new JavaCompilerCache(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClass().getClassLoader(), cache));
+        Assertions.assertFalse(cache.get(source).isPresent());
+
+        new JavaCompilerFacade(getClass().getClassLoader(), cache).apply(source);
+
+        Assertions.assertTrue(cache.get(source).isPresent());
+        Assertions.assertEquals(1L, countFiles());
+    }
+
+    @Test
+    public void shouldLoadFromCache() throws IOException {
+        JavaCompilerCache cache = new JavaCompilerCache(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClass().getClassLoader(), cache));
+        new JavaCompilerFacade(getClass().getClassLoader(), cache).apply(source);
+
+        Class<? extends FieldReader> reader = new JavaCompilerFacade(getClass().getClassLoader(), cache).apply(source);
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        Assertions.assertEquals("bar", reflections.newInstance(reader).read(foo));
+        Assertions.assertEquals(1L, countFiles());
+    }
+
+    @Test
+    public void shouldReplaceWhenTheSourceChanges() throws IOException {
+        JavaCompilerCache cache = new JavaCompilerCache(directory);
+        JavaSource<FieldReader> source = getSource(new JavaCompilerFacade(getClass().getClassLoader(), cache));
+        new JavaCompilerFacade(getClass().getClassLoader(), cache).apply(source);
+
+        JavaSource<FieldReader> changed = new ChangedJavaSource(source);
+        Assertions.assertFalse(cache.get(changed).isPresent());
+        new JavaCompilerFacade(getClass().getClassLoader(), cache).apply(changed);
+
+        Assertions.assertTrue(cache.get(changed).isPresent());
+        Assertions.assertFalse(cache.get(source).isPresent());
+        Assertions.assertEquals(1L, countFiles());
+    }
+
+    private JavaSource<FieldReader> getSource(JavaCompilerFacade facade) {
+        Field field = Foo.class.getDeclaredFields()[0];
+        return new JavaCompilerFieldReaderFactory(facade, reflections, new ReflectionFieldReaderFactory(reflections))
+                .getSource(field).get();
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static final class ChangedJavaSource implements JavaSource<FieldReader> {
+
+        private final JavaSource<FieldReader> source;
+
+        ChangedJavaSource(JavaSource<FieldReader> source) {
+            this.source = source;
+        }
+
+        @Override
+        public String getSimpleName() {
+            return source.getSimpleName();
+        }
+
+        @Override
+        public String getName() {
+            return source.getName();
+        }
+
+        @Override
+        public String getJavaSource() {
+            return source.getJavaSource() + "\n";
+        }
+
+        @Override
+        public Class<FieldReader> getType() {
+            return source.getType();
+        }
+
+        @Override
+        public Optional<Class<?>> getEntityClass() {
+            return source.getEntityClass();
+        }
+    }
+}
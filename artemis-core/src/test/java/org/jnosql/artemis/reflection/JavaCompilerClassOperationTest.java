@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+class JavaCompilerClassOperationTest {
+
+    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(
+            JavaCompilerClassOperationTest.class.getClassLoader());
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final JavaCompilerClassOperation operation = new JavaCompilerClassOperation(
+            new ReflectionClassOperation(reflections), reflections, compilerFacade);
+
+    @Test
+    public void shouldPrepareTheClass() {
+        List<Field> fields = Arrays.asList(Foo.class.getDeclaredFields());
+        fields.forEach(f -> f.setAccessible(true));
+        operation.prepare(Foo.class, fields);
+
+        Foo foo = new Foo();
+        FieldWriter writer = operation.getFieldWriterFactory().apply(fields.get(0));
+        FieldReader reader = operation.getFieldReaderFactory().apply(fields.get(0));
+        writer.write(foo, "bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertEquals("bar2", operation.getFieldReaderFactory().apply(fields.get(1)).read(foo));
+    }
+
+    @Test
+    public void shouldNotCompileTwice() {
+        Field field = Foo.class.getDeclaredFields()[0];
+        JavaCompilerFieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+                new ReflectionFieldReaderFactory(reflections));
+        JavaSource<FieldReader> source = factory.getSource(field).get();
+
+        Class<?> compiled = compilerFacade.applyAll(Arrays.asList(source, source)).get(0);
+        Assertions.assertSame(compiled, compilerFacade.apply(source));
+    }
+
+    @Test
+    public void shouldNotCreateSourceWhenThereIsNotPublicGetter() {
+        Field field = Foo.class.getDeclaredFields()[2];
+        JavaCompilerFieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+                new ReflectionFieldReaderFactory(reflections));
+        Assertions.assertFalse(factory.getSource(field).isPresent());
+    }
+}
@@ -28,7 +28,8 @@ class JavaCompilerFieldReaderFactoryTest {
 
     private FieldReaderFactory fallback = new ReflectionFieldReaderFactory(reflections);
 
-    private FieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections, fallback);
+    private JavaCompilerFieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+            fallback);
 
 
     @Test
@@ -41,6 +42,26 @@ class JavaCompilerFieldReaderFactoryTest {
         Assertions.assertEquals("bar", value);
     }
 
+    @Test
+    public void shouldReadPrimitiveWithoutBoxing() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        foo.setNumber(10);
+        foo.setActive(true);
+        Field number = Foo.class.getDeclaredField("number");
+        Field active = Foo.class.getDeclaredField("active");
+        Assertions.assertTrue(factory.getSource(number).get().getJavaSource().contains("public int readInt"));
+        Assertions.assertTrue(factory.getSource(active).get().getJavaSource().contains("public boolean readBoolean"));
+        Assertions.assertEquals(10, factory.apply(number).readInt(foo));
+        Assertions.assertEquals(10L, factory.apply(number).readLong(foo));
+        Assertions.assertTrue(factory.apply(active).readBoolean(foo));
+    }
+
+    @Test
+    public void shouldNotOverrideTheTypedReadsOfObjects() {
+        Field field = Foo.class.getDeclaredFields()[0];
+        Assertions.assertFalse(factory.getSource(field).get().getJavaSource().contains("readInt"));
+    }
+
     @Test
     public void shouldUseFallBackWhenThereIsNotGetter() {
         Foo foo = new Foo();
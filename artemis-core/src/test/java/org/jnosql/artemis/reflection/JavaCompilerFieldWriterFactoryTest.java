@@ -28,7 +28,8 @@ class JavaCompilerFieldWriterFactoryTest {
 
     private FieldWriterFactory fallback = new ReflectionFieldWriterFactory(reflections);
 
-    private FieldWriterFactory factory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections, fallback);
+    private JavaCompilerFieldWriterFactory factory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections,
+            fallback);
 
 
     @Test
@@ -41,6 +42,21 @@ class JavaCompilerFieldWriterFactoryTest {
         Assertions.assertEquals("bar", foo.getBar());
     }
 
+    @Test
+    public void shouldWritePrimitiveWithoutBoxing() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field number = Foo.class.getDeclaredField("number");
+        Field active = Foo.class.getDeclaredField("active");
+        Assertions.assertTrue(factory.getSource(number).get().getJavaSource().contains("public void writeInt"));
+        Assertions.assertTrue(factory.getSource(active).get().getJavaSource().contains("public void writeBoolean"));
+        factory.apply(number).writeInt(foo, 12);
+        factory.apply(active).writeBoolean(foo, true);
+        Assertions.assertEquals(12, foo.getNumber());
+        Assertions.assertTrue(foo.isActive());
+        factory.apply(number).write(foo, 20);
+        Assertions.assertEquals(20, foo.getNumber());
+    }
+
     @Test
     public void shouldUseFallBackWhenThereIsNotSetter() throws IllegalAccessException {
         Foo foo = new Foo();
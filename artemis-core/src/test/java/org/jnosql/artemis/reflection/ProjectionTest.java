@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class ProjectionTest {
+
+    private final ClassConverter classConverter = new ClassConverter(new DefaultReflections());
+
+    private final Person person = Person.builder().withId(10L).withName("Ada").withAge(36)
+            .withPhones(Arrays.asList("234", "432")).build();
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        ClassMapping mapping = classConverter.create(Person.class);
+        Assertions.assertThrows(NullPointerException.class, () -> Projection.of(null, PersonName.class));
+        Assertions.assertThrows(NullPointerException.class, () -> Projection.of(mapping, null));
+    }
+
+    @Test
+    public void shouldCreateInterfaceProjection() {
+        ClassMapping mapping = classConverter.create(Person.class);
+        Projection<PersonName> projection = mapping.getProjection(PersonName.class);
+        Assertions.assertSame(projection, mapping.getProjection(PersonName.class));
+        Assertions.assertEquals(Arrays.asList("name", "age"), projection.getColumns());
+
+        PersonName name = projection.apply(person);
+        Assertions.assertEquals("Ada", name.getName());
+        Assertions.assertEquals(36, name.age());
+        Assertions.assertEquals(name, projection.apply(person));
+        Assertions.assertEquals(name.hashCode(), projection.apply(person).hashCode());
+    }
+
+    @Test
+    public void shouldCreateClassProjection() {
+        Projection<PersonPhones> projection = classConverter.create(Person.class).getProjection(PersonPhones.class);
+        Assertions.assertEquals(Arrays.asList("_id", "phones"), projection.getColumns());
+
+        PersonPhones phones = projection.apply(person);
+        Assertions.assertEquals(10L, phones.id);
+        Assertions.assertEquals(Arrays.asList("234", "432"), phones.phones);
+    }
+
+    @Test
+    public void shouldReturnAllColumnsWhenThereIsEmbedded() {
+        Projection<WorkerJob> projection = classConverter.create(Worker.class).getProjection(WorkerJob.class);
+        Assertions.assertTrue(projection.getColumns().isEmpty());
+        Assertions.assertFalse(projection.isFlat());
+    }
+
+    @Test
+    public void shouldReadTheProjectionFromTheValues() {
+        Projection<PersonName> projection = classConverter.create(Person.class).getProjection(PersonName.class);
+        Assertions.assertTrue(projection.isFlat());
+        Assertions.assertEquals(Person.class, projection.getEntityClass());
+
+        PersonName name = projection.read(f -> "name".equals(f.getName()) ? "Ada" : null);
+        Assertions.assertEquals("Ada", name.getName());
+        Assertions.assertEquals(0, name.age());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPropertyIsNotField() {
+        ClassMapping mapping = classConverter.create(Person.class);
+        Assertions.assertThrows(ProjectionException.class, () -> Projection.of(mapping, PersonUnknown.class));
+        Assertions.assertThrows(ProjectionException.class, () -> Projection.of(mapping, PersonWrongType.class));
+    }
+
+    @Test
+    public void shouldReturnProjectionType() throws NoSuchMethodException {
+        Assertions.assertEquals(Optional.of(PersonName.class),
+                Projection.getType(Repository.class.getMethod("findByName"), Person.class));
+        Assertions.assertEquals(Optional.of(PersonName.class),
+                Projection.getType(Repository.class.getMethod("findByAge"), Person.class));
+        Assertions.assertEquals(Optional.of(PersonPhones.class),
+                Projection.getType(Repository.class.getMethod("findById"), Person.class));
+        Assertions.assertFalse(Projection.getType(Repository.class.getMethod("findAll"), Person.class).isPresent());
+        Assertions.assertFalse(Projection.getType(Repository.class.getMethod("count"), Person.class).isPresent());
+    }
+
+    interface PersonName {
+
+        String getName();
+
+        int age();
+    }
+
+    interface PersonUnknown {
+
+        String getUnknown();
+    }
+
+    interface PersonWrongType {
+
+        Long getName();
+    }
+
+    interface WorkerJob {
+
+        Job getJob();
+    }
+
+    static class PersonPhones {
+
+        private long id;
+
+        private List<String> phones;
+    }
+
+    interface Repository {
+
+        List<PersonName> findByName();
+
+        Stream<PersonName> findByAge();
+
+        Optional<PersonPhones> findById();
+
+        List<Person> findAll();
+
+        long count();
+    }
+}
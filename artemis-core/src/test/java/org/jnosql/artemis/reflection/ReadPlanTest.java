@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class ReadPlanTest {
+
+    private final ClassConverter classConverter = new ClassConverter(new DefaultReflections());
+
+    @Test
+    public void shouldReturnErrorWhenFieldsIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ReadPlan.of(null));
+    }
+
+    @Test
+    public void shouldCreatePlan() {
+        ClassMapping mapping = classConverter.create(Worker.class);
+        ReadPlan plan = mapping.getReadPlan();
+        Assertions.assertSame(plan, mapping.getReadPlan());
+        Assertions.assertEquals(mapping.getFields().size(), plan.size());
+        for (int index = 0; index < plan.size(); index++) {
+            Assertions.assertEquals(index, plan.getSlot(mapping.getFields().get(index).getName()));
+        }
+        Assertions.assertEquals(-1, plan.getSlot("unknown"));
+    }
+
+    @Test
+    public void shouldReadOnlyTheFieldsFound() {
+        ReadPlan plan = classConverter.create(Worker.class).getReadPlan();
+        List<Map.Entry<String, Object>> elements = Arrays.asList(new SimpleEntry<>("unknown", 1),
+                new SimpleEntry<>("name", "Ada"), new SimpleEntry<>("name", "Grace"));
+        List<String> visited = new ArrayList<>();
+
+        plan.read(elements, Map.Entry::getKey, EnumSet.noneOf(FieldType.class), (field, element) -> {
+            visited.add(field.getName());
+            Assertions.assertEquals("Ada", element.map(Map.Entry::getValue).orElse(null));
+        });
+        Assertions.assertEquals(Collections.singletonList("name"), visited);
+    }
+
+    @Test
+    public void shouldVisitTheTypesAlwaysVisited() {
+        ReadPlan plan = classConverter.create(Worker.class).getReadPlan();
+        List<Optional<Map.Entry<String, Object>>> visited = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        plan.read(Collections.<Map.Entry<String, Object>>emptyList(), Map.Entry::getKey,
+                EnumSet.of(FieldType.EMBEDDED), (field, element) -> {
+                    names.add(field.getName());
+                    visited.add(element);
+                });
+        Assertions.assertEquals(Collections.singletonList("job"), names);
+        Assertions.assertFalse(visited.get(0).isPresent());
+    }
+}
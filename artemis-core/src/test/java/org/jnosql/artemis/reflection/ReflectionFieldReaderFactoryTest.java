@@ -50,6 +50,17 @@ class ReflectionFieldReaderFactoryTest {
         Assertions.assertEquals(singletonList("234234324"), readerFactory.apply(phones).read(person));
     }
 
+    @Test
+    public void shouldReadPrimitive() throws NoSuchFieldException {
+        Person person = Person.builder().withId(10L).withAge(12).build();
+        Field age = Person.class.getDeclaredField("age");
+        Field id = Person.class.getDeclaredField("id");
+        age.setAccessible(true);
+        id.setAccessible(true);
+        Assertions.assertEquals(12, readerFactory.apply(age).readInt(person));
+        Assertions.assertEquals(10L, readerFactory.apply(id).readLong(person));
+    }
+
     @Test
     public void shouldReturnFieldReader() {
         Person person = Person.builder().withId(10L).withAge(10).withName("Ada").withPhones(singletonList("234234324")).build();
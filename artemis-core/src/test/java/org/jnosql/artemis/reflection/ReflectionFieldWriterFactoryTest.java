@@ -56,6 +56,15 @@ class ReflectionFieldWriterFactoryTest {
         Assertions.assertEquals(singletonList("234234324"), person.getPhones());
     }
 
+    @Test
+    public void shouldWritePrimitive() throws NoSuchFieldException {
+        Person person = Person.builder().build();
+        Field age = Person.class.getDeclaredField("age");
+        age.setAccessible(true);
+        writerFactory.apply(age).writeInt(person, 12);
+        Assertions.assertEquals(12, person.getAge());
+    }
+
     @Test
     public void shouldREturnFieldReader() {
         Person person = Person.builder().withId(10L).withAge(10).withName("Ada").withPhones(singletonList("234234324")).build();
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+class TieredClassOperationTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final ClassOperation reflection = new ReflectionClassOperation(reflections);
+
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflection);
+
+    @Test
+    public void shouldReturnErrorWhenThresholdIsNegative() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TieredClassOperation(reflection, () -> methodHandle, -1, Runnable::run));
+    }
+
+    @Test
+    public void shouldPromoteWhenCrossesThreshold() throws NoSuchFieldException {
+        List<Runnable> tasks = new ArrayList<>();
+        TieredClassOperation operation = new TieredClassOperation(reflection, () -> methodHandle, 3, tasks::add);
+        Field field = Foo.class.getDeclaredField("bar");
+        field.setAccessible(true);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+
+        Foo foo = new Foo();
+        writer.write(foo, "bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertTrue(tasks.isEmpty());
+
+        reader.read(foo);
+        reader.read(foo);
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertFalse(operation.isPromoted(Foo.class));
+
+        tasks.get(0).run();
+        Assertions.assertTrue(operation.isPromoted(Foo.class));
+        writer.write(foo, "bar2");
+        Assertions.assertEquals("bar2", reader.read(foo));
+        Assertions.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void shouldNotCountAfterPromotion() throws NoSuchFieldException {
+        TieredClassOperation operation = new TieredClassOperation(reflection, () -> methodHandle, 2, Runnable::run);
+        Field field = Foo.class.getDeclaredField("bar");
+        field.setAccessible(true);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        Foo foo = new Foo();
+        foo.setBar("bar");
+
+        reader.read(foo);
+        reader.read(foo);
+        Assertions.assertTrue(operation.isPromoted(Foo.class));
+        Assertions.assertEquals(2, operation.getInvocations(Foo.class));
+
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertEquals(2, operation.getInvocations(Foo.class));
+    }
+
+    @Test
+    public void shouldCreateTheOptimizedAfterPromotion() throws NoSuchFieldException {
+        List<ClassOperation> used = new ArrayList<>();
+        TieredClassOperation operation = new TieredClassOperation(reflection, () -> {
+            used.add(methodHandle);
+            return methodHandle;
+        }, 0, Runnable::run);
+
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory()
+                .apply(reflections.makeAccessible(Foo.class));
+        Assertions.assertNotNull(supplier.get());
+        Assertions.assertTrue(operation.isPromoted(Foo.class));
+        Assertions.assertFalse(used.isEmpty());
+
+        Field field = Foo.class.getDeclaredField("bar");
+        field.setAccessible(true);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertEquals(2, used.size());
+    }
+
+    @Test
+    public void shouldKeepInitialWhenPromotionFails() throws NoSuchFieldException {
+        TieredClassOperation operation = new TieredClassOperation(reflection, () -> {
+            throw new IllegalStateException("not available");
+        }, 0, Runnable::run);
+        Field field = Foo.class.getDeclaredField("bar");
+        field.setAccessible(true);
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertEquals("bar", reader.read(foo));
+        Assertions.assertEquals("bar", operation.getFieldReaderFactory().apply(field).read(foo));
+    }
+}
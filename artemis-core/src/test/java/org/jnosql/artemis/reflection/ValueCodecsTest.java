@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.diana.api.Value;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+class ValueCodecsTest {
+
+    private List<Integer> numbers;
+
+    private Set<String> names;
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ValueCodecs.of(null));
+    }
+
+    @Test
+    public void shouldDecodeSameType() {
+        LocalDate date = LocalDate.now();
+        Assertions.assertSame(date, ValueCodecs.of(LocalDate.class).decode(Value.of(date)));
+        Assertions.assertEquals("Ada", ValueCodecs.of(String.class).decode(Value.of("Ada")));
+    }
+
+    @Test
+    public void shouldDecodeNumber() {
+        Assertions.assertEquals(10, ValueCodecs.of(int.class).decode(Value.of(10L)));
+        Assertions.assertEquals(10L, ValueCodecs.of(Long.class).decode(Value.of(10)));
+        Assertions.assertEquals(10D, ValueCodecs.of(double.class).decode(Value.of(10)));
+        Assertions.assertEquals((short) 10, ValueCodecs.of(Short.class).decode(Value.of(10)));
+        Assertions.assertEquals(10, ValueCodecs.of(Integer.class).decode(Value.of("10")));
+    }
+
+    @Test
+    public void shouldDecodeEnum() {
+        ValueCodec codec = ValueCodecs.of(FieldType.class);
+        Assertions.assertEquals(FieldType.MAP, codec.decode(Value.of("MAP")));
+        Assertions.assertEquals(FieldType.MAP, codec.decode(Value.of(FieldType.MAP)));
+    }
+
+    @Test
+    public void shouldDecodeCollection() throws NoSuchFieldException {
+        Field field = ValueCodecsTest.class.getDeclaredField("numbers");
+        Object list = ValueCodecs.of(field, field::getGenericType).decode(Value.of(Arrays.asList(1L, 2L)));
+        Assertions.assertEquals(Arrays.asList(1, 2), list);
+
+        field = ValueCodecsTest.class.getDeclaredField("names");
+        Object set = ValueCodecs.of(field, field::getGenericType).decode(Value.of(Arrays.asList("a", "b", "a")));
+        Assertions.assertTrue(set instanceof Set);
+        Assertions.assertEquals(2, ((Set<?>) set).size());
+    }
+
+    @Test
+    public void shouldReturnCollectionSupplier() {
+        Assertions.assertNotNull(ValueCodecs.getCollectionSupplier(List.class));
+        Assertions.assertNotNull(ValueCodecs.getCollectionSupplier(Set.class));
+        Assertions.assertNull(ValueCodecs.getCollectionSupplier(Collection.class));
+    }
+}
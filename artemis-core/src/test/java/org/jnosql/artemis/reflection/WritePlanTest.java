@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.AppointmentBook;
+import org.jnosql.artemis.model.Director;
+import org.jnosql.artemis.model.MoneyConverter;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WritePlanTest {
+
+    private final ClassConverter classConverter = new ClassConverter(new DefaultReflections());
+
+    @Test
+    public void shouldReturnErrorWhenFieldsIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> WritePlan.of(null));
+    }
+
+    @Test
+    public void shouldCreatePlan() {
+        ClassMapping mapping = classConverter.create(Worker.class);
+        WritePlan plan = mapping.getWritePlan();
+        Assertions.assertSame(plan, mapping.getWritePlan());
+        Assertions.assertEquals(mapping.getFields().size(), plan.size());
+
+        for (int index = 0; index < plan.size(); index++) {
+            Assertions.assertEquals(mapping.getFields().get(index), plan.getField(index));
+            Assertions.assertEquals(mapping.getFields().get(index).getName(), plan.getName(index));
+        }
+        Assertions.assertEquals(WritePlan.Kind.VALUE, plan.getKind(indexOf(plan, "name")));
+        Assertions.assertEquals(WritePlan.Kind.EMBEDDED, plan.getKind(indexOf(plan, "job")));
+        int salary = indexOf(plan, "money");
+        Assertions.assertEquals(WritePlan.Kind.CONVERTER, plan.getKind(salary));
+        Assertions.assertEquals(MoneyConverter.class, plan.getConverter(salary));
+        Assertions.assertNull(plan.getConverter(indexOf(plan, "name")));
+    }
+
+    @Test
+    public void shouldCreatePlanToSubEntityAndCollection() {
+        WritePlan director = classConverter.create(Director.class).getWritePlan();
+        Assertions.assertEquals(WritePlan.Kind.SUBENTITY, director.getKind(indexOf(director, "movie")));
+
+        WritePlan book = classConverter.create(AppointmentBook.class).getWritePlan();
+        Assertions.assertEquals(WritePlan.Kind.EMBEDDABLE_COLLECTION, book.getKind(indexOf(book, "contacts")));
+    }
+
+    @Test
+    public void shouldRead() {
+        WritePlan plan = classConverter.create(Worker.class).getWritePlan();
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        Assertions.assertEquals("Ada", plan.read(indexOf(plan, "name"), worker));
+        Assertions.assertNull(plan.read(indexOf(plan, "job"), worker));
+    }
+
+    private int indexOf(WritePlan plan, String name) {
+        for (int index = 0; index < plan.size(); index++) {
+            if (plan.getName(index).equals(name)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("field not found: " + name);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class BatchesTest {
+
+    private final List<Integer> elements = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(Batches.SIZE);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Batches.apply(null, 10, b -> b));
+        Assertions.assertThrows(NullPointerException.class, () -> Batches.apply(elements, 10, null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Batches.apply(elements, 0, b -> b));
+    }
+
+    @Test
+    public void shouldSplitInBatchesKeepingTheOrder() {
+        List<Integer> sizes = new ArrayList<>();
+        List<String> result = Batches.apply(elements, 10, b -> {
+            sizes.add(b.size());
+            return b.stream().map(String::valueOf).collect(Collectors.toList());
+        });
+        Assertions.assertEquals(elements.stream().map(String::valueOf).collect(Collectors.toList()), result);
+        Assertions.assertEquals(Arrays.asList(10, 10, 5), sizes);
+    }
+
+    @Test
+    public void shouldNotCallTheOperationWhenThereIsNoElement() {
+        List<Integer> result = Batches.apply(Collections.<Integer>emptyList(), 10, b -> {
+            throw new IllegalStateException("There is no batch");
+        });
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnSizeFromSystemProperty() {
+        Assertions.assertEquals(1_000, Batches.getSize());
+        System.setProperty(Batches.SIZE, "50");
+        Assertions.assertEquals(50, Batches.getSize());
+        System.setProperty(Batches.SIZE, "-1");
+        Assertions.assertEquals(1_000, Batches.getSize());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+class PagedStreamTest {
+
+    private final List<String> pages = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> PagedStream.of(null, this::read, 0, 0, 10));
+        Assertions.assertThrows(NullPointerException.class, () -> PagedStream.of(this::load, null, 0, 0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PagedStream.of(this::load, this::read, 0, 0, 0));
+    }
+
+    @Test
+    public void shouldBeLazy() {
+        Stream<Long> stream = PagedStream.of(this::load, this::read, 0, 0, 10);
+        Assertions.assertTrue(pages.isEmpty());
+        Assertions.assertEquals(Long.valueOf(0L), stream.findFirst().get());
+    }
+
+    @Test
+    public void shouldReadAllThePages() {
+        List<Long> result = PagedStream.of(this::load, this::read, 0, 0, 10).collect(Collectors.toList());
+        Assertions.assertEquals(LongStream.range(0, 25).boxed().collect(Collectors.toList()), result);
+        Assertions.assertEquals(3, pages.size());
+        Assertions.assertTrue(pages.containsAll(Arrays.asList("0:10", "10:10", "20:10")));
+    }
+
+    @Test
+    public void shouldRespectSkipAndLimit() {
+        List<Long> result = PagedStream.of(this::load, this::read, 5, 12, 10).collect(Collectors.toList());
+        Assertions.assertEquals(LongStream.range(5, 17).boxed().collect(Collectors.toList()), result);
+        Assertions.assertTrue(pages.containsAll(Arrays.asList("5:10", "15:2")));
+        Assertions.assertEquals(2, pages.size());
+    }
+
+    @Test
+    public void shouldThrowTheErrorOfThePrefetch() {
+        Stream<Long> stream = PagedStream.of((skip, limit) -> {
+            if (skip > 0) {
+                throw new IllegalStateException("database is down");
+            }
+            return load(skip, limit);
+        }, this::read, 0, 0, 10);
+        Assertions.assertThrows(IllegalStateException.class, () -> stream.collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReadThePagesInTheCallerThread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> readers = new ArrayList<>();
+        long count = PagedStream.<Long>of(this::load, (skip, limit, page) -> {
+            readers.add(Thread.currentThread());
+            return page.get();
+        }, 0, 0, 10).count();
+        Assertions.assertEquals(25L, count);
+        Assertions.assertEquals(Arrays.asList(caller, caller, caller), readers);
+    }
+
+    @Test
+    public void shouldStopWhenThePageRepeats() {
+        List<Long> result = PagedStream.<Long>of((skip, limit) -> load(0, limit), this::read, 0, 0, 10)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(LongStream.range(0, 10).boxed().collect(Collectors.toList()), result);
+    }
+
+    private List<Long> read(long skip, long limit, Supplier<List<Long>> page) {
+        return page.get();
+    }
+
+    private List<Long> load(long skip, long limit) {
+        pages.add(skip + ":" + limit);
+        return LongStream.range(skip, Math.min(25, skip + limit)).boxed().collect(Collectors.toList());
+    }
+}
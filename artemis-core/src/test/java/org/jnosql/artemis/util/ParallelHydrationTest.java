@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ParallelHydrationTest {
+
+    private final List<Integer> entities = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        ParallelHydration hydration = new ParallelHydration(2, 10);
+        Assertions.assertThrows(NullPointerException.class, () -> hydration.apply(null, String::valueOf));
+        Assertions.assertThrows(NullPointerException.class, () -> hydration.apply(entities, null));
+    }
+
+    @Test
+    public void shouldConvertInParallelKeepingTheOrder() {
+        ParallelHydration hydration = new ParallelHydration(4, 100);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<String> result = hydration.apply(entities, i -> {
+            threads.add(Thread.currentThread().getName());
+            return String.valueOf(i);
+        });
+        Assertions.assertEquals(entities.stream().map(String::valueOf).collect(Collectors.toList()), result);
+        Assertions.assertTrue(threads.stream().allMatch(t -> t.startsWith("artemis-hydration-")));
+        Assertions.assertEquals(1L, hydration.getParallelHydrations());
+        Assertions.assertEquals(1_000L, hydration.getParallelEntities());
+    }
+
+    @Test
+    public void shouldConvertInTheCallerThreadBelowTheThreshold() {
+        ParallelHydration hydration = new ParallelHydration(4, 10_000);
+        String caller = Thread.currentThread().getName();
+        List<String> result = hydration.apply(entities, i -> {
+            Assertions.assertEquals(caller, Thread.currentThread().getName());
+            return String.valueOf(i);
+        });
+        Assertions.assertEquals(1_000, result.size());
+        Assertions.assertEquals(1L, hydration.getSequentialHydrations());
+        Assertions.assertEquals(0L, hydration.getParallelHydrations());
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        ParallelHydration hydration = new ParallelHydration(0, 1);
+        Assertions.assertFalse(hydration.isEnabled());
+        hydration.apply(entities, String::valueOf);
+        Assertions.assertEquals(1L, hydration.getSequentialHydrations());
+        Assertions.assertEquals(0, hydration.getActiveThreads());
+    }
+}
@@ -16,6 +16,8 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -40,6 +42,34 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flowBatch(List<T> entities, UnaryOperator<List<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<DocumentEntity> batch = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getDocumentEventPersistManager().firePreEntity(entity);
+            getDocumentEventPersistManager().firePreDocumentEntity(entity);
+            batch.add(getConverter().toDocument(entity));
+        }
+        getDocumentEventPersistManager().firePreBatch(batch);
+        // the drivers that do not return the entities saved keep the ones sent
+        List<DocumentEntity> response = action.apply(batch);
+        List<DocumentEntity> result = response == null || response.size() != batch.size() ? batch : response;
+        getDocumentEventPersistManager().firePostBatch(result);
+
+        List<T> converted = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            T entity = getConverter().toEntity(entities.get(index), result.get(index));
+            getDocumentEventPersistManager().firePostEntity(entity);
+            getDocumentEventPersistManager().firePostDocumentEntity(entity);
+            converted.add(entity);
+        }
+        return converted;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
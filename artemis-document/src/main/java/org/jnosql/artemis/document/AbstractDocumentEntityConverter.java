@@ -14,23 +14,26 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.artemis.reflection.WritePlan;
+import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -41,28 +44,62 @@ import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
  */
 public abstract class AbstractDocumentEntityConverter implements DocumentEntityConverter {
 
+    private static final Set<FieldType> ELEMENT_TYPES = EnumSet.of(EMBEDDED, SUBENTITY);
+
     protected abstract ClassMappings getClassMappings();
 
     protected abstract Converters getConverters();
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final boolean customRead = isOverridden("feedObject", Object.class, List.class, Map.class);
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
         DocumentEntity entity = DocumentEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
+        write(mapping.getWritePlan(), entityInstance, entity);
         return entity;
 
     }
 
+    private void write(WritePlan plan, Object entityInstance, DocumentEntity entity) {
+        for (int index = 0; index < plan.size(); index++) {
+            Object value = plan.read(index, entityInstance);
+            if (value == null) {
+                continue;
+            }
+            String name = plan.getName(index);
+            switch (plan.getKind(index)) {
+                case EMBEDDED:
+                    write(getClassMappings().get(value.getClass()).getWritePlan(), value, entity);
+                    break;
+                case SUBENTITY:
+                    entity.add(Document.of(name, toDocument(value).getDocuments()));
+                    break;
+                case EMBEDDABLE_COLLECTION:
+                    entity.add(Document.of(name, toDocuments((Iterable<?>) value)));
+                    break;
+                case CONVERTER:
+                    AttributeConverter converter = getConverters().get(plan.getConverter(index));
+                    entity.add(Document.of(name, converter.convertToDatabaseColumn(value)));
+                    break;
+                default:
+                    entity.add(Document.of(name, value));
+            }
+        }
+    }
+
+    private List<List<Document>> toDocuments(Iterable<?> elements) {
+        List<List<Document>> documents = new ArrayList<>();
+        for (Object element : elements) {
+            documents.add(toDocument(element).getDocuments());
+        }
+        return documents;
+    }
+
     @Override
     public <T> T toEntity(Class<T> entityClass, DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
@@ -95,37 +132,71 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
         return convertEntity(entity.getDocuments(), mapping, instance);
     }
 
-    private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
+    @Override
+    public <P> P toProjection(Projection<P> projection, DocumentEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        if (!projection.isFlat()) {
+            return DocumentEntityConverter.super.toProjection(projection, entity);
+        }
+        return projection.read(field -> entity.find(field.getName())
+                .map(c -> toValue(field, c.getValue())).orElse(null));
+    }
 
-        return instance;
+    private Object toValue(FieldMapping field, Value value) {
+        Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            Object attribute = getConverters().get(converter.get()).convertToEntityAttribute(value.get());
+            return field.getValue(Value.of(attribute));
+        }
+        return field.getValue(value);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
-        return k -> {
+    /**
+     * Returns the consumer that sets a field, by its name, from the documents of the database
+     *
+     * @param instance          the entity
+     * @param documents         the documents
+     * @param fieldsGroupByName the fields by name
+     * @param <T>               the entity type
+     * @return the consumer
+     * @deprecated the fields are read through the {@link org.jnosql.artemis.reflection.ReadPlan}, this method is
+     * only called when a subclass overrides it, then every field of the entity is read through it
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Document> documents,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
+        return (String k) -> {
             Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
-
             FieldMapping field = fieldsGroupByName.get(k);
             DocumentFieldConverter fieldConverter = converterFactory.get(field);
             fieldConverter.convert(instance, documents, document, field, this);
         };
     }
 
-
-    private DocumentFieldValue to(FieldMapping field, Object entityInstance) {
-        Object value = field.read(entityInstance);
-        return DefaultDocumentFieldValue.of(value, field);
+    private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
+        if (customRead) {
+            Consumer<String> feed = feedObject(instance, documents, mapping.getFieldsGroupByName());
+            mapping.getReadPlan().read(documents, Document::getName, ELEMENT_TYPES, (field, document) ->
+                    feed.accept(field.getName()));
+            return instance;
+        }
+        mapping.getReadPlan().read(documents, Document::getName, ELEMENT_TYPES, (field, document) ->
+                converterFactory.get(field).convert(instance, documents, document, field, this));
+        return instance;
     }
 
+    private boolean isOverridden(String name, Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); !AbstractDocumentEntityConverter.class.equals(type);
+             type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // looks for it in the superclass
+            }
+        }
+        return false;
+    }
 
 }
@@ -18,26 +18,38 @@ package org.jnosql.artemis.document;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.EntityCaches;
+import org.jnosql.artemis.cache.EntitySnapshots;
+import org.jnosql.artemis.cache.QueryCache;
+import org.jnosql.artemis.cache.UnitOfWork;
+import org.jnosql.artemis.cache.UnitOfWorkWriter;
+import org.jnosql.artemis.cache.WriteBehind;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.artemis.util.Batches;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.PagedStream;
+import org.jnosql.artemis.util.ParallelHydration;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
-import org.jnosql.diana.api.document.DocumentQueryParser;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,7 +61,9 @@ import static java.util.stream.Collectors.toList;
 public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
 
-    private static final DocumentQueryParser PARSER = DocumentQueryParser.getParser();
+    private static final CachedDocumentQueryParser PARSER = CachedDocumentQueryParser.INSTANCE;
+
+    private static final ParallelHydration HYDRATION = ParallelHydration.get();
 
     protected abstract DocumentEntityConverter getConverter();
 
@@ -63,9 +77,23 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     protected abstract Converters getConverters();
 
-    private final UnaryOperator<DocumentEntity> insert = e -> getManager().insert(e);
+    private static final String SELECT = "select";
+
+    private static final String DIRTY_TRACKING = "artemis.dirtyTracking";
+
+    private static final String DOTTED_PATHS = "artemis.dirtyTracking.dottedPaths";
+
+    private static final String PAGE_SIZE = "artemis.stream.pageSize";
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
 
-    private final UnaryOperator<DocumentEntity> update = e -> getManager().update(e);
+    private static final long SINGLE_RESULT_LIMIT = 2L;
+
+    private final UnitOfWorkWriter writer = new DocumentUnitOfWorkWriter();
+
+    private final Supplier<Optional<WriteBehind>> writeBehind = WriteBehind.of(writer);
+
+    private final EntitySnapshots<DocumentEntity> snapshots = new EntitySnapshots<>();
 
     private DocumentObserverParser columnQueryParser;
 
@@ -78,10 +106,31 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     }
 
 
+    /**
+     * Returns the second-level caches of the manager
+     *
+     * @return the {@link EntityCaches}
+     */
+    protected EntityCaches getCaches() {
+        return EntityCaches.of(getManager());
+    }
+
     @Override
     public <T> T insert(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, insert);
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            unitOfWork.get().insert(getManager(), classMapping.getName(), getId(classMapping, entity), entity, writer);
+            return entity;
+        }
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().insert(classMapping.getName(), getId(classMapping, entity), entity);
+            return entity;
+        }
+        return evict(getWorkflow().flow(entity, e -> insert(entity, e)));
     }
 
 
@@ -89,31 +138,209 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     public <T> T insert(T entity, Duration ttl) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return getWorkflow().flow(entity, e -> getManager().insert(e, ttl));
+        flushPendingWrites();
+        return evict(getWorkflow().flow(entity, e -> getManager().insert(e, ttl)));
     }
 
 
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, update);
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            unitOfWork.get().update(getManager(), classMapping.getName(), getId(classMapping, entity), entity, writer);
+            return entity;
+        }
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().update(classMapping.getName(), getId(classMapping, entity), entity);
+            return entity;
+        }
+        return evict(getWorkflow().flow(entity, e -> update(entity, e)));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        if (UnitOfWork.current().isPresent()) {
+            return DocumentTemplate.super.insert(entities);
+        }
+        getWriteBehind().ifPresent(WriteBehind::flush);
+        return insertAll(entities);
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        flushPendingWrites();
+        return Batches.apply(entities, batch -> {
+            List<T> inserted = getWorkflow().flowBatch(batch, e -> asList(getManager().insert(e, ttl)));
+            inserted.forEach(this::evict);
+            return inserted;
+        });
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        if (UnitOfWork.current().isPresent() || isDirtyTracking()) {
+            return DocumentTemplate.super.update(entities);
+        }
+        getWriteBehind().ifPresent(WriteBehind::flush);
+        return updateAll(entities);
+    }
+
+    private <T> List<T> insertAll(Iterable<T> entities) {
+        return Batches.apply(entities, batch -> {
+            List<T> inserted = getWorkflow().flowBatch(batch, e -> asList(getManager().insert(e)));
+            if (isDirtyTracking()) {
+                inserted.forEach(this::track);
+            }
+            inserted.forEach(this::evict);
+            return inserted;
+        });
+    }
+
+    private <T> List<T> updateAll(Iterable<T> entities) {
+        if (isDirtyTracking()) {
+            List<T> updated = new ArrayList<>();
+            for (T entity : entities) {
+                updated.add(evict(getWorkflow().flow(entity, e -> update(entity, e))));
+            }
+            return updated;
+        }
+        return Batches.apply(entities, batch -> {
+            List<T> updated = getWorkflow().flowBatch(batch, e -> asList(getManager().update(e)));
+            updated.forEach(this::evict);
+            return updated;
+        });
     }
 
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
+        flushPendingWrites();
         getPersistManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        getCaches().invalidate(query.getDocumentCollection());
+        UnitOfWork.current().ifPresent(u -> u.evict(getManager(), query.getDocumentCollection()));
     }
 
     @Override
     public <T> List<T> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
+        flushPendingWrites();
         getPersistManager().firePreQuery(query);
+        List<DocumentEntity> entities = select(getClassMappings().findByName(query.getDocumentCollection()), query);
+        return toEntities(entities);
+    }
+
+    @Override
+    public <T> Optional<T> singleResult(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        DocumentQuery limited = DelegateDocumentQuery.limit(query, SINGLE_RESULT_LIMIT);
+        flushPendingWrites();
+        getPersistManager().firePreQuery(limited);
+        List<DocumentEntity> entities = select(getClassMappings().findByName(query.getDocumentCollection()), limited);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        return Optional.of(toEntity(entities.get(0)));
+    }
+
+    @Override
+    public <P> Optional<P> singleResult(DocumentQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        List<P> entities = select(DelegateDocumentQuery.limit(query, SINGLE_RESULT_LIMIT), projection);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        return Optional.of(entities.get(0));
+    }
+
+    @Override
+    public <P> List<P> select(DocumentQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getDocumentCollection());
+        Projection<P> plan = classMapping.getProjection(projection);
+        DocumentQuery projectionQuery = plan.getColumns().isEmpty() ? query
+                : DelegateDocumentQuery.documents(query, plan.getColumns());
+        flushPendingWrites();
+        getPersistManager().firePreQuery(projectionQuery);
+        return HYDRATION.apply(select(classMapping, projectionQuery),
+                e -> getConverter().toProjection(plan, e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
+        return stream(query, Integer.getInteger(PAGE_SIZE, DEFAULT_PAGE_SIZE));
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query, int pageSize) {
+        requireNonNull(query, "query is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getDocumentCollection());
+        return stream(classMapping, query, pageSize).map(e -> this.<T>toEntity(e));
+    }
+
+    @Override
+    public <P> Stream<P> stream(DocumentQuery query, Class<P> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ClassMapping classMapping = getClassMappings().findByName(query.getDocumentCollection());
+        Projection<P> plan = classMapping.getProjection(projection);
+        DocumentQuery projectionQuery = plan.getColumns().isEmpty() ? query
+                : DelegateDocumentQuery.documents(query, plan.getColumns());
+        return stream(classMapping, projectionQuery, Integer.getInteger(PAGE_SIZE, DEFAULT_PAGE_SIZE))
+                .map(e -> getConverter().toProjection(plan, e));
+    }
+
+    private Stream<DocumentEntity> stream(ClassMapping classMapping, DocumentQuery query, int pageSize) {
+        flushPendingWrites();
+        DocumentCollectionManager manager = getManager();
+        PagedStream.PageFetcher<DocumentEntity> fetcher = (skip, limit) ->
+                manager.select(DelegateDocumentQuery.page(query, skip, limit));
+        return PagedStream.of(fetcher, (skip, limit, page) -> {
+            DocumentQuery pageQuery = DelegateDocumentQuery.page(query, skip, limit);
+            getPersistManager().firePreQuery(pageQuery);
+            return getCached(classMapping, pageQuery).orElseGet(page);
+        }, query.getSkip(), query.getLimit(), pageSize);
+    }
+
+    /**
+     * The pages of a stream are read from the query cache but not put in it, since the next page is read in
+     * background and a write in the meantime would not invalidate it.
+     */
+    private Optional<List<DocumentEntity>> getCached(ClassMapping classMapping, DocumentQuery query) {
+        return getCaches().getQueries(classMapping).flatMap(c -> c.get(DocumentQueryKey.of(query)))
+                .map(entities -> entities.stream().map(DocumentEntity.class::cast).collect(toList()));
+    }
+
+    private List<DocumentEntity> select(ClassMapping classMapping, DocumentQuery query) {
+        Optional<QueryCache> cache = getCaches().getQueries(classMapping);
+        if (!cache.isPresent()) {
+            return getManager().select(query);
+        }
+        Object key = DocumentQueryKey.of(query);
+        Optional<List<Object>> cached = cache.get().get(key);
+        if (cached.isPresent()) {
+            return cached.get().stream().map(DocumentEntity.class::cast).collect(toList());
+        }
+        long version = cache.get().getVersion();
         List<DocumentEntity> entities = getManager().select(query);
-        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        cache.get().put(key, entities, version);
+        return entities;
     }
 
     @Override
@@ -125,10 +352,42 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (!unitOfWork.isPresent()) {
+            getWriteBehind().ifPresent(WriteBehind::flush);
+            return find(classMapping, idField, value);
+        }
+        if (unitOfWork.get().isDeleted(getManager(), classMapping.getName(), value)) {
+            return Optional.empty();
+        }
+        Optional<T> entity = unitOfWork.get().get(getManager(), classMapping.getName(), value);
+        if (entity.isPresent()) {
+            return entity;
+        }
+        return this.<T>find(classMapping, idField, value)
+                .map(e -> unitOfWork.get().register(getManager(), classMapping.getName(), value, e));
+    }
+
+    private <T> Optional<T> find(ClassMapping classMapping, FieldMapping idField, Object value) {
         DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
 
-        return singleResult(query);
+        Optional<EntityCache> cache = getCaches().get(classMapping);
+        Optional<Object> cached = cache.flatMap(c -> c.get(value));
+        if (cached.isPresent()) {
+            return Optional.of(track(getConverter().toEntity((DocumentEntity) cached.get())));
+        }
+        long version = cache.map(EntityCache::getVersion).orElse(0L);
+        getPersistManager().firePreQuery(query);
+        List<DocumentEntity> entities = getManager().select(query);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        cache.ifPresent(c -> c.put(value, entities.get(0), version));
+        return Optional.of(track(getConverter().toEntity(entities.get(0))));
     }
 
     @Override
@@ -141,46 +400,215 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            unitOfWork.get().delete(getManager(), classMapping.getName(), value, entityClass, id, writer);
+            return;
+        }
+        getWriteBehind().ifPresent(w -> w.remove(classMapping.getName(), value));
         DocumentDeleteQuery query = DocumentQueryBuilder.delete().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
 
-        delete(query);
+        getPersistManager().firePreDeleteQuery(query);
+        getManager().delete(query);
+        getCaches().get(classMapping).ifPresent(c -> c.remove(value));
+        getCaches().invalidateQueries(classMapping.getName());
     }
 
     @Override
     public <T> List<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList());
+        flushPendingWrites();
+        List<T> entities = toEntities(PARSER.query(query, getManager(), getObserver()));
+        if (!isSelect(query)) {
+            invalidateAll();
+        }
+        return entities;
     }
 
     @Override
     public <T> Optional<T> singleResult(String query) {
-        List<T> entities = query(query);
+        requireNonNull(query, "query is required");
+        flushPendingWrites();
+        List<DocumentEntity> entities = PARSER.query(query, getManager(), getObserver(), SINGLE_RESULT_LIMIT);
+        if (!isSelect(query)) {
+            invalidateAll();
+        }
         if (entities.isEmpty()) {
             return Optional.empty();
         }
         if (entities.size() == 1) {
-            return Optional.ofNullable(entities.get(0));
+            return Optional.ofNullable(toEntity(entities.get(0)));
         }
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
     @Override
     public PreparedStatement prepare(String query) {
-        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        Runnable afterExecute = isSelect(query) ? () -> { } : this::invalidateAll;
+        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), this::toEntity,
+                this::flushPendingWrites, afterExecute);
     }
 
 
     @Override
     public long count(String documentCollection) {
+        getWriteBehind().ifPresent(WriteBehind::flush);
         return getManager().count(documentCollection);
     }
 
     public <T> long count(Class<T> entityClass) {
         Objects.requireNonNull(entityClass, "entityClass is required");
         ClassMapping classMapping = getClassMappings().get(entityClass);
+        getWriteBehind().ifPresent(WriteBehind::flush);
         return getManager().count(classMapping.getName());
     }
 
+    @Override
+    public void flush() {
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
+    private <T> T evict(T entity) {
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        getCaches().get(classMapping).ifPresent(c -> {
+            Object id = getId(classMapping, entity);
+            if (id != null) {
+                c.remove(id);
+            }
+        });
+        getCaches().invalidateQueries(classMapping.getName());
+        return entity;
+    }
+
+    private Object getId(ClassMapping classMapping, Object entity) {
+        return classMapping.getId().map(idField -> {
+            Object id = idField.read(entity);
+            if (id == null) {
+                return null;
+            }
+            return ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        }).orElse(null);
+    }
+
+    private <T> T toEntity(DocumentEntity documentEntity) {
+        return register(track(getConverter().toEntity(documentEntity)));
+    }
+
+    private <T> List<T> toEntities(List<DocumentEntity> entities) {
+        List<T> converted = HYDRATION.apply(entities, d -> track(getConverter().<T>toEntity(d)));
+        if (!UnitOfWork.current().isPresent()) {
+            return converted;
+        }
+        return converted.stream().map(this::register).collect(toList());
+    }
+
+    private <T> T register(T entity) {
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (!unitOfWork.isPresent()) {
+            return entity;
+        }
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        return unitOfWork.get().register(getManager(), classMapping.getName(), getId(classMapping, entity), entity);
+    }
+
+    /**
+     * Checks if the templates track the entities to update only the documents changed, it is enabled
+     * with the system property artemis.dirtyTracking when the database merges the documents of an update
+     * instead of replacing the entity. A sub-document changed is sent whole, see
+     * {@link AbstractDocumentTemplate#isDottedPaths()}.
+     *
+     * @return true when the dirty tracking is enabled
+     */
+    protected boolean isDirtyTracking() {
+        return Boolean.getBoolean(DIRTY_TRACKING);
+    }
+
+    /**
+     * Checks if the dirty tracking sends only the documents changed within a sub-document, named with their dot
+     * separated path, e.g. address.city. It is enabled with the system property artemis.dirtyTracking.dottedPaths
+     * and the database must resolve the dot separated names in an update, as MongoDB does.
+     *
+     * @return true when the dotted paths are enabled
+     */
+    protected boolean isDottedPaths() {
+        return Boolean.getBoolean(DOTTED_PATHS);
+    }
+
+    private DocumentEntity insert(Object entity, DocumentEntity documentEntity) {
+        DocumentEntity inserted = getManager().insert(documentEntity);
+        if (isDirtyTracking()) {
+            snapshots.put(entity, documentEntity);
+        }
+        return inserted;
+    }
+
+    private DocumentEntity update(Object entity, DocumentEntity documentEntity) {
+        if (!isDirtyTracking()) {
+            return getManager().update(documentEntity);
+        }
+        ClassMapping classMapping = getClassMappings().get(entity.getClass());
+        Optional<DocumentEntity> changes = classMapping.getId().flatMap(idField -> snapshots.get(entity)
+                .flatMap(s -> DocumentEntityDiff.of(s, documentEntity, idField.getName(), isDottedPaths())));
+        if (!changes.isPresent()) {
+            DocumentEntity updated = getManager().update(documentEntity);
+            snapshots.put(entity, documentEntity);
+            return updated;
+        }
+        if (changes.get().size() > 1) {
+            getManager().update(changes.get());
+        }
+        snapshots.put(entity, documentEntity);
+        return documentEntity;
+    }
+
+    private static List<DocumentEntity> asList(Iterable<DocumentEntity> entities) {
+        if (entities == null) {
+            return Collections.emptyList();
+        }
+        return StreamSupport.stream(entities.spliterator(), false).collect(toList());
+    }
+
+    private <T> T track(T entity) {
+        if (isDirtyTracking()) {
+            snapshots.put(entity, getConverter().toDocument(entity));
+        }
+        return entity;
+    }
+
+    private Optional<WriteBehind> getWriteBehind() {
+        return writeBehind.get();
+    }
+
+    private void flushPendingWrites() {
+        UnitOfWork.current().ifPresent(u -> u.flush(getManager()));
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
+    private void invalidateAll() {
+        getCaches().invalidateAll();
+        UnitOfWork.current().ifPresent(u -> u.evictAll(getManager()));
+    }
+
+    private static boolean isSelect(String query) {
+        return query.trim().regionMatches(true, 0, SELECT, 0, SELECT.length());
+    }
+
+    private class DocumentUnitOfWorkWriter implements UnitOfWorkWriter {
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            insertAll(entities);
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            updateAll(entities);
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            AbstractDocumentTemplate.this.delete(entityClass, id);
+        }
+    }
 }
@@ -18,16 +18,18 @@ package org.jnosql.artemis.document;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.artemis.cache.UnitOfWorkWriter;
+import org.jnosql.artemis.cache.WriteBehind;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.artemis.util.ParallelHydration;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
-import org.jnosql.diana.api.document.DocumentQueryParserAsync;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
@@ -35,6 +37,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,7 +52,9 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     private static final Consumer EMPTY = t -> {
     };
 
-    private static final DocumentQueryParserAsync PARSER = DocumentQueryParserAsync.getParser();
+    private static final CachedDocumentQueryParser PARSER = CachedDocumentQueryParser.INSTANCE;
+
+    private static final ParallelHydration HYDRATION = ParallelHydration.get();
 
     protected abstract DocumentEntityConverter getConverter();
 
@@ -61,6 +66,9 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     private DocumentObserverParser observer;
 
+    private final UnitOfWorkWriter writer = new DocumentAsyncWriter();
+
+    private final Supplier<Optional<WriteBehind>> writeBehind = WriteBehind.of(writer);
 
     private DocumentObserverParser getObserver() {
         if (Objects.isNull(observer)) {
@@ -72,6 +80,13 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     @Override
     public <T> void insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().insert(classMapping.getName(), getId(classMapping, entity), entity);
+            return;
+        }
         insert(entity, EMPTY);
     }
 
@@ -84,6 +99,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void insert(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
+        flush();
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().insert(getConverter().toDocument(entity), dianaCallBack);
     }
@@ -93,6 +109,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callBack, "callBack is required");
+        flush();
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().insert(getConverter().toDocument(entity), ttl, dianaCallBack);
     }
@@ -100,6 +117,12 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     @Override
     public <T> void update(T entity) {
         requireNonNull(entity, "entity is required");
+        Optional<WriteBehind> writeBehind = getWriteBehind();
+        if (writeBehind.isPresent()) {
+            ClassMapping classMapping = getClassMappings().get(entity.getClass());
+            writeBehind.get().update(classMapping.getName(), getId(classMapping, entity), entity);
+            return;
+        }
         update(entity, EMPTY);
     }
 
@@ -107,6 +130,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void update(T entity, Consumer<T> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
+        flush();
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
         getManager().update(getConverter().toDocument(entity), dianaCallBack);
     }
@@ -114,6 +138,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
+        flush();
         getManager().delete(query);
     }
 
@@ -121,6 +146,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public void delete(DocumentDeleteQuery query, Consumer<Void> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callBack is required");
+        flush();
         getManager().delete(query, callback);
     }
 
@@ -130,10 +156,8 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(callback, "callBack is required");
 
         Consumer<List<DocumentEntity>> dianaCallBack = d -> callback.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
+                HYDRATION.apply(d, e -> getConverter().<T>toEntity(e)));
+        flush();
         getManager().select(query, dianaCallBack);
     }
 
@@ -183,8 +207,9 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
     public <T> void query(String query, Consumer<List<T>> callback) {
         requireNonNull(query, "query is required");
         requireNonNull(callback, "callback is required");
-        Consumer<List<DocumentEntity>> mapper = columnEntities -> callback.accept(columnEntities.stream().map(c -> (T) getConverter().toEntity(c))
-                .collect(toList()));
+        Consumer<List<DocumentEntity>> mapper = columnEntities ->
+                callback.accept(HYDRATION.apply(columnEntities, c -> getConverter().<T>toEntity(c)));
+        flush();
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
@@ -202,6 +227,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
             }
             throw new UnsupportedOperationException("This query does not return a unique result: " + query);
         };
+        flush();
         PARSER.query(query, getManager(), mapper, getObserver());
     }
 
@@ -213,6 +239,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     @Override
     public void count(String documentCollection, Consumer<Long> callback) {
+        flush();
         getManager().count(documentCollection, callback);
     }
 
@@ -221,17 +248,56 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         Objects.requireNonNull(entityClass, "entityClass is required");
         Objects.requireNonNull(callback, "callback is required");
         ClassMapping classMapping = getClassMappings().get(entityClass);
+        flush();
         getManager().count(classMapping.getName(), callback);
     }
 
+    @Override
+    public void flush() {
+        getWriteBehind().ifPresent(WriteBehind::flush);
+    }
+
     private <T, ID> DocumentDeleteQuery getDeleteQuery(Class<T> entityClass, ID id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         FieldMapping idField = classMapping.getId()
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        getWriteBehind().ifPresent(w -> w.remove(classMapping.getName(), value));
 
         return DocumentQueryBuilder.delete().from(classMapping.getName())
                 .where(idField.getName()).eq(value).build();
     }
+
+    private Object getId(ClassMapping classMapping, Object entity) {
+        return classMapping.getId().map(idField -> {
+            Object id = idField.read(entity);
+            if (id == null) {
+                return null;
+            }
+            return ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        }).orElse(null);
+    }
+
+    private Optional<WriteBehind> getWriteBehind() {
+        return writeBehind.get();
+    }
+
+    private class DocumentAsyncWriter implements UnitOfWorkWriter {
+
+        @Override
+        public void insert(Iterable<Object> entities) {
+            entities.forEach(e -> getManager().insert(getConverter().toDocument(e), EMPTY));
+        }
+
+        @Override
+        public void update(Iterable<Object> entities) {
+            entities.forEach(e -> getManager().update(getConverter().toDocument(e), EMPTY));
+        }
+
+        @Override
+        public void delete(Class<?> entityClass, Object id) {
+            AbstractDocumentTemplateAsync.this.delete(entityClass, id);
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.cache.StatementCache;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentObserverParser;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.document.DocumentQueryParser;
+import org.jnosql.diana.api.document.DocumentQueryParserAsync;
+import org.jnosql.diana.api.document.query.DeleteQueryConverter;
+import org.jnosql.diana.api.document.query.DocumentDeleteQueryParams;
+import org.jnosql.diana.api.document.query.DocumentQueryParams;
+import org.jnosql.diana.api.document.query.SelectQueryConverter;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.Params;
+import org.jnosql.query.QueryException;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * The parser to the text queries of the templates. The select and delete queries are parsed once and kept in
+ * a {@link StatementCache}, so each execution only converts the parsed query and binds the parameters;
+ * the other queries and the ones with parameters out of a prepared statement go to the Diana parser.
+ */
+final class CachedDocumentQueryParser {
+
+    static final CachedDocumentQueryParser INSTANCE = new CachedDocumentQueryParser();
+
+    private static final String SELECT = "select";
+
+    private static final String DELETE = "delete";
+
+    private static final long SINGLE_RESULT_LIMIT = 2L;
+
+    private final DocumentQueryParser parser = DocumentQueryParser.getParser();
+
+    private final DocumentQueryParserAsync parserAsync = DocumentQueryParserAsync.getParser();
+
+    private final StatementCache<SelectQuery> selects = StatementCache.of(SelectQuerySupplier.getSupplier()::apply);
+
+    private final StatementCache<DeleteQuery> deletes = StatementCache.of(DeleteQuerySupplier.getSupplier()::apply);
+
+    private CachedDocumentQueryParser() {
+    }
+
+    List<DocumentEntity> query(String query, DocumentCollectionManager manager, DocumentObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            DocumentQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                return manager.select(queryParams.getQuery());
+            }
+        } else if (startsWith(query, DELETE)) {
+            DocumentDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.delete(queryParams.getQuery());
+                return Collections.emptyList();
+            }
+        }
+        return parser.query(query, manager, observer);
+    }
+
+    List<DocumentEntity> query(String query, DocumentCollectionManager manager, DocumentObserverParser observer,
+                              long limit) {
+        if (startsWith(query, SELECT)) {
+            DocumentQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                return manager.select(DelegateDocumentQuery.limit(queryParams.getQuery(), limit));
+            }
+        }
+        return query(query, manager, observer);
+    }
+
+    void query(String query, DocumentCollectionManagerAsync manager, Consumer<List<DocumentEntity>> callback,
+               DocumentObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            DocumentQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.select(queryParams.getQuery(), callback);
+                return;
+            }
+        } else if (startsWith(query, DELETE)) {
+            DocumentDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            if (hasNoParams(queryParams.getParams())) {
+                manager.delete(queryParams.getQuery(), v -> callback.accept(Collections.emptyList()));
+                return;
+            }
+        }
+        parserAsync.query(query, manager, callback, observer);
+    }
+
+    org.jnosql.diana.api.document.DocumentPreparedStatement prepare(String query,
+                                                                    DocumentCollectionManager manager,
+                                                                    DocumentObserverParser observer) {
+        if (startsWith(query, SELECT)) {
+            DocumentQueryParams queryParams = SelectQueryConverter.get().apply(selects.get(query), observer);
+            return new CachedPreparedStatement(queryParams.getParams(), queryParams.getQuery(), null, manager);
+        } else if (startsWith(query, DELETE)) {
+            DocumentDeleteQueryParams queryParams = DeleteQueryConverter.get().apply(deletes.get(query), observer);
+            return new CachedPreparedStatement(queryParams.getParams(), null, queryParams.getQuery(), manager);
+        }
+        return parser.prepare(query, manager, observer);
+    }
+
+    org.jnosql.diana.api.document.DocumentPreparedStatementAsync prepare(String query,
+                                                                         DocumentCollectionManagerAsync manager,
+                                                                         DocumentObserverParser observer) {
+        return parserAsync.prepare(query, manager, observer);
+    }
+
+    private static boolean hasNoParams(Params params) {
+        return params.getNames().isEmpty();
+    }
+
+    private static boolean startsWith(String query, String keyword) {
+        String text = query.trim();
+        return text.regionMatches(true, 0, keyword, 0, keyword.length())
+                && (text.length() == keyword.length() || Character.isWhitespace(text.charAt(keyword.length())));
+    }
+
+    private static final class CachedPreparedStatement
+            implements org.jnosql.diana.api.document.DocumentPreparedStatement {
+
+        private final Params params;
+
+        private final DocumentQuery query;
+
+        private final DocumentDeleteQuery deleteQuery;
+
+        private final DocumentCollectionManager manager;
+
+        private final List<String> paramsLeft;
+
+        private CachedPreparedStatement(Params params, DocumentQuery query, DocumentDeleteQuery deleteQuery,
+                                        DocumentCollectionManager manager) {
+            this.params = params;
+            this.query = query;
+            this.deleteQuery = deleteQuery;
+            this.manager = manager;
+            this.paramsLeft = new ArrayList<>(params.getNames());
+        }
+
+        @Override
+        public org.jnosql.diana.api.document.DocumentPreparedStatement bind(String name, Object value) {
+            params.bind(name, value);
+            paramsLeft.remove(name);
+            return this;
+        }
+
+        @Override
+        public List<DocumentEntity> getResultList() {
+            checkParams();
+            if (query != null) {
+                return manager.select(query);
+            }
+            manager.delete(deleteQuery);
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Optional<DocumentEntity> getSingleResult() {
+            checkParams();
+            List<DocumentEntity> entities = query == null ? getResultList()
+                    : manager.select(DelegateDocumentQuery.limit(query, SINGLE_RESULT_LIMIT));
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            }
+            if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        }
+
+        private void checkParams() {
+            if (!paramsLeft.isEmpty()) {
+                throw new QueryException("Check all the parameters before execute the query, params left: "
+                        + paramsLeft);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default implementation to represents {@link DocumentBatchPrePersist}
+ */
+class DefaultDocumentBatchPrePersist implements DocumentBatchPrePersist {
+
+    private final List<DocumentEntity> entities;
+
+    DefaultDocumentBatchPrePersist(List<DocumentEntity> entities) {
+        this.entities = Collections.unmodifiableList(entities);
+    }
+
+    @Override
+    public List<DocumentEntity> getEntities() {
+        return entities;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultDocumentBatchPrePersist)) {
+            return false;
+        }
+        DefaultDocumentBatchPrePersist that = (DefaultDocumentBatchPrePersist) o;
+        return Objects.equals(entities, that.entities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(entities);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultDocumentBatchPrePersist{");
+        sb.append("entities=").append(entities);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -24,6 +24,7 @@ import org.jnosql.diana.api.document.DocumentQuery;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.List;
 
 /**
  * The default implementation of {@link DocumentEventPersistManager}
@@ -55,6 +56,12 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     @Inject
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Inject
+    private Event<DocumentBatchPrePersist> documentBatchPrePersistEvent;
+
+    @Inject
+    private Event<DocumentBatchPostPersist> documentBatchPostPersistEvent;
+
     @Override
     public void firePreDocument(DocumentEntity entity) {
         documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
@@ -94,4 +101,14 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     public void firePreDeleteQuery(DocumentDeleteQuery query) {
         documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
     }
+
+    @Override
+    public void firePreBatch(List<DocumentEntity> entities) {
+        documentBatchPrePersistEvent.fire(DocumentBatchPrePersist.of(entities));
+    }
+
+    @Override
+    public void firePostBatch(List<DocumentEntity> entities) {
+        documentBatchPostPersistEvent.fire(DocumentBatchPostPersist.of(entities));
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link DocumentQuery} that delegates to another one changing its skip, limit or documents
+ */
+final class DelegateDocumentQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final List<String> documents;
+
+    private DelegateDocumentQuery(DocumentQuery query, long skip, long limit, List<String> documents) {
+        this.query = query;
+        this.skip = skip;
+        this.limit = limit;
+        this.documents = documents;
+    }
+
+    /**
+     * Restricts the query to the first entities of its result, when the query does not have a smaller limit
+     *
+     * @param query the query
+     * @param limit the maximum number of entities
+     * @return the query restricted
+     */
+    static DocumentQuery limit(DocumentQuery query, long limit) {
+        if (query.getLimit() > 0 && query.getLimit() <= limit) {
+            return query;
+        }
+        return page(query, query.getSkip(), limit);
+    }
+
+    /**
+     * Restricts the query to a page of its result
+     *
+     * @param query the query
+     * @param skip  the number of entities to skip
+     * @param limit the maximum number of entities
+     * @return the query restricted
+     */
+    static DocumentQuery page(DocumentQuery query, long skip, long limit) {
+        return new DelegateDocumentQuery(query, skip, limit, query.getDocuments());
+    }
+
+    /**
+     * Restricts the documents the query returns
+     *
+     * @param query     the query
+     * @param documents the documents
+     * @return the query restricted
+     */
+    static DocumentQuery documents(DocumentQuery query, List<String> documents) {
+        return new DelegateDocumentQuery(query, query.getSkip(), query.getLimit(), documents);
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return documents;
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DelegateDocumentQuery)) {
+            return false;
+        }
+        DelegateDocumentQuery that = (DelegateDocumentQuery) o;
+        return skip == that.skip && limit == that.limit && Objects.equals(query, that.query)
+                && Objects.equals(documents, that.documents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, skip, limit, documents);
+    }
+
+    @Override
+    public String toString() {
+        return "DelegateDocumentQuery{" + "query=" + query + ", skip=" + skip + ", limit=" + limit
+                + ", documents=" + documents + '}';
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The interface represents the batch of {@link DocumentEntity} sent to the database at once, after its response.
+ */
+public interface DocumentBatchPostPersist {
+
+    /**
+     * The {@link DocumentEntity} batch after be saved
+     *
+     * @return the {@link DocumentEntity} instances
+     */
+    List<DocumentEntity> getEntities();
+
+    /**
+     * Creates the {@link DocumentBatchPostPersist} instance
+     *
+     * @param entities the entities
+     * @return {@link DocumentBatchPostPersist} instance
+     * @throws NullPointerException when the entities is null
+     */
+    static DocumentBatchPostPersist of(List<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "Entities is required");
+        return new DefaultDocumentBatchPostPersist(entities);
+    }
+}
@@ -14,8 +14,11 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This interface represents the converter between an entity and the {@link DocumentEntity}
  */
@@ -63,4 +66,20 @@ public interface DocumentEntityConverter {
      * @throws NullPointerException when entity is null
      */
     <T> T toEntity(DocumentEntity entity);
+
+    /**
+     * Converts a {@link DocumentEntity} to a projection of the entity, by default it converts to the entity
+     * and then reads the projection from it
+     *
+     * @param projection the projection
+     * @param entity     the {@link DocumentEntity} to be converted
+     * @param <P>        the projection type
+     * @return the projection from {@link DocumentEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    default <P> P toProjection(Projection<P> projection, DocumentEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        return projection.apply(toEntity(projection.getEntityClass(), entity));
+    }
 }
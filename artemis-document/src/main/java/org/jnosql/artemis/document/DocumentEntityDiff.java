@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares an entity with its snapshot to send, in an update, the id and only the documents that changed.
+ * A sub-document changed is sent whole, unless the dotted paths are enabled, then only its documents changed
+ * are sent, named with the path from the root separated by dot, e.g.: address.city.
+ */
+final class DocumentEntityDiff {
+
+    private static final String SEPARATOR = ".";
+
+    private DocumentEntityDiff() {
+    }
+
+    /**
+     * Returns the changes of the entity
+     *
+     * @param snapshot the entity as it was read or written last time
+     * @param entity   the entity to update
+     * @param idName      the id document name
+     * @param dottedPaths true to send the documents changed within a sub-document by their dotted path
+     * @return the entity with the id and the documents changed, otherwise {@link Optional#empty()} when the id
+     * changed or a document was removed, then the whole entity is required
+     */
+    static Optional<DocumentEntity> of(DocumentEntity snapshot, DocumentEntity entity, String idName,
+                                       boolean dottedPaths) {
+        Optional<Document> id = entity.find(idName);
+        if (!id.isPresent() || !id.equals(snapshot.find(idName))) {
+            return Optional.empty();
+        }
+        DocumentEntity changes = DocumentEntity.of(entity.getName());
+        changes.add(id.get());
+        List<Document> previous = snapshot.getDocuments().stream()
+                .filter(d -> !idName.equals(d.getName())).collect(toList());
+        List<Document> documents = entity.getDocuments().stream()
+                .filter(d -> !idName.equals(d.getName())).collect(toList());
+        if (diff("", previous, documents, changes, dottedPaths)) {
+            return Optional.of(changes);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean diff(String path, List<Document> snapshot, List<Document> documents,
+                                DocumentEntity changes, boolean dottedPaths) {
+        Map<String, Document> previous = new HashMap<>();
+        snapshot.forEach(d -> previous.put(d.getName(), d));
+        for (Document document : documents) {
+            Document previousDocument = previous.remove(document.getName());
+            if (document.equals(previousDocument)) {
+                continue;
+            }
+            String name = path + document.getName();
+            if (dottedPaths && previousDocument != null && isSubDocument(document)
+                    && isSubDocument(previousDocument)) {
+                if (!diff(name + SEPARATOR, (List<Document>) previousDocument.get(),
+                        (List<Document>) document.get(), changes, true)) {
+                    return false;
+                }
+            } else {
+                changes.add(path.isEmpty() ? document : Document.of(name, document.get()));
+            }
+        }
+        return previous.isEmpty();
+    }
+
+    private static boolean isSubDocument(Document document) {
+        Object value = document.get();
+        return value instanceof List && !((List<?>) value).isEmpty()
+                && ((List<?>) value).stream().allMatch(Document.class::isInstance);
+    }
+}
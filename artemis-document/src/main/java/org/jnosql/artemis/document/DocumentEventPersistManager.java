@@ -19,6 +19,8 @@ import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 
+import java.util.List;
+
 /**
  * This interface represent the manager of events. When an entity be either saved or updated an event will be fired. This order gonna be:
  * 1) firePreEntity
@@ -79,6 +81,27 @@ public interface DocumentEventPersistManager {
      */
     <T> void firePostDocumentEntity(T entity);
 
+    /**
+     * Fire an event after the conversion of a batch of entities, that is sent to the database at once,
+     * instead of {@link DocumentEventPersistManager#firePreDocument(DocumentEntity)} to each one of them.
+     * By default, it fires that event to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePreBatch(List<DocumentEntity> entities) {
+        entities.forEach(this::firePreDocument);
+    }
+
+    /**
+     * Fire an event after the response from communication layer to a batch of entities. By default, it fires
+     * {@link DocumentEventPersistManager#firePostDocument(DocumentEntity)} to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePostBatch(List<DocumentEntity> entities) {
+        entities.forEach(this::firePostDocument);
+    }
+
 
     /**
      * Fire an event before the query is executed
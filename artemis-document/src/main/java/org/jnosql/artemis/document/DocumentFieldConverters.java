@@ -117,7 +117,7 @@ class DocumentFieldConverters {
                 Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
                 field.write(instance, field.getValue(Value.of(attributeConverted)));
             } else {
-                field.write(instance, field.getValue(value));
+                field.writeValue(instance, value);
             }
         }
     }
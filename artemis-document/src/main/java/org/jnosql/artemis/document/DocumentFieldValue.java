@@ -22,7 +22,10 @@ import java.util.List;
 
 /**
  * The specialist {@link FieldValue} to document
+ *
+ * @deprecated the converter writes through the {@link org.jnosql.artemis.reflection.WritePlan}
  */
+@Deprecated
 public interface DocumentFieldValue extends FieldValue {
 
     List<Document> toDocument(DocumentEntityConverter converter, Converters converters);
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The key of a {@link DocumentQuery} at the {@link org.jnosql.artemis.cache.QueryCache}, built from the values
+ * of the query instead of its implementation, so the queries created by the builder, the parser or the repositories
+ * have the same key when they select the same entities. The order of the documents does not change the key.
+ */
+final class DocumentQueryKey {
+
+    private DocumentQueryKey() {
+    }
+
+    static Object of(DocumentQuery query) {
+        return Arrays.asList(query.getDocumentCollection(),
+                new ArrayList<>(new TreeSet<>(query.getDocuments())),
+                query.getCondition().map(DocumentQueryKey::of).orElse(null),
+                query.getSorts().stream().map(s -> Arrays.asList(s.getName(), s.getType())).collect(toList()),
+                query.getSkip(),
+                query.getLimit());
+    }
+
+    private static Object of(DocumentCondition condition) {
+        return Arrays.asList(condition.getCondition(), condition.getDocument().getName(),
+                value(condition.getDocument().get()));
+    }
+
+    private static Object value(Object value) {
+        if (value instanceof DocumentCondition) {
+            return of((DocumentCondition) value);
+        }
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                values.add(value(element));
+            }
+            return values;
+        }
+        return value;
+    }
+}
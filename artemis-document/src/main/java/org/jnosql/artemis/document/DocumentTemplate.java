@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -131,6 +132,62 @@ public interface DocumentTemplate {
      */
     <T> List<T> select(DocumentQuery query);
 
+    /**
+     * Finds the projections of the entities from query, the query is restricted to the documents of the projection
+     * and only the fields of the projection are read from each entity.
+     *
+     * @param query      - query to figure out entities
+     * @param projection the projection type, either an interface whose getters or a class whose fields
+     *                   are named after the entity fields
+     * @param <P>        the projection type
+     * @return the projections of the entities found by query
+     * @throws NullPointerException when either query or projection is null
+     * @throws org.jnosql.artemis.reflection.ProjectionException when the projection does not match the entity
+     */
+    <P> List<P> select(DocumentQuery query, Class<P> projection);
+
+    /**
+     * Finds entities from query lazily, the result is read page by page with the skip and the limit of the query,
+     * the next page is read in background while the current one is consumed and each entity is converted when it is
+     * consumed. The page size is defined by the system property artemis.stream.pageSize, 100 by default.
+     * The query should be sorted, so the pages do not overlap.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return a lazy {@link Stream} of the entities found by query, it should be closed when it is not consumed
+     * until the end
+     * @throws NullPointerException when query is null
+     */
+    <T> Stream<T> stream(DocumentQuery query);
+
+    /**
+     * Finds entities from query lazily, reading the result page by page
+     *
+     * @param query    - query to figure out entities
+     * @param pageSize the number of entities of each page
+     * @param <T>      the instance type
+     * @return a lazy {@link Stream} of the entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when pageSize is not positive
+     * @see DocumentTemplate#stream(DocumentQuery)
+     */
+    <T> Stream<T> stream(DocumentQuery query, int pageSize);
+
+    /**
+     * Finds the projections of the entities from query lazily, the query is restricted to the columns of the
+     * projection and the result is read page by page as {@link DocumentTemplate#stream(DocumentQuery)} does
+     *
+     * @param query      - query to figure out entities
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return a lazy {@link Stream} of the projections of the entities found by query
+     * @throws NullPointerException when either query or projection is null
+     * @throws org.jnosql.artemis.reflection.ProjectionException when the projection does not match the entity
+     */
+    default <P> Stream<P> stream(DocumentQuery query, Class<P> projection) {
+        return select(query, projection).stream();
+    }
+
     /**
      * Executes a query then bring the result as a {@link List}
      *
@@ -227,4 +284,34 @@ public interface DocumentTemplate {
         throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
     }
 
+    /**
+     * Returns the projection of a single entity from query
+     *
+     * @param query      - query to figure out entities
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return the projection on {@link Optional} or {@link Optional#empty()} when the result is not found.
+     * @throws NonUniqueResultException when the result has more than 1 entity
+     * @throws NullPointerException     when either query or projection is null
+     */
+    default <P> Optional<P> singleResult(DocumentQuery query, Class<P> projection) {
+        List<P> entities = select(query, projection);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() == 1) {
+            return Optional.of(entities.get(0));
+        }
+
+        throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+    }
+
+    /**
+     * Sends the writes held by the write-behind buffer of the document collection manager to the database,
+     * it does nothing when the buffer is disabled.
+     *
+     * @see org.jnosql.artemis.cache.WriteBehind
+     */
+    default void flush() {
+    }
 }
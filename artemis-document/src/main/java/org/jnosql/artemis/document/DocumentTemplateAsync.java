@@ -313,4 +313,13 @@ public interface DocumentTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Sends the writes held by the write-behind buffer of the document collection manager to the database,
+     * it does nothing when the buffer is disabled.
+     *
+     * @see org.jnosql.artemis.cache.WriteBehind
+     */
+    default void flush() {
+    }
 }
@@ -27,6 +27,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.jnosql.artemis.document.query.ReturnTypeConverterUtil.returnObject;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
@@ -75,6 +76,11 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
     private Object getJnosqlQuery(Method method, Object[] args, Class<?> typeClass) {
         String value = method.getAnnotation(Query.class).value();
         Map<String, Object> params = getParams(method, args);
+        Class<?> returnType = method.getReturnType();
+        if (typeClass.equals(returnType) || Optional.class.equals(returnType)) {
+            Optional<T> entity = getSingleResult(value, params);
+            return Optional.class.equals(returnType) ? entity : entity.orElse(null);
+        }
         List<T> entities;
         if (params.isEmpty()) {
             entities = getTemplate().query(value);
@@ -86,4 +92,13 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
         return ReturnTypeConverterUtil.returnObject(entities, typeClass, method);
     }
 
+    private Optional<T> getSingleResult(String query, Map<String, Object> params) {
+        if (params.isEmpty()) {
+            return getTemplate().singleResult(query);
+        }
+        PreparedStatement prepare = getTemplate().prepare(query);
+        params.forEach(prepare::bind);
+        return prepare.getSingleResult();
+    }
+
 }
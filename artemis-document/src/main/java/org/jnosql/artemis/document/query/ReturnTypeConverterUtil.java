@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.document.DocumentTemplate;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentQuery;
 
@@ -38,7 +39,19 @@ final class ReturnTypeConverterUtil {
 
 
     static Object returnObject(DocumentQuery query, DocumentTemplate repository, Class typeClass, Method method) {
+        Optional<Class<?>> projection = Projection.getType(method, typeClass);
         Class<?> returnType = method.getReturnType();
+        if (projection.isPresent()) {
+            Class<?> projectionClass = projection.get();
+            if (projectionClass.equals(returnType)) {
+                return repository.singleResult(query, projectionClass).orElse(null);
+            } else if (Optional.class.equals(returnType)) {
+                return repository.singleResult(query, projectionClass);
+            } else if (Stream.class.equals(returnType)) {
+                return repository.stream(query, projectionClass);
+            }
+            return returnObject(repository.select(query, projectionClass), projectionClass, method);
+        }
 
         if (typeClass.equals(returnType)) {
             Optional<Object> optional = repository.singleResult(query);
@@ -55,7 +68,7 @@ final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(repository.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return repository.select(query).stream();
+            return repository.stream(query);
         }
 
         return repository.select(query);
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
@@ -27,6 +28,9 @@ import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
@@ -45,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -62,6 +67,12 @@ public class DefaultDocumentEntityConverterTest {
     @Inject
     private DefaultDocumentEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
     private Document[] documents;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -386,4 +397,57 @@ public class DefaultDocumentEntityConverterTest {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertToProjection() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "Otavio"));
+        entity.add(Document.of("age", "10"));
+
+        Projection<PersonAge> projection = classMappings.get(Person.class).getProjection(PersonAge.class);
+        PersonAge person = converter.toProjection(projection, entity);
+        assertEquals("Otavio", person.getName());
+        assertEquals(10, person.getAge());
+    }
+
+    @Test
+    public void shouldUseTheFieldHooksOverriddenBySubclasses() {
+        List<String> read = new ArrayList<>();
+        AbstractDocumentEntityConverter custom = new AbstractDocumentEntityConverter() {
+            @Override
+            protected ClassMappings getClassMappings() {
+                return classMappings;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected <T> Consumer<String> feedObject(T instance, List<Document> documents,
+                                                      Map<String, FieldMapping> fieldsGroupByName) {
+                Consumer<String> feed = super.feedObject(instance, documents, fieldsGroupByName);
+                return name -> {
+                    read.add(name);
+                    feed.accept(name);
+                };
+            }
+        };
+
+        Person person = Person.builder().withAge()
+                .withId(12)
+                .withName("Otavio")
+                .withPhones(asList("234", "2342")).build();
+        DocumentEntity entity = custom.toDocument(person);
+        Person converted = custom.toEntity(entity);
+        assertEquals("Otavio", converted.getName());
+        assertThat(read, containsInAnyOrder("_id", "age", "name", "phones"));
+    }
+
+    interface PersonAge {
+
+        String getName();
+
+        int getAge();
+    }
+}
@@ -29,11 +29,14 @@ import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.query.QueryException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Instance;
@@ -53,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -106,6 +110,12 @@ public class DefaultDocumentTemplateTest {
                 documentEventPersistManager, classMappings, converters);
     }
 
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("artemis.batch.size");
+        System.clearProperty("artemis.writeBehind.size");
+    }
+
     @Test
     public void shouldSave() {
         DocumentEntity document = DocumentEntity.of("Person");
@@ -173,16 +183,11 @@ public class DefaultDocumentTemplateTest {
 
     @Test
     public void shouldInsertEntitiesTTL() {
-        DocumentEntity documentEntity = DocumentEntity.of("Person");
-        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
         Duration duration = Duration.ofHours(2);
 
-        Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
-
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<DocumentEntity>>any(), Mockito.eq(duration));
+        verify(managerMock, never()).insert(any(DocumentEntity.class), any(Duration.class));
     }
 
     @Test
@@ -191,26 +196,67 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        verify(managerMock).insert(Mockito.<Iterable<DocumentEntity>>any());
+        verify(managerMock, never()).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePreDocumentEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostDocumentEntity(any(Person.class));
+        verify(documentEventPersistManager).firePreBatch(Mockito.anyList());
+        verify(documentEventPersistManager).firePostBatch(Mockito.anyList());
+        verify(documentEventPersistManager, never()).firePreDocument(any(DocumentEntity.class));
     }
 
     @Test
-    public void shouldUpdateEntities() {
-        DocumentEntity documentEntity = DocumentEntity.of("Person");
-        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+    public void shouldInsertEntitiesInBatches() {
+        System.setProperty("artemis.batch.size", "2");
+
+        subject.insert(Arrays.asList(person, person, person));
+        ArgumentCaptor<Iterable> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).insert(batches.capture());
+        assertEquals(2, ((List<?>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<?>) batches.getAllValues().get(1)).size());
+        verify(documentEventPersistManager, times(2)).firePreBatch(Mockito.anyList());
+    }
 
-        Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+    @Test
+    public void shouldDeferTheWritesToTheWriteBehindBuffer() {
+        System.setProperty("artemis.writeBehind.size", "10");
+
+        subject.insert(person);
+        subject.update(person);
+        verify(managerMock, never()).insert(any(DocumentEntity.class));
+        verify(managerMock, never()).insert(Mockito.<Iterable<DocumentEntity>>any());
+
+        subject.flush();
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock).insert(batch.capture());
+        assertEquals(1, ((List<?>) batch.getValue()).size());
+        verify(managerMock, never()).update(Mockito.<Iterable<DocumentEntity>>any());
+    }
 
-        subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+    @Test
+    public void shouldFlushTheWriteBehindBufferBeforeTheBulkWrites() {
+        System.setProperty("artemis.writeBehind.size", "10");
+
+        subject.update(person);
+        subject.insert(singletonList(person));
+
+        InOrder inOrder = Mockito.inOrder(managerMock);
+        inOrder.verify(managerMock).update(Mockito.<Iterable<DocumentEntity>>any());
+        inOrder.verify(managerMock).insert(Mockito.<Iterable<DocumentEntity>>any());
     }
 
+    @Test
+    public void shouldUpdateEntities() {
+        subject.update(Arrays.asList(person, person));
+        verify(managerMock).update(Mockito.<Iterable<DocumentEntity>>any());
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+    }
 
     @Test
     public void shouldDelete() {
@@ -243,6 +289,24 @@ public class DefaultDocumentTemplateTest {
         assertTrue(result.isPresent());
     }
 
+    @Test
+    public void shouldLimitTheSingleResultQuery() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .select(any(DocumentQuery.class)))
+                .thenReturn(singletonList(documentEntity));
+
+        DocumentQuery query = select().from("person").build();
+        subject.singleResult(query);
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(2L, queryCaptor.getValue().getLimit());
+        assertEquals("person", queryCaptor.getValue().getDocumentCollection());
+    }
+
     @Test
     public void shouldReturnSingleResultIsEmpty() {
         Mockito.when(managerMock
@@ -341,6 +405,62 @@ public class DefaultDocumentTemplateTest {
         assertEquals("Person", query.getDocumentCollection());
     }
 
+    @Test
+    public void shouldReturnErrorWhenThePreparedStatementIsNotBound() {
+        PreparedStatement preparedStatement = subject.prepare("select * from Person where name = @name");
+        Assertions.assertThrows(QueryException.class, preparedStatement::getResultList);
+        Assertions.assertThrows(QueryException.class, preparedStatement::getSingleResult);
+        verify(managerMock, never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldStreamPageByPage() {
+        DocumentEntity document = DocumentEntity.of("Person");
+        document.addAll(Stream.of(documents).collect(Collectors.toList()));
+        when(managerMock.select(any(DocumentQuery.class)))
+                .thenReturn(Arrays.asList(document, document), singletonList(document));
+
+        Stream<Person> people = subject.stream(select().from("Person").build(), 2);
+        verify(managerMock, never()).select(any(DocumentQuery.class));
+        assertEquals(3, people.count());
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, times(2)).select(queryCaptor.capture());
+        List<DocumentQuery> queries = queryCaptor.getAllValues();
+        assertEquals(0L, queries.get(0).getSkip());
+        assertEquals(2L, queries.get(0).getLimit());
+        assertEquals(2L, queries.get(1).getSkip());
+        assertEquals(2L, queries.get(1).getLimit());
+        verify(documentEventPersistManager, times(2)).firePreQuery(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldStopTheStreamWhenTheSkipIsIgnored() {
+        DocumentEntity document = DocumentEntity.of("Person");
+        document.addAll(Stream.of(documents).collect(Collectors.toList()));
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Arrays.asList(document, document));
+
+        Stream<Person> people = subject.stream(select().from("Person").build(), 2);
+        assertEquals(2, people.count());
+    }
+
+    @Test
+    public void shouldStreamProjection() {
+        DocumentEntity document = DocumentEntity.of("Person");
+        document.add(Document.of("name", "Name"));
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(document));
+
+        Stream<PersonName> names = subject.stream(select().from("Person").build(), PersonName.class);
+        verify(managerMock, never()).select(any(DocumentQuery.class));
+        assertEquals(singletonList("Name"), names.map(PersonName::getName).collect(Collectors.toList()));
+
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        assertEquals(singletonList("name"), queryCaptor.getValue().getDocuments());
+        assertEquals(0L, queryCaptor.getValue().getSkip());
+        assertEquals(100L, queryCaptor.getValue().getLimit());
+    }
+
     @Test
     public void shouldCount() {
         subject.count("Person");
@@ -353,5 +473,8 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).count("Person");
     }
 
+    interface PersonName {
 
-}
\ No newline at end of file
+        String getName();
+    }
+}
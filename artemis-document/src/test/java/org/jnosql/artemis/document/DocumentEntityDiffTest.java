@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentEntityDiffTest {
+
+    @Test
+    public void shouldReturnOnlyTheDocumentsChanged() {
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("name", "Ada"), Document.of("age", 36));
+        DocumentEntity entity = entity(Document.of("_id", 10L),
+                Document.of("name", "Ada Lovelace"), Document.of("age", 36));
+
+        Optional<DocumentEntity> changes = DocumentEntityDiff.of(snapshot, entity, "_id", false);
+        assertTrue(changes.isPresent());
+        assertEquals(Arrays.asList(Document.of("_id", 10L), Document.of("name", "Ada Lovelace")),
+                changes.get().getDocuments());
+    }
+
+    @Test
+    public void shouldReturnThePathOfTheSubDocumentChanged() {
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "London"), Document.of("zip", "NW1"))));
+        DocumentEntity entity = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "Paris"), Document.of("zip", "NW1"))));
+
+        Optional<DocumentEntity> changes = DocumentEntityDiff.of(snapshot, entity, "_id", true);
+        assertTrue(changes.isPresent());
+        assertEquals(Arrays.asList(Document.of("_id", 10L), Document.of("address.city", "Paris")),
+                changes.get().getDocuments());
+    }
+
+    @Test
+    public void shouldReturnTheWholeSubDocumentChanged() {
+        Document address = Document.of("address", Arrays.asList(Document.of("city", "Paris"),
+                Document.of("zip", "NW1")));
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "London"), Document.of("zip", "NW1"))));
+        DocumentEntity entity = entity(Document.of("_id", 10L), address);
+
+        Optional<DocumentEntity> changes = DocumentEntityDiff.of(snapshot, entity, "_id", false);
+        assertTrue(changes.isPresent());
+        assertEquals(Arrays.asList(Document.of("_id", 10L), address), changes.get().getDocuments());
+    }
+
+    @Test
+    public void shouldReturnTheWholeSubDocumentWhenOneOfItsDocumentsIsRemoved() {
+        Document address = Document.of("address", Arrays.asList(Document.of("city", "London")));
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "London"), Document.of("zip", "NW1"))));
+        DocumentEntity entity = entity(Document.of("_id", 10L), address);
+
+        Optional<DocumentEntity> changes = DocumentEntityDiff.of(snapshot, entity, "_id", false);
+        assertTrue(changes.isPresent());
+        assertEquals(Arrays.asList(Document.of("_id", 10L), address), changes.get().getDocuments());
+    }
+
+    @Test
+    public void shouldRequireTheWholeEntityWhenSubDocumentIsRemoved() {
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "London"), Document.of("zip", "NW1"))));
+        DocumentEntity entity = entity(Document.of("_id", 10L),
+                Document.of("address", Arrays.asList(Document.of("city", "London"))));
+        assertFalse(DocumentEntityDiff.of(snapshot, entity, "_id", true).isPresent());
+    }
+
+    @Test
+    public void shouldRequireTheWholeEntityWhenIdChanged() {
+        DocumentEntity snapshot = entity(Document.of("_id", 10L),
+                Document.of("name", "Ada"));
+        DocumentEntity entity = entity(Document.of("_id", 11L),
+                Document.of("name", "Ada"));
+        assertFalse(DocumentEntityDiff.of(snapshot, entity, "_id", false).isPresent());
+    }
+
+    private static DocumentEntity entity(Document... documents) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Arrays.asList(documents));
+        return entity;
+    }
+}
@@ -216,12 +216,12 @@ public class DocumentRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(Mockito.any(DocumentQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -482,10 +482,43 @@ public class DocumentRepositoryProxyTest {
         assertEquals(Document.of("age", 120), condition.getDocument());
     }
 
+    @Test
+    public void shouldFindASingleProjection() {
+        when(template.singleResult(any(DocumentQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Optional.of(() -> "Ada"));
+
+        PersonName name = personRepository.findByAgeGreaterThanEqual(20);
+        assertEquals("Ada", name.getName());
+        verify(template).singleResult(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+    }
+
+    @Test
+    public void shouldFindAnOptionalProjection() {
+        when(template.singleResult(any(DocumentQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Optional.empty());
+
+        Optional<PersonName> name = personRepository.findByNameAndAgeLessThan("Ada", 20);
+        assertFalse(name.isPresent());
+        verify(template).singleResult(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+    }
+
+    @Test
+    public void shouldStreamTheProjections() {
+        when(template.stream(any(DocumentQuery.class), Mockito.eq(PersonName.class)))
+                .thenReturn(Stream.<PersonName>of(() -> "Ada"));
+
+        Stream<PersonName> names = personRepository.findByNameAndAgeLessThanEqual("Ada", 20);
+        assertEquals(singletonList("Ada"), names.map(PersonName::getName).collect(Collectors.toList()));
+        verify(template).stream(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+        verify(template, Mockito.never()).select(any(DocumentQuery.class), Mockito.eq(PersonName.class));
+    }
+
     @Test
     public void shouldExecuteJNoSQLQuery() {
         personRepository.findByQuery();
-        verify(template).query("select * from Person");
+        verify(template).singleResult("select * from Person");
     }
 
     @Test
@@ -494,6 +527,7 @@ public class DocumentRepositoryProxyTest {
         when(template.prepare(Mockito.anyString())).thenReturn(statement);
         personRepository.findByQuery("Ada");
         verify(statement).bind("id", "Ada");
+        verify(statement).getSingleResult();
     }
 
     interface PersonRepository extends Repository<Person, Long> {
@@ -532,5 +566,16 @@ public class DocumentRepositoryProxyTest {
 
         @Query("select * from Person where id = @id")
         Optional<Person> findByQuery(@Param("id") String id);
+
+        PersonName findByAgeGreaterThanEqual(Integer age);
+
+        Optional<PersonName> findByNameAndAgeLessThan(String name, Integer age);
+
+        Stream<PersonName> findByNameAndAgeLessThanEqual(String name, Integer age);
+    }
+
+    interface PersonName {
+
+        String getName();
     }
 }
\ No newline at end of file
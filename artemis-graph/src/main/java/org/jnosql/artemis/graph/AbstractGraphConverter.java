@@ -24,18 +24,17 @@ import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.diana.api.Value;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -44,6 +43,7 @@ import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 
 abstract class AbstractGraphConverter implements GraphConverter {
 
+    private static final Set<FieldType> ELEMENT_TYPES = EnumSet.of(EMBEDDED);
 
     protected abstract ClassMappings getClassMappings();
 
@@ -164,7 +164,7 @@ abstract class AbstractGraphConverter implements GraphConverter {
 
                 fieldMapping.write(entity, fieldMapping.getValue(Value.of(attributeConverted)));
             } else {
-                fieldMapping.write(entity, fieldMapping.getValue(Value.of(vertexId)));
+                fieldMapping.writeValue(entity, Value.of(vertexId));
             }
 
         }
@@ -177,36 +177,14 @@ abstract class AbstractGraphConverter implements GraphConverter {
     }
 
     private <T> T convertEntity(List<Property> elements, ClassMapping mapping, T instance) {
-
-        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        List<String> names = elements.stream()
-                .map(Property::key)
-                .sorted()
-                .collect(toList());
-        Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
-
-        return instance;
-    }
-
-    private <T> Consumer<String> feedObject(T instance, List<Property> elements,
-                                            Map<String, FieldMapping> fieldsGroupByName) {
-        return k -> {
-            Optional<Property> element = elements
-                    .stream()
-                    .filter(c -> c.key().equals(k))
-                    .findFirst();
-
-            FieldMapping field = fieldsGroupByName.get(k);
+        mapping.getReadPlan().read(elements, Property::key, ELEMENT_TYPES, (field, element) -> {
             if (EMBEDDED.equals(field.getType())) {
                 setEmbeddedField(instance, elements, field);
             } else {
                 setSingleField(instance, element, field);
             }
-        };
+        });
+        return instance;
     }
 
     private <T> void setSingleField(T instance, Optional<Property> element, FieldMapping field) {
@@ -217,7 +195,7 @@ abstract class AbstractGraphConverter implements GraphConverter {
             Object attributeConverted = attributeConverter.convertToEntityAttribute(value);
             field.write(instance, field.getValue(Value.of(attributeConverted)));
         } else {
-            field.write(instance, field.getValue(Value.of(value)));
+            field.writeValue(instance, Value.of(value));
         }
     }
 
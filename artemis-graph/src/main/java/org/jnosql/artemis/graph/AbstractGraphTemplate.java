@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.cache.UnitOfWork;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
@@ -55,6 +56,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> INITIAL_EDGE =
             g -> (GraphTraversal<Vertex, Edge>) g;
 
+    private static final String VERTEX = "vertex";
 
     protected abstract Graph getGraph();
 
@@ -89,17 +91,22 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (isIdNull(entity)) {
             throw new NullPointerException("to update a graph id cannot be null");
         }
-        getVertex(entity).orElseThrow(() -> new EntityNotFoundException("Entity does not find in the update"));
+        Vertex vertex = getVertex(entity)
+                .orElseThrow(() -> new EntityNotFoundException("Entity does not find in the update"));
 
         UnaryOperator<Vertex> update = e -> getConverter().toVertex(entity);
-        return getFlow().flow(entity, update);
+        T updated = getFlow().flow(entity, update);
+        UnitOfWork.current().ifPresent(u -> u.refresh(getGraph(), VERTEX, vertex.id(), updated));
+        return updated;
     }
 
     @Override
     public <T> void delete(T idValue) {
         requireNonNull(idValue, "id is required");
         List<Vertex> vertices = getTraversal().V(idValue).toList();
+        List<Object> ids = vertices.stream().map(Vertex::id).collect(Collectors.toList());
         vertices.forEach(Vertex::remove);
+        UnitOfWork.current().ifPresent(u -> ids.forEach(i -> u.remove(getGraph(), VERTEX, i)));
 
     }
 
@@ -113,8 +120,25 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T, ID> Optional<T> find(ID idValue) {
         requireNonNull(idValue, "id is required");
+        Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+        if (unitOfWork.isPresent()) {
+            Optional<T> entity = unitOfWork.get().get(getGraph(), VERTEX, idValue);
+            if (entity.isPresent()) {
+                return entity;
+            }
+        }
         Optional<Vertex> vertex = getTraversal().V(idValue).tryNext();
-        return vertex.map(getConverter()::toEntity);
+        if (!unitOfWork.isPresent() || !vertex.isPresent()) {
+            return vertex.map(getConverter()::toEntity);
+        }
+        // the identity map is keyed by the id of the vertex, so an id of another type finds the same entity
+        Object vertexId = vertex.get().id();
+        Optional<T> registered = unitOfWork.get().get(getGraph(), VERTEX, vertexId);
+        if (registered.isPresent()) {
+            return registered;
+        }
+        T entity = getConverter().toEntity(vertex.get());
+        return Optional.of(unitOfWork.get().register(getGraph(), VERTEX, vertexId, entity));
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.hamcrest.Matchers;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.cache.UnitOfWork;
 import org.jnosql.artemis.graph.model.Animal;
 import org.jnosql.artemis.graph.model.Book;
 import org.jnosql.artemis.graph.model.Person;
@@ -43,6 +44,7 @@ import static org.jnosql.artemis.graph.model.Person.builder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,6 +125,38 @@ public abstract class AbstractGraphTemplateTest {
     }
 
 
+    @Test
+    public void shouldKeepTheIdentityAfterUpdateInUnitOfWork() {
+        Person person = getGraphTemplate().insert(builder().withAge().withName("Otavio").build());
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            getGraphTemplate().find(person.getId());
+            Person update = getGraphTemplate().update(builder().withAge()
+                    .withId(person.getId())
+                    .withName("Otavio Updated").build());
+
+            Optional<Person> found = getGraphTemplate().find(person.getId());
+            assertSame(update, found.get());
+        }
+        getGraphTemplate().delete(person.getId());
+    }
+
+    @Test
+    public void shouldKeepTheIdentityWhenTheIdTypeDiffers() {
+        Person person = getGraphTemplate().insert(builder().withAge().withName("Otavio").build());
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            getGraphTemplate().find(person.getId().intValue());
+            Person update = getGraphTemplate().update(builder().withAge()
+                    .withId(person.getId())
+                    .withName("Otavio Updated").build());
+
+            assertSame(update, getGraphTemplate().<Person, Long>find(person.getId()).get());
+            assertSame(update, getGraphTemplate().<Person, Integer>find(person.getId().intValue()).get());
+
+            getGraphTemplate().delete(person.getId().intValue());
+            assertFalse(getGraphTemplate().find(person.getId()).isPresent());
+        }
+    }
+
     @Test
     public void shouldReturnErrorInFindWhenIdIsNull() {
         assertThrows(NullPointerException.class, () -> getGraphTemplate().find(null));
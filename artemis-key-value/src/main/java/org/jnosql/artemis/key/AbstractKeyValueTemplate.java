@@ -16,6 +16,7 @@ package org.jnosql.artemis.key;
 
 
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.util.Batches;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
@@ -70,6 +71,25 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return getFlow().flow(entity, putAction);
     }
 
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return Batches.apply(entities, batch -> getFlow().flowBatch(batch, k -> {
+            getManager().put(cast(k));
+            return k;
+        }));
+    }
+
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return Batches.apply(entities, batch -> getFlow().flowBatch(batch, k -> {
+            getManager().put(cast(k), ttl);
+            return k;
+        }));
+    }
+
     @Override
     public <K, T> Optional<T> get(K key, Class<T> entityClass) {
         requireNonNull(key, "key is required");
@@ -138,4 +158,9 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return new org.jnosql.artemis.key.KeyValuePreparedStatement(getManager().prepare(query), entityClass);
     }
 
+    @SuppressWarnings("unchecked")
+    private static Iterable<KeyValueEntity<Object>> cast(List<KeyValueEntity<?>> entities) {
+        return (Iterable<KeyValueEntity<Object>>) (Iterable<?>) entities;
+    }
+
 }
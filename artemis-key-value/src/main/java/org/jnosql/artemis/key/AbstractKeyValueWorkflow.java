@@ -16,6 +16,8 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -37,6 +39,35 @@ public abstract class AbstractKeyValueWorkflow implements KeyValueWorkflow {
 
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> flowBatch(List<T> entities, UnaryOperator<List<KeyValueEntity<?>>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<KeyValueEntity<?>> batch = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getEventPersistManager().firePreEntity(entity);
+            getEventPersistManager().firePreKeyValueEntity(entity);
+            batch.add(getConverter().toKeyValue(entity));
+        }
+        getEventPersistManager().firePreBatch(batch);
+        // the drivers that do not return the entities saved keep the ones sent
+        List<KeyValueEntity<?>> response = action.apply(batch);
+        List<KeyValueEntity<?>> result = response == null || response.size() != batch.size() ? batch : response;
+        getEventPersistManager().firePostBatch(result);
+
+        List<T> converted = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            T entity = getConverter().toEntity((Class<T>) entities.get(index).getClass(), result.get(index));
+            getEventPersistManager().firePostEntity(entity);
+            getEventPersistManager().firePostKeyValueEntity(entity);
+            converted.add(entity);
+        }
+        return converted;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -21,6 +21,7 @@ import org.jnosql.diana.api.key.KeyValueEntity;
 
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.List;
 
 class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager {
 
@@ -42,6 +43,12 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     @Inject
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Inject
+    private Event<KeyValueBatchPrePersist> keyValueBatchPrePersistEvent;
+
+    @Inject
+    private Event<KeyValueBatchPostPersist> keyValueBatchPostPersistEvent;
+
 
     @Override
     public void firePreKeyValue(KeyValueEntity<?> entity) {
@@ -72,4 +79,14 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     public <T> void firePostKeyValueEntity(T entity) {
         entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
     }
+
+    @Override
+    public void firePreBatch(List<KeyValueEntity<?>> entities) {
+        keyValueBatchPrePersistEvent.fire(KeyValueBatchPrePersist.of(entities));
+    }
+
+    @Override
+    public void firePostBatch(List<KeyValueEntity<?>> entities) {
+        keyValueBatchPostPersistEvent.fire(KeyValueBatchPostPersist.of(entities));
+    }
 }
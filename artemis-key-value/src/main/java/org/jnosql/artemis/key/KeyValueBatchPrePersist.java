@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The interface represents the batch of {@link KeyValueEntity} sent to the database at once, before it is saved.
+ */
+public interface KeyValueBatchPrePersist {
+
+    /**
+     * The {@link KeyValueEntity} batch before be saved
+     *
+     * @return the {@link KeyValueEntity} instances
+     */
+    List<KeyValueEntity<?>> getEntities();
+
+    /**
+     * Creates the {@link KeyValueBatchPrePersist} instance
+     *
+     * @param entities the entities
+     * @return {@link KeyValueBatchPrePersist} instance
+     * @throws NullPointerException when the entities is null
+     */
+    static KeyValueBatchPrePersist of(List<KeyValueEntity<?>> entities) {
+        Objects.requireNonNull(entities, "Entities is required");
+        return new DefaultKeyValueBatchPrePersist(entities);
+    }
+}
@@ -17,6 +17,8 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.List;
+
 /**
  * This interface represent the manager of events. When an entity be either saved or updated an event will be fired. This order gonna be:
  * 1) firePreKeyValue
@@ -78,5 +80,26 @@ public interface KeyValueEventPersistManager {
      */
     <T> void firePostKeyValueEntity(T entity);
 
+    /**
+     * Fire an event after the conversion of a batch of entities, that is sent to the database at once,
+     * instead of {@link KeyValueEventPersistManager#firePreKeyValue(KeyValueEntity)} to each one of them.
+     * By default, it fires that event to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePreBatch(List<KeyValueEntity<?>> entities) {
+        entities.forEach(this::firePreKeyValue);
+    }
+
+    /**
+     * Fire an event after the response from communication layer to a batch of entities. By default, it fires
+     * {@link KeyValueEventPersistManager#firePostKeyValue(KeyValueEntity)} to each entity.
+     *
+     * @param entities the entities
+     */
+    default void firePostBatch(List<KeyValueEntity<?>> entities) {
+        entities.forEach(this::firePostKeyValue);
+    }
+
 }
 
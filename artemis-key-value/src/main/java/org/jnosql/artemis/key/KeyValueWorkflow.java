@@ -17,6 +17,10 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 /**
@@ -44,4 +48,32 @@ public interface KeyValueWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<KeyValueEntity<?>> action);
+
+    /**
+     * Executes the workflow to a batch of entities that is sent to the database at once. The events to the entity,
+     * {@link KeyValueEventPersistManager#firePreEntity(Object)} and
+     * {@link KeyValueEventPersistManager#firePostEntity(Object)}, are fired to each entity,
+     * and the events to the database model are fired once to the whole batch. By default, it executes
+     * {@link KeyValueWorkflow#flow(Object, UnaryOperator)} to each entity, with a batch of one entity.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the entities response, in the same order
+     * @throws NullPointerException when either entities, one of them or action is null
+     * @see KeyValueTemplate#put(Iterable)
+     */
+    default <T> List<T> flowBatch(List<T> entities, UnaryOperator<List<KeyValueEntity<?>>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            result.add(flow(entity, e -> {
+                List<KeyValueEntity<?>> response = action.apply(Collections.singletonList(e));
+                return response == null || response.size() != 1 ? e : response.get(0);
+            }));
+        }
+        return result;
+    }
 }
@@ -92,8 +92,9 @@ public class DefaultKeyValueTemplateTest {
     public void shouldPutIterable() {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user));
-        Mockito.verify(manager).put(captor.capture());
-        KeyValueEntity entity = captor.getValue();
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(manager).put(batch.capture());
+        KeyValueEntity entity = (KeyValueEntity) batch.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue().get());
     }
@@ -118,8 +119,9 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user), duration);
 
-        Mockito.verify(manager).put(captor.capture(), Mockito.eq(duration));
-        KeyValueEntity entity = captor.getValue();
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(manager).put(batch.capture(), Mockito.eq(duration));
+        KeyValueEntity entity = (KeyValueEntity) batch.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue().get());
     }
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor that generates, at build time, an {@link org.jnosql.artemis.reflection.ClassAccessor}
+ * to each class annotated with either Entity, Embeddable or MappedSuperclass and then registers them
+ * into META-INF/services, so Artemis neither scans the accessors with reflection nor compiles them at runtime.
+ * It also writes the GraalVM native image configuration to these classes and to the repository interfaces,
+ * the directory of this configuration can be defined with the option artemis.native.project.
+ *
+ * @see NativeImageConfig
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ClassAccessorProcessor.NATIVE_PROJECT)
+public class ClassAccessorProcessor extends AbstractProcessor {
+
+    static final String ENTITY = "org.jnosql.artemis.Entity";
+
+    static final String EMBEDDABLE = "org.jnosql.artemis.Embeddable";
+
+    static final String MAPPED_SUPERCLASS = "org.jnosql.artemis.MappedSuperclass";
+
+    static final String NATIVE_PROJECT = "artemis.native.project";
+
+    private static final String DEFAULT_NATIVE_PROJECT = "artemis";
+
+    private static final List<String> ANNOTATIONS = Arrays.asList(ENTITY, EMBEDDABLE, MAPPED_SUPERCLASS);
+
+    private static final List<String> REPOSITORIES = Arrays.asList("org.jnosql.artemis.Repository",
+            "org.jnosql.artemis.RepositoryAsync");
+
+    private static final String CONVERT = "org.jnosql.artemis.Convert";
+
+    private static final String SERVICE = "META-INF/services/org.jnosql.artemis.reflection.ClassAccessor";
+
+    private final List<String> accessors = new ArrayList<>();
+
+    private final NativeImageConfig nativeImageConfig = new NativeImageConfig();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        Elements elements = processingEnv.getElementUtils();
+        for (String annotationName : ANNOTATIONS) {
+            TypeElement annotation = elements.getTypeElement(annotationName);
+            if (annotation == null) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isSupported(element)) {
+                    generate((TypeElement) element);
+                }
+                if (element instanceof TypeElement) {
+                    addEntity((TypeElement) element);
+                }
+            }
+        }
+
+        List<TypeMirror> repositories = REPOSITORIES.stream().map(elements::getTypeElement)
+                .filter(Objects::nonNull)
+                .map(e -> processingEnv.getTypeUtils().erasure(e.asType()))
+                .collect(Collectors.toList());
+        if (!repositories.isEmpty()) {
+            ElementFilter.typesIn(roundEnv.getRootElements()).forEach(t -> addRepositories(t, repositories));
+        }
+
+        if (roundEnv.processingOver()) {
+            if (!accessors.isEmpty()) {
+                writeService();
+            }
+            if (!nativeImageConfig.isEmpty()) {
+                writeNativeImageConfig();
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupported(Element element) {
+        if (!ElementKind.CLASS.equals(element.getKind())) {
+            return false;
+        }
+        for (Element type = element; type instanceof TypeElement; type = type.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement element) {
+        ClassAccessorSource source = new ClassAccessorSource(element, processingEnv);
+        if (accessors.contains(source.getName())) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(source.getName(), element);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.getJavaSource());
+            }
+            accessors.add(source.getName());
+            nativeImageConfig.addConstructors(source.getName());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "It cannot generate the class accessor to " + element + ": " + e.getMessage(), element);
+        }
+    }
+
+    private void writeService() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (Writer writer = file.openWriter()) {
+                for (String accessor : accessors) {
+                    writer.write(accessor);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "It cannot write the file " + SERVICE + ": " + e.getMessage());
+        }
+    }
+
+    private void addEntity(TypeElement element) {
+        Elements elements = processingEnv.getElementUtils();
+        nativeImageConfig.addEntity(elements.getBinaryName(element).toString());
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                if (!CONVERT.equals(((TypeElement) annotation.getAnnotationType().asElement())
+                        .getQualifiedName().toString())) {
+                    continue;
+                }
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    Object value = entry.getValue().getValue();
+                    if (value instanceof DeclaredType) {
+                        TypeElement converter = (TypeElement) ((DeclaredType) value).asElement();
+                        nativeImageConfig.addConstructors(elements.getBinaryName(converter).toString());
+                    }
+                }
+            }
+        }
+    }
+
+    private void addRepositories(TypeElement element, List<TypeMirror> repositories) {
+        Types types = processingEnv.getTypeUtils();
+        if (ElementKind.INTERFACE.equals(element.getKind())) {
+            TypeMirror type = types.erasure(element.asType());
+            boolean isRepository = repositories.stream()
+                    .anyMatch(r -> !types.isSameType(r, type) && types.isAssignable(type, r));
+            if (isRepository) {
+                nativeImageConfig.addRepository(processingEnv.getElementUtils().getBinaryName(element).toString());
+            }
+        }
+        ElementFilter.typesIn(element.getEnclosedElements()).forEach(t -> addRepositories(t, repositories));
+    }
+
+    private void writeNativeImageConfig() {
+        String project = processingEnv.getOptions().getOrDefault(NATIVE_PROJECT, DEFAULT_NATIVE_PROJECT);
+        try {
+            nativeImageConfig.write(processingEnv.getFiler(), project);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "It cannot write the native image configuration: " + e.getMessage());
+        }
+    }
+}
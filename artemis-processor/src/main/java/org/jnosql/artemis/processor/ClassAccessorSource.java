@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The Java source of the {@link org.jnosql.artemis.reflection.ClassAccessor} from a class.
+ * It uses the getter and setter methods or the field itself when they are visible from the class package,
+ * the fields that are not visible are left to the {@link org.jnosql.artemis.reflection.ClassOperation} at runtime.
+ */
+final class ClassAccessorSource {
+
+    private static final String TEMPLATE = read("ClassAccessor.template");
+
+    private static final String SUFFIX = "$$ClassAccessor";
+
+    private static final String COLUMN = "org.jnosql.artemis.Column";
+
+    private static final String ID = "org.jnosql.artemis.Id";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement element;
+
+    private final PackageElement packageElement;
+
+    private final String entity;
+
+    private final String name;
+
+    private final String javaSource;
+
+    ClassAccessorSource(TypeElement element, ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.element = element;
+        this.packageElement = elements.getPackageOf(element);
+        this.entity = element.getQualifiedName().toString();
+
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(element).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+        this.name = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        String packageStatement = packageName.isEmpty() ? "" : "package " + packageName + ';';
+        this.javaSource = MessageFormat.format(TEMPLATE, packageStatement, simpleName, entity, getAccessors(),
+                getInstanceSupplier());
+    }
+
+    /**
+     * @return the {@link Class#getName()} to the class generated
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the java source code
+     */
+    String getJavaSource() {
+        return javaSource;
+    }
+
+    private String getAccessors() {
+        StringBuilder accessors = new StringBuilder();
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || !isMapped(field)) {
+                continue;
+            }
+            String fieldName = field.getSimpleName().toString();
+            Optional<String> primitive = getPrimitive(field);
+            getReader(field).ifPresent(r -> accessors.append("        readers.put(\"").append(fieldName).append("\", ")
+                    .append(primitive.map(p -> getPrimitiveReader(p, r)).orElse("bean -> " + r)).append(");\n"));
+            getWriter(field, false).ifPresent(w -> accessors.append("        writers.put(\"").append(fieldName)
+                    .append("\", ").append(primitive.map(p -> getPrimitiveWriter(p, w, getWriter(field, true).get()))
+                            .orElse("(bean, value) -> " + w)).append(");\n"));
+        }
+        return accessors.toString();
+    }
+
+    /**
+     * The int, long, double and boolean fields also override the typed read, so it does not box the value
+     */
+    private static String getPrimitiveReader(String primitive, String reader) {
+        return "new org.jnosql.artemis.reflection.FieldReader() {\n"
+                + "            @Override\n"
+                + "            public java.lang.Object read(java.lang.Object bean) {\n"
+                + "                return " + reader + ";\n"
+                + "            }\n\n"
+                + "            @Override\n"
+                + "            public " + primitive + " read" + capitalize(primitive) + "(java.lang.Object bean) {\n"
+                + "                return " + reader + ";\n"
+                + "            }\n"
+                + "        }";
+    }
+
+    /**
+     * The int, long, double and boolean fields also override the typed write, so it does not box the value
+     */
+    private static String getPrimitiveWriter(String primitive, String writer, String primitiveWriter) {
+        return "new org.jnosql.artemis.reflection.FieldWriter() {\n"
+                + "            @Override\n"
+                + "            public void write(java.lang.Object bean, java.lang.Object value) {\n"
+                + "                " + writer + ";\n"
+                + "            }\n\n"
+                + "            @Override\n"
+                + "            public void write" + capitalize(primitive) + "(java.lang.Object bean, " + primitive
+                + " value) {\n"
+                + "                " + primitiveWriter + ";\n"
+                + "            }\n"
+                + "        }";
+    }
+
+    private static Optional<String> getPrimitive(VariableElement field) {
+        TypeKind kind = field.asType().getKind();
+        switch (kind) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BOOLEAN:
+                return Optional.of(kind.name().toLowerCase(Locale.ENGLISH));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<String> getReader(VariableElement field) {
+        String capitalized = capitalize(field.getSimpleName().toString());
+        boolean isBoolean = TypeKind.BOOLEAN.equals(field.asType().getKind());
+        TypeMirror fieldType = types.erasure(field.asType());
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(element));
+        for (ExecutableElement method : methods) {
+            String methodName = method.getSimpleName().toString();
+            boolean isGetter = methodName.equals("get" + capitalized) || (isBoolean && methodName.equals("is" + capitalized));
+            if (isGetter && method.getParameters().isEmpty()
+                    && types.isSameType(fieldType, types.erasure(method.getReturnType()))
+                    && isAccessible(method)) {
+                return Optional.of(getBean() + '.' + methodName + "()");
+            }
+        }
+        if (isAccessible(field)) {
+            return Optional.of(getBean() + '.' + field.getSimpleName());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> getWriter(VariableElement field, boolean isPrimitive) {
+        String methodName = "set" + capitalize(field.getSimpleName().toString());
+        TypeMirror fieldType = types.erasure(field.asType());
+        String value = isPrimitive ? "value" : "(" + getCast(fieldType) + ") value";
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(element));
+        for (ExecutableElement method : methods) {
+            if (methodName.equals(method.getSimpleName().toString()) && method.getParameters().size() == 1
+                    && types.isSameType(fieldType, types.erasure(method.getParameters().get(0).asType()))
+                    && isAccessible(method)) {
+                return Optional.of(getBean() + '.' + methodName + '(' + value + ')');
+            }
+        }
+        if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.of(getBean() + '.' + field.getSimpleName() + " = " + value);
+        }
+        return Optional.empty();
+    }
+
+    private String getInstanceSupplier() {
+        boolean isInnerClass = !NestingKind.TOP_LEVEL.equals(element.getNestingKind())
+                && !element.getModifiers().contains(Modifier.STATIC);
+        if (element.getModifiers().contains(Modifier.ABSTRACT) || isInnerClass) {
+            return "java.util.Optional.empty()";
+        }
+        boolean hasConstructor = ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        if (hasConstructor) {
+            return "java.util.Optional.<org.jnosql.artemis.reflection.InstanceSupplier>of(" + entity + "::new)";
+        }
+        return "java.util.Optional.empty()";
+    }
+
+    private boolean isMapped(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement())
+                    .getQualifiedName().toString();
+            if (COLUMN.equals(annotationName) || ID.equals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(Element member) {
+        if (member.getModifiers().contains(Modifier.STATIC) || member.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return member.getModifiers().contains(Modifier.PUBLIC)
+                || packageElement.equals(elements.getPackageOf(member));
+    }
+
+    private String getCast(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String getBean() {
+        return "((" + entity + ") bean)";
+    }
+
+    private static String capitalize(String fieldName) {
+        return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+
+    private static String read(String file) {
+        InputStream stream = ClassAccessorSource.class.getClassLoader().getResourceAsStream(file);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("An error to load from the file: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The GraalVM native image configuration from the classes found by the {@link ClassAccessorProcessor}:
+ * the reflect-config.json with the entities, the attribute converters, the class accessors and the repositories,
+ * and the proxy-config.json with the repositories, that are implemented with {@link java.lang.reflect.Proxy}.
+ * The files are written at META-INF/native-image, where the native-image tool reads them from the classpath.
+ */
+final class NativeImageConfig {
+
+    static final String DIRECTORY = "META-INF/native-image/org.jnosql.artemis/";
+
+    static final String REFLECT_CONFIG = "reflect-config.json";
+
+    static final String PROXY_CONFIG = "proxy-config.json";
+
+    private static final String ENTITY = "\"allDeclaredConstructors\": true, \"allDeclaredFields\": true, "
+            + "\"allDeclaredMethods\": true";
+
+    private static final String CONSTRUCTORS = "\"allDeclaredConstructors\": true";
+
+    private static final String METHODS = "\"allPublicMethods\": true";
+
+    private final Map<String, String> classes = new TreeMap<>();
+
+    private final Set<String> proxies = new TreeSet<>();
+
+    void addEntity(String name) {
+        classes.put(name, ENTITY);
+    }
+
+    void addConstructors(String name) {
+        classes.putIfAbsent(name, CONSTRUCTORS);
+    }
+
+    void addRepository(String name) {
+        classes.putIfAbsent(name, METHODS);
+        proxies.add(name);
+    }
+
+    boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    /**
+     * Writes the configuration files
+     *
+     * @param filer   the filer
+     * @param project the directory name within META-INF/native-image/org.jnosql.artemis
+     * @throws IOException when there is an error to write the files
+     */
+    void write(Filer filer, String project) throws IOException {
+        StringBuilder reflection = new StringBuilder("[\n");
+        String separator = "";
+        for (Map.Entry<String, String> entry : classes.entrySet()) {
+            reflection.append(separator).append("  {\"name\": \"").append(entry.getKey()).append("\", ")
+                    .append(entry.getValue()).append('}');
+            separator = ",\n";
+        }
+        reflection.append("\n]\n");
+
+        StringBuilder proxy = new StringBuilder("[\n");
+        separator = "";
+        for (String name : proxies) {
+            proxy.append(separator).append("  [\"").append(name).append("\"]");
+            separator = ",\n";
+        }
+        proxy.append("\n]\n");
+
+        write(filer, DIRECTORY + project + '/' + REFLECT_CONFIG, reflection.toString());
+        write(filer, DIRECTORY + project + '/' + PROXY_CONFIG, proxy.toString());
+    }
+
+    private void write(Filer filer, String name, String content) throws IOException {
+        FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", name);
+        try (Writer writer = file.openWriter()) {
+            writer.write(content);
+        }
+    }
+}
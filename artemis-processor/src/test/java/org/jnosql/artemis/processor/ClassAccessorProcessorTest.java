@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.ClassAccessor;
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.util.Collections.singletonList;
+
+class ClassAccessorProcessorTest {
+
+    private static final String ANIMAL = "package org.jnosql.artemis.processor.model;\n" +
+            "import org.jnosql.artemis.Column;\n" +
+            "import org.jnosql.artemis.Entity;\n" +
+            "import org.jnosql.artemis.Id;\n" +
+            "@Entity\n" +
+            "public class Animal {\n" +
+            "    @Id private long id;\n" +
+            "    @Column String name;\n" +
+            "    @Column private boolean wild;\n" +
+            "    @Column private String secret = \"secret\";\n" +
+            "    @Column String sound = \"roar\";\n" +
+            "    public long getId() { return id; }\n" +
+            "    public void setId(long id) { this.id = id; }\n" +
+            "    public boolean isWild() { return wild; }\n" +
+            "    public void setWild(boolean wild) { this.wild = wild; }\n" +
+            "    public int getSound() { return sound.length(); }\n" +
+            "}\n";
+
+    private static final String ANIMAL_REPOSITORY = "package org.jnosql.artemis.processor.model;\n" +
+            "import org.jnosql.artemis.Repository;\n" +
+            "public interface AnimalRepository extends Repository<Animal, Long> {\n" +
+            "    interface Zoo extends Repository<Animal, Long> {\n" +
+            "    }\n" +
+            "}\n";
+
+    private Path source;
+
+    private Path output;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        source = Files.createTempDirectory("source");
+        output = Files.createTempDirectory("output");
+    }
+
+    @Test
+    public void shouldGenerateClassAccessor() throws Exception {
+        ClassAccessor accessor = compile();
+        Object animal = accessor.getInstanceSupplier().get().get();
+        Assertions.assertEquals("org.jnosql.artemis.processor.model.Animal", animal.getClass().getName());
+
+        accessor.getWriter("id").get().write(animal, 10L);
+        accessor.getWriter("name").get().write(animal, "lion");
+        accessor.getWriter("wild").get().write(animal, true);
+
+        Assertions.assertEquals(10L, accessor.getReader("id").get().read(animal));
+        Assertions.assertEquals("lion", accessor.getReader("name").get().read(animal));
+        Assertions.assertEquals(true, accessor.getReader("wild").get().read(animal));
+    }
+
+    @Test
+    public void shouldReadAndWritePrimitiveWithoutBoxing() throws Exception {
+        ClassAccessor accessor = compile();
+        Object animal = accessor.getInstanceSupplier().get().get();
+        FieldReader reader = accessor.getReader("id").get();
+        FieldWriter writer = accessor.getWriter("id").get();
+        Assertions.assertNotNull(reader.getClass().getDeclaredMethod("readLong", Object.class));
+        Assertions.assertNotNull(writer.getClass().getDeclaredMethod("writeLong", Object.class, long.class));
+
+        writer.writeLong(animal, 10L);
+        accessor.getWriter("wild").get().writeBoolean(animal, true);
+        Assertions.assertEquals(10L, reader.readLong(animal));
+        Assertions.assertTrue(accessor.getReader("wild").get().readBoolean(animal));
+        Assertions.assertEquals(10L, reader.read(animal));
+    }
+
+    @Test
+    public void shouldNotUseGetterWithAnotherType() throws Exception {
+        ClassAccessor accessor = compile();
+        Object animal = accessor.getInstanceSupplier().get().get();
+        Assertions.assertEquals("roar", accessor.getReader("sound").get().read(animal));
+    }
+
+    @Test
+    public void shouldNotGenerateWhenFieldIsNotVisible() throws Exception {
+        ClassAccessor accessor = compile();
+        Assertions.assertFalse(accessor.getReader("secret").isPresent());
+        Assertions.assertFalse(accessor.getWriter("secret").isPresent());
+    }
+
+    @Test
+    public void shouldRegisterClassAccessor() throws IOException {
+        compile();
+        Path service = output.resolve("META-INF/services/org.jnosql.artemis.reflection.ClassAccessor");
+        List<String> lines = Files.readAllLines(service, StandardCharsets.UTF_8);
+        Assertions.assertEquals(singletonList("org.jnosql.artemis.processor.model.Animal$$ClassAccessor"), lines);
+    }
+
+    @Test
+    public void shouldWriteReflectionConfig() throws IOException {
+        compile();
+        String config = read(NativeImageConfig.REFLECT_CONFIG);
+        Assertions.assertTrue(config.contains("{\"name\": \"org.jnosql.artemis.processor.model.Animal\", " +
+                "\"allDeclaredConstructors\": true, \"allDeclaredFields\": true, \"allDeclaredMethods\": true}"));
+        Assertions.assertTrue(config.contains("{\"name\": \"org.jnosql.artemis.processor.model.Animal$$ClassAccessor\", " +
+                "\"allDeclaredConstructors\": true}"));
+        Assertions.assertTrue(config.contains("{\"name\": \"org.jnosql.artemis.processor.model.AnimalRepository\", " +
+                "\"allPublicMethods\": true}"));
+    }
+
+    @Test
+    public void shouldWriteProxyConfig() throws IOException {
+        compile();
+        String config = read(NativeImageConfig.PROXY_CONFIG);
+        Assertions.assertEquals("[\n  [\"org.jnosql.artemis.processor.model.AnimalRepository\"],\n" +
+                "  [\"org.jnosql.artemis.processor.model.AnimalRepository$Zoo\"]\n]\n", config);
+    }
+
+    private String read(String config) throws IOException {
+        Path file = output.resolve(NativeImageConfig.DIRECTORY + "artemis/" + config);
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private ClassAccessor compile() throws IOException {
+        Path file = source.resolve("Animal.java");
+        Files.write(file, ANIMAL.getBytes(StandardCharsets.UTF_8));
+        Path repository = source.resolve("AnimalRepository.java");
+        Files.write(repository, ANIMAL_REPOSITORY.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(file.toFile(), repository.toFile());
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(singletonList(new ClassAccessorProcessor()));
+            Assertions.assertTrue(task.call());
+        }
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                ClassAccessorProcessorTest.class.getClassLoader());
+        List<ClassAccessor> accessors = StreamSupport
+                .stream(ServiceLoader.load(ClassAccessor.class, classLoader).spliterator(), false)
+                .filter(a -> a.getClass().getClassLoader() == classLoader)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(1, accessors.size());
+        return accessors.get(0);
+    }
+}